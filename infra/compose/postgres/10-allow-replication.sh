@@ -0,0 +1,4 @@
+#!/bin/bash
+set -euo pipefail
+
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,15 @@
+#!/bin/bash
+set -euo pipefail
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+  until pg_isready -h postgres -p 5433 -U "$POSTGRES_USER"; do
+    sleep 1
+  done
+  mkdir -p "$PGDATA"
+  chown postgres:postgres "$PGDATA"
+  chmod 700 "$PGDATA"
+  gosu postgres env PGPASSWORD="$POSTGRES_PASSWORD" \
+    pg_basebackup -h postgres -p 5433 -U "$POSTGRES_USER" -D "$PGDATA" -R -X stream
+fi
+
+exec gosu postgres postgres -D "$PGDATA" -p 5434
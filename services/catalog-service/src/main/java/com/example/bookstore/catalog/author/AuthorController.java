@@ -7,6 +7,7 @@ import com.example.bookstore.catalog.author.service.AuthorService;
 import com.example.bookstore.catalog.common.ApiMediaType;
 import com.example.bookstore.catalog.common.PageResponse;
 import com.example.bookstore.catalog.common.PageResponseMeta;
+import com.example.bookstore.catalog.common.datasource.ReadRouting;
 import com.example.bookstore.catalog.common.error.PreconditionFailedException;
 import com.example.bookstore.catalog.common.etag.ETagHeaderSupport;
 import com.example.bookstore.catalog.common.etag.StrongETagGenerator;
@@ -33,6 +34,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 
 import java.net.URI;
 import java.util.Objects;
@@ -55,15 +57,20 @@ public class AuthorController {
     @PreAuthorize("hasAnyRole('ADMIN','STAFF')")
     public ResponseEntity<PageResponse<Author>> list(
             @RequestParam(name = "page[number]", defaultValue = "1") @Min(1) int pageNumber,
-            @RequestParam(name = "page[size]", defaultValue = "20") @Min(1) @Max(100) int pageSize) {
-
-        Pageable pageable = PageRequest.of(
-                pageNumber - 1,
-                pageSize,
-                Sort.by("updatedAt").ascending()
-        );
-
-        Page<Author> authors = authorService.list(pageable);
+            @RequestParam(name = "page[size]", defaultValue = "20") @Min(1) @Max(100) int pageSize,
+            @RequestParam(name = "filter[name]", required = false) @Size(max = 255) String nameFilter) {
+
+        Page<Author> authors;
+        if (nameFilter != null && !nameFilter.isBlank()) {
+            authors = authorService.search(nameFilter, PageRequest.of(pageNumber - 1, pageSize));
+        } else {
+            Pageable pageable = PageRequest.of(
+                    pageNumber - 1,
+                    pageSize,
+                    Sort.by("updatedAt").ascending()
+            );
+            authors = authorService.list(pageable);
+        }
         return ResponseEntity.ok()
                 .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
                 .body(mapToPageResponse(authors));
@@ -109,6 +116,10 @@ public class AuthorController {
     public ResponseEntity<Author> getById(@PathVariable UUID id,
                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Author author = authorService.requireById(id);
+        Long clientVersion = ETagHeaderSupport.extractVersion(ifNoneMatch, id);
+        if (clientVersion != null && clientVersion > author.metadata().version()) {
+            author = ReadRouting.onPrimary(() -> authorService.requireById(id));
+        }
         String eTag = eTagGenerator.generate(author.id(), author.metadata().version());
 
         if (ETagHeaderSupport.matches(ifNoneMatch, eTag)) {
@@ -0,0 +1,60 @@
+package com.example.bookstore.catalog.author;
+
+import com.example.bookstore.catalog.author.api.AuthorResolutionResponse;
+import com.example.bookstore.catalog.author.domain.Author;
+import com.example.bookstore.catalog.author.domain.AuthorResolution;
+import com.example.bookstore.catalog.author.domain.AuthorResolutionRequest;
+import com.example.bookstore.catalog.author.service.AuthorService;
+import com.example.bookstore.catalog.common.ApiMediaType;
+import com.example.bookstore.catalog.common.etag.StrongETagGenerator;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+@RequestMapping(value = "/api/author-resolutions", produces = ApiMediaType.V1_JSON)
+@Validated
+public class AuthorResolutionController {
+
+    private final AuthorService authorService;
+    private final StrongETagGenerator eTagGenerator;
+
+    public AuthorResolutionController(@NonNull AuthorService authorService,
+                                      @NonNull StrongETagGenerator eTagGenerator) {
+        this.authorService = Objects.requireNonNull(authorService, "authorService must not be null");
+        this.eTagGenerator = Objects.requireNonNull(eTagGenerator, "eTagGenerator must not be null");
+    }
+
+    @PostMapping(consumes = ApiMediaType.V1_JSON, produces = ApiMediaType.V1_JSON)
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('STAFF') and !#request.createMissing())")
+    public ResponseEntity<AuthorResolutionResponse> resolve(@RequestBody @Validated AuthorResolutionRequest request) {
+        List<AuthorResolutionResponse.Item> items = authorService.resolve(request.names(), request.createMissing()).stream()
+                .map(this::toItem)
+                .toList();
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS)
+                .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
+                .body(new AuthorResolutionResponse(items));
+    }
+
+    private AuthorResolutionResponse.Item toItem(AuthorResolution resolution) {
+        Author author = resolution.author();
+        return switch (resolution.outcome()) {
+            case FOUND -> new AuthorResolutionResponse.Item(resolution.name(), HttpStatus.OK.value(), author.id(), author.name(),
+                    eTagGenerator.generate(author.id(), author.metadata().version()), author.metadata().version(), null);
+            case CREATED -> new AuthorResolutionResponse.Item(resolution.name(), HttpStatus.CREATED.value(), author.id(), author.name(),
+                    eTagGenerator.generate(author.id(), author.metadata().version()), author.metadata().version(), null);
+            case NOT_FOUND -> new AuthorResolutionResponse.Item(resolution.name(), HttpStatus.NOT_FOUND.value(),
+                    null, null, null, null, "Author not found");
+        };
+    }
+}
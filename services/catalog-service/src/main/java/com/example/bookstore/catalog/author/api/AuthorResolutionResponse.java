@@ -0,0 +1,17 @@
+package com.example.bookstore.catalog.author.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.UUID;
+
+public record AuthorResolutionResponse(List<Item> items) {
+
+    public AuthorResolutionResponse {
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item(String name, int status, UUID id, String canonicalName, String eTag, Long version, String detail) {
+    }
+}
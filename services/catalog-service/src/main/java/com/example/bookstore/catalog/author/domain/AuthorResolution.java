@@ -0,0 +1,17 @@
+package com.example.bookstore.catalog.author.domain;
+
+import java.util.Objects;
+
+public record AuthorResolution(String name, Outcome outcome, Author author) {
+
+    public AuthorResolution {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(outcome, "outcome must not be null");
+    }
+
+    public enum Outcome {
+        FOUND,
+        CREATED,
+        NOT_FOUND
+    }
+}
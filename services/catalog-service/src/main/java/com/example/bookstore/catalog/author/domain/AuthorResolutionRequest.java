@@ -0,0 +1,17 @@
+package com.example.bookstore.catalog.author.domain;
+
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record AuthorResolutionRequest(
+        @NotNull @Size(min = 1, max = 1000) List<@NotBlank @Size(max = 255) String> names,
+        boolean createMissing) {
+
+    public AuthorResolutionRequest {
+        names = List.copyOf(Objects.requireNonNull(names, "names must not be null"));
+    }
+}
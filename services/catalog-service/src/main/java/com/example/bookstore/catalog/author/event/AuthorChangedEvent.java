@@ -0,0 +1,14 @@
+package com.example.bookstore.catalog.author.event;
+
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public record AuthorChangedEvent(UUID authorId, long version, CatalogChangeType changeType) {
+
+    public AuthorChangedEvent {
+        Objects.requireNonNull(authorId, "authorId must not be null");
+        Objects.requireNonNull(changeType, "changeType must not be null");
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.bookstore.catalog.author.repository;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -8,6 +9,8 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -19,8 +22,13 @@ import java.util.UUID;
 @Entity
 @Table(name = "authors")
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = AuthorEntity.CACHE_REGION)
 public class AuthorEntity {
 
+    public static final String CACHE_REGION = "catalog.authors";
+    public static final String NAME_QUERY_CACHE_REGION = "catalog.authors.by-name";
+
     @Id
     private UUID id;
 
@@ -0,0 +1,9 @@
+package com.example.bookstore.catalog.author.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AuthorInsertRepository {
+
+    Optional<AuthorEntity> insertIfAbsent(UUID id, String name);
+}
@@ -0,0 +1,70 @@
+package com.example.bookstore.catalog.author.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+public class AuthorInsertRepositoryImpl implements AuthorInsertRepository {
+
+    // Conflicts on the id or on lower(name) insert nothing and return no row.
+    private static final String INSERT_SQL = """
+            INSERT INTO authors (id, name)
+            VALUES (:id, :name)
+            ON CONFLICT DO NOTHING
+            RETURNING id, name, created_at, updated_at, version
+            """;
+
+    static final RowMapper<AuthorEntity> ROW_MAPPER = (rs, rowNum) -> {
+        AuthorEntity entity = new AuthorEntity();
+        entity.setId(rs.getObject("id", UUID.class));
+        entity.setName(rs.getString("name"));
+        entity.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class).toInstant());
+        entity.setUpdatedAt(rs.getObject("updated_at", OffsetDateTime.class).toInstant());
+        entity.setVersion(rs.getLong("version"));
+        return entity;
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Cache cache;
+
+    public AuthorInsertRepositoryImpl(@NonNull NamedParameterJdbcTemplate jdbcTemplate,
+                                      @NonNull EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.cache = Objects.requireNonNull(entityManagerFactory, "entityManagerFactory must not be null")
+                .unwrap(SessionFactory.class)
+                .getCache();
+    }
+
+    @Override
+    public Optional<AuthorEntity> insertIfAbsent(UUID id, String name) {
+        Optional<AuthorEntity> inserted =
+                jdbcTemplate.query(INSERT_SQL, Map.of("id", id, "name", name), ROW_MAPPER).stream().findFirst();
+        inserted.ifPresent(author -> evictNameLookupsAfterCommit());
+        return inserted;
+    }
+
+    // Hibernate never sees this INSERT, so cached "no author with this name" lookups go once the new row is visible.
+    private void evictNameLookupsAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evictQueryRegion(AuthorEntity.NAME_QUERY_CACHE_REGION);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evictQueryRegion(AuthorEntity.NAME_QUERY_CACHE_REGION);
+            }
+        });
+    }
+}
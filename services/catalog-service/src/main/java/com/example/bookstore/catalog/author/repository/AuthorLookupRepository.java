@@ -0,0 +1,9 @@
+package com.example.bookstore.catalog.author.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AuthorLookupRepository {
+
+    List<AuthorEntity> findAllById(Iterable<UUID> ids);
+}
@@ -0,0 +1,36 @@
+package com.example.bookstore.catalog.author.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.lang.NonNull;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+public class AuthorLookupRepositoryImpl implements AuthorLookupRepository {
+
+    private final EntityManager entityManager;
+
+    public AuthorLookupRepositoryImpl(@NonNull EntityManager entityManager) {
+        this.entityManager = Objects.requireNonNull(entityManager, "entityManager must not be null");
+    }
+
+    // Multi-load consults the persistence context and the second-level cache before querying the remaining ids.
+    @Override
+    public List<AuthorEntity> findAllById(Iterable<UUID> ids) {
+        Set<UUID> distinctIds = new LinkedHashSet<>();
+        ids.forEach(distinctIds::add);
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(AuthorEntity.class)
+                .multiLoad(List.copyOf(distinctIds))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.bookstore.catalog.author.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface AuthorNameRepository {
+
+    Map<String, AuthorEntity> findAllByNameIgnoreCase(Collection<String> names);
+
+    Page<AuthorEntity> searchByName(String query, Pageable pageable);
+}
@@ -0,0 +1,74 @@
+package com.example.bookstore.catalog.author.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.NonNull;
+
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class AuthorNameRepositoryImpl implements AuthorNameRepository {
+
+    // Joining the requested names keeps every lookup on uq_authors_name_lower and tells us which input matched.
+    private static final String SELECT_BY_NAMES_SQL = """
+            SELECT requested.name AS requested_name, a.id, a.name, a.created_at, a.updated_at, a.version
+              FROM unnest(:names) AS requested(name)
+              JOIN authors a ON lower(a.name) = lower(requested.name)
+            """;
+
+    // Both the prefix match and the similarity operator are served by idx_authors_name_trgm.
+    private static final String SEARCH_PREDICATE = "a.name ILIKE :prefix ESCAPE '\\' OR a.name % :query";
+
+    private static final String SEARCH_SQL = """
+            SELECT a.id, a.name, a.created_at, a.updated_at, a.version
+              FROM authors a
+             WHERE %s
+             ORDER BY a.name ILIKE :prefix ESCAPE '\\' DESC, similarity(a.name, :query) DESC, lower(a.name), a.id
+             LIMIT :limit OFFSET :offset
+            """.formatted(SEARCH_PREDICATE);
+
+    private static final String COUNT_SQL = "SELECT count(*) FROM authors a WHERE " + SEARCH_PREDICATE;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public AuthorNameRepositoryImpl(@NonNull NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+    }
+
+    @Override
+    public Map<String, AuthorEntity> findAllByNameIgnoreCase(Collection<String> names) {
+        Map<String, AuthorEntity> authors = new LinkedHashMap<>();
+        if (names.isEmpty()) {
+            return authors;
+        }
+        Map<String, Object> parameters = Map.of("names", new SqlParameterValue(Types.ARRAY, names.toArray(String[]::new)));
+        jdbcTemplate.query(SELECT_BY_NAMES_SQL, parameters, rs -> {
+            authors.put(rs.getString("requested_name"), AuthorInsertRepositoryImpl.ROW_MAPPER.mapRow(rs, rs.getRow()));
+        });
+        return authors;
+    }
+
+    @Override
+    public Page<AuthorEntity> searchByName(String query, Pageable pageable) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("query", query);
+        parameters.put("prefix", escapeLike(query) + "%");
+        parameters.put("limit", pageable.getPageSize());
+        parameters.put("offset", pageable.getOffset());
+        List<AuthorEntity> content = jdbcTemplate.query(SEARCH_SQL, parameters, AuthorInsertRepositoryImpl.ROW_MAPPER);
+        Long total = jdbcTemplate.queryForObject(COUNT_SQL, parameters, Long.class);
+        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
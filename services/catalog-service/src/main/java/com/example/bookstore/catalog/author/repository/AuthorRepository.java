@@ -3,11 +3,21 @@ package com.example.bookstore.catalog.author.repository;
 import java.util.Optional;
 import java.util.UUID;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface AuthorRepository extends JpaRepository<AuthorEntity, UUID> {
+public interface AuthorRepository extends JpaRepository<AuthorEntity, UUID>, AuthorLookupRepository, AuthorInsertRepository,
+        AuthorNameRepository {
 
-    Optional<AuthorEntity> findByNameIgnoreCase(String name);
-
-    boolean existsByNameIgnoreCase(String name);
+    // Spelled out with lower() so the uq_authors_name_lower index serves it; derived IgnoreCase queries use upper().
+    @Query("SELECT a FROM AuthorEntity a WHERE lower(a.name) = lower(:name)")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = AuthorEntity.NAME_QUERY_CACHE_REGION)
+    })
+    Optional<AuthorEntity> findByNameIgnoreCase(@Param("name") String name);
 }
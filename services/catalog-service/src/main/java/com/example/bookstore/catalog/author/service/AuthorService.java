@@ -2,7 +2,9 @@ package com.example.bookstore.catalog.author.service;
 
 import com.example.bookstore.catalog.author.domain.Author;
 import com.example.bookstore.catalog.author.domain.AuthorRequest;
+import com.example.bookstore.catalog.author.domain.AuthorResolution;
 import com.example.bookstore.catalog.author.error.AuthorNotFoundException;
+import com.example.bookstore.catalog.author.event.AuthorChangedEvent;
 import com.example.bookstore.catalog.author.repository.AuthorEntity;
 import com.example.bookstore.catalog.author.repository.AuthorRepository;
 import com.example.bookstore.catalog.book.domain.Book;
@@ -10,8 +12,11 @@ import com.example.bookstore.catalog.book.domain.BookRequest;
 import com.example.bookstore.catalog.book.service.BookService;
 import com.example.bookstore.catalog.common.error.PreconditionFailedException;
 import com.example.bookstore.catalog.common.error.ResourceConflictException;
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.NonNull;
@@ -19,8 +24,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static com.example.bookstore.catalog.author.service.AuthorMapper.authorEntityToAuthor;
@@ -31,11 +44,14 @@ public class AuthorService {
     private static final Logger log = LoggerFactory.getLogger(AuthorService.class);
     private final AuthorRepository repository;
     private final BookService bookService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AuthorService(@NonNull AuthorRepository repository,
-                         @NonNull BookService bookService) {
+                         @NonNull BookService bookService,
+                         @NonNull ApplicationEventPublisher eventPublisher) {
         this.repository = Objects.requireNonNull(repository, "repository must not be null");
         this.bookService = Objects.requireNonNull(bookService, "bookService must not be null");
+        this.eventPublisher = Objects.requireNonNull(eventPublisher, "eventPublisher must not be null");
     }
 
     @Transactional(readOnly = true)
@@ -43,6 +59,12 @@ public class AuthorService {
         return repository.findAll(pageable).map(AuthorMapper::authorEntityToAuthor);
     }
 
+    @Transactional(readOnly = true)
+    public Page<Author> search(@NonNull String query, @NonNull Pageable pageable) {
+        Objects.requireNonNull(query, "query must not be null");
+        return repository.searchByName(query.trim(), pageable).map(AuthorMapper::authorEntityToAuthor);
+    }
+
     @Transactional(readOnly = true)
     public Author requireById(@NonNull UUID id) {
         return authorEntityToAuthor(requireEntityById(id));
@@ -72,16 +94,56 @@ public class AuthorService {
             throw new PreconditionFailedException("Author name must not be blank");
         }
 
-        if (repository.existsByNameIgnoreCase(trimmed)) {
-            throw new ResourceConflictException("Author with the provided name already exists");
+        UUID authorId = id == null ? UUID.randomUUID() : id;
+        AuthorEntity persisted = repository.insertIfAbsent(authorId, trimmed)
+                .orElseThrow(() -> repository.existsById(authorId)
+                        ? new PreconditionFailedException("Author with the provided id already exists")
+                        : new ResourceConflictException("Author with the provided name already exists"));
+        eventPublisher.publishEvent(new AuthorChangedEvent(persisted.getId(), persisted.getVersion(), CatalogChangeType.CREATED));
+        log.info("author-service: authorId='{}' created at version='{}'", persisted.getId(), persisted.getVersion());
+        log.debug("author-service: authorId='{}' created with authorRequest='{}'", persisted.getId(), authorRequest);
+        return authorEntityToAuthor(persisted);
+    }
+
+    @Transactional
+    public List<AuthorResolution> resolve(@NonNull List<String> names, boolean createMissing) {
+        Objects.requireNonNull(names, "names must not be null");
+        Set<String> requested = new LinkedHashSet<>();
+        names.forEach(name -> requested.add(name.trim()));
+        Map<String, AuthorEntity> found = new LinkedHashMap<>(repository.findAllByNameIgnoreCase(requested));
+
+        Set<String> created = new HashSet<>();
+        if (createMissing) {
+            // A stable insert order keeps concurrent imports of overlapping names from deadlocking on the name index.
+            List<String> missing = requested.stream()
+                    .filter(name -> !name.isEmpty() && !found.containsKey(name))
+                    .sorted(Comparator.comparing((String name) -> name.toLowerCase(Locale.ROOT)).thenComparing(Comparator.naturalOrder()))
+                    .toList();
+            for (String name : missing) {
+                Optional<AuthorEntity> inserted = repository.insertIfAbsent(UUID.randomUUID(), name);
+                if (inserted.isPresent()) {
+                    AuthorEntity persisted = inserted.get();
+                    eventPublisher.publishEvent(
+                            new AuthorChangedEvent(persisted.getId(), persisted.getVersion(), CatalogChangeType.CREATED));
+                    found.put(name, persisted);
+                    created.add(name);
+                    continue;
+                }
+                // Another name in this batch, or a concurrent writer, claimed the same name in a different case.
+                AuthorEntity existing = repository.findAllByNameIgnoreCase(List.of(name)).get(name);
+                if (existing == null) {
+                    throw new ResourceConflictException("Author '%s' could not be created".formatted(name));
+                }
+                found.put(name, existing);
+            }
         }
 
-        AuthorEntity authorEntity = new AuthorEntity();
-        authorEntity.setId(id == null ? UUID.randomUUID() : id);
-        authorEntity.setName(trimmed);
-        AuthorEntity persisted = repository.saveAndFlush(authorEntity);
-        log.info("author-service: authorId='{}' created with authorRequest='{}'", persisted.getId(), authorRequest);
-        return authorEntityToAuthor(persisted);
+        List<AuthorResolution> resolutions = names.stream()
+                .map(String::trim)
+                .map(name -> toResolution(name, found.get(name), created.contains(name)))
+                .toList();
+        log.info("author-service: resolved {} of {} author names, created {}", found.size(), requested.size(), created.size());
+        return resolutions;
     }
 
     @Transactional
@@ -90,6 +152,7 @@ public class AuthorService {
         Objects.requireNonNull(authorRequest, "authorRequest must not be null");
         AuthorEntity authorEntity = requireEntityById(id);
         ensureExpectedVersion(authorEntity, expectedVersion);
+        String previousName = authorEntity.getName();
         if (authorRequest.name() != null && !authorRequest.name().isBlank()) {
             String trimmed = authorRequest.name().trim();
             if (trimmed.isEmpty()) {
@@ -102,8 +165,18 @@ public class AuthorService {
                     });
             authorEntity.setName(trimmed);
         }
-        AuthorEntity persisted = repository.saveAndFlush(authorEntity);
-        log.info("author-service: authorId='{}' updated with authorRequest='{}'", id, authorRequest);
+        AuthorEntity persisted;
+        try {
+            persisted = repository.saveAndFlush(authorEntity);
+        } catch (DataIntegrityViolationException ex) {
+            throw new ResourceConflictException("Author with the provided name already exists");
+        }
+        if (!Objects.equals(previousName, persisted.getName())) {
+            bookService.refreshReadModelForAuthor(id);
+        }
+        eventPublisher.publishEvent(new AuthorChangedEvent(id, persisted.getVersion(), CatalogChangeType.UPDATED));
+        log.info("author-service: authorId='{}' updated to version='{}'", id, persisted.getVersion());
+        log.debug("author-service: authorId='{}' updated with authorRequest='{}'", id, authorRequest);
         return authorEntityToAuthor(persisted);
     }
 
@@ -112,9 +185,10 @@ public class AuthorService {
         AuthorEntity authorEntity = requireEntityById(id);
         ensureExpectedVersion(authorEntity, expectedVersion);
 
+        removeAuthorFromAllBooks(id);
         repository.delete(authorEntity);
         repository.flush();
-        removeAuthorFromAllBooks(id);
+        eventPublisher.publishEvent(new AuthorChangedEvent(id, expectedVersion, CatalogChangeType.DELETED));
         log.info("author-service: authorId='{}' deleted", id);
     }
 
@@ -126,7 +200,8 @@ public class AuthorService {
                     b.title(),
                     b.authors().stream().filter(id -> !Objects.equals(id, authorId)).toList(),
                     b.genres(),
-                    b.price()
+                    b.price(),
+                    b.language()
             );
             bookService.update(b.id(), b.metadata().version(), bookRequest);
         });
@@ -135,6 +210,14 @@ public class AuthorService {
         }
     }
 
+    private AuthorResolution toResolution(String name, AuthorEntity entity, boolean created) {
+        if (entity == null) {
+            return new AuthorResolution(name, AuthorResolution.Outcome.NOT_FOUND, null);
+        }
+        AuthorResolution.Outcome outcome = created ? AuthorResolution.Outcome.CREATED : AuthorResolution.Outcome.FOUND;
+        return new AuthorResolution(name, outcome, authorEntityToAuthor(entity));
+    }
+
     private void ensureExpectedVersion(@NonNull AuthorEntity entity, long expectedVersion) {
         if (entity.getVersion() != expectedVersion) {
             throw new PreconditionFailedException(
@@ -2,18 +2,24 @@ package com.example.bookstore.catalog.book;
 
 import com.example.bookstore.catalog.book.api.BookEmbedOption;
 import com.example.bookstore.catalog.book.api.BookResource;
+import com.example.bookstore.catalog.book.cache.BookResponseCache;
 import com.example.bookstore.catalog.book.domain.Book;
+import com.example.bookstore.catalog.book.domain.BookField;
 import com.example.bookstore.catalog.book.domain.BookGenre;
 import com.example.bookstore.catalog.book.domain.BookPatchRequest;
 import com.example.bookstore.catalog.book.domain.BookRequest;
 import com.example.bookstore.catalog.book.service.BookQueryService;
 import com.example.bookstore.catalog.book.service.BookService;
 import com.example.bookstore.catalog.common.ApiMediaType;
+import com.example.bookstore.catalog.common.Money;
 import com.example.bookstore.catalog.common.PageResponse;
 import com.example.bookstore.catalog.common.PageResponseMeta;
+import com.example.bookstore.catalog.common.error.InvalidQueryParameterException;
 import com.example.bookstore.catalog.common.error.PreconditionFailedException;
 import com.example.bookstore.catalog.common.etag.ETagHeaderSupport;
 import com.example.bookstore.catalog.common.etag.StrongETagGenerator;
+import com.example.bookstore.catalog.common.fx.FxRateService;
+import com.example.bookstore.catalog.common.fx.FxRateTable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -38,10 +44,13 @@ import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 import java.net.URI;
+import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -54,22 +63,34 @@ public class BookController {
     private final BookService bookService;
     private final BookQueryService bookQueryService;
     private final StrongETagGenerator eTagGenerator;
+    private final BookResponseCache bookResponseCache;
+    private final FxRateService fxRateService;
 
     public BookController(@NonNull BookService bookService,
                           @NonNull BookQueryService bookQueryService,
-                          @NonNull StrongETagGenerator eTagGenerator) {
+                          @NonNull StrongETagGenerator eTagGenerator,
+                          @NonNull BookResponseCache bookResponseCache,
+                          @NonNull FxRateService fxRateService) {
         this.bookService = Objects.requireNonNull(bookService, "bookService must not be null");
         this.bookQueryService = Objects.requireNonNull(bookQueryService, "bookQueryService must not be null");
         this.eTagGenerator = Objects.requireNonNull(eTagGenerator, "eTagGenerator must not be null");
+        this.bookResponseCache = Objects.requireNonNull(bookResponseCache, "bookResponseCache must not be null");
+        this.fxRateService = Objects.requireNonNull(fxRateService, "fxRateService must not be null");
     }
 
-    @GetMapping(produces = ApiMediaType.V1_JSON)
+    @GetMapping(produces = {ApiMediaType.V1_JSON, ApiMediaType.V1_CBOR})
     @PreAuthorize("hasAnyRole('ADMIN','STAFF')")
     public ResponseEntity<PageResponse<BookResource>> list(
             @RequestParam(name = "page[number]", defaultValue = "1") @Min(1) int pageNumber,
             @RequestParam(name = "page[size]", defaultValue = "20") @Min(1) @Max(100) int pageSize,
-            @RequestParam(name = "embed", required = false) @Size(max = 50) List<@Size(max = 255) String> embed) {
+            @RequestParam(name = "embed", required = false) @Size(max = 50) List<@Size(max = 255) String> embed,
+            @RequestParam(name = "fields[books]", required = false) @Size(max = 50) List<@Size(max = 255) String> fields,
+            @RequestParam(name = "currency", required = false) @Pattern(regexp = "^[A-Za-z]{3}$") String currency) {
 
+        FxRateTable rates = fxRateService.rates();
+        if (currency != null && !rates.supports(currency)) {
+            throw new InvalidQueryParameterException("Unsupported currency: " + currency);
+        }
         Pageable pageable = PageRequest.of(
                 pageNumber - 1,
                 pageSize,
@@ -77,32 +98,50 @@ public class BookController {
         );
 
         EnumSet<BookEmbedOption> embedOptions = BookEmbedOption.fromQueryParameters(embed);
-        Page<BookResource> books = bookQueryService.list(pageable, embedOptions);
+        Page<BookResource> books = bookQueryService.list(pageable, embedOptions, BookField.fromQueryParameters(fields));
+        if (currency != null) {
+            List<Money> displayPrices = rates.convertAll(books.getContent().stream().map(BookResource::price).toList(), currency);
+            Iterator<Money> converted = displayPrices.iterator();
+            books = books.map(book -> book.withDisplayPrice(converted.next()));
+        }
         return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
+                .varyBy(HttpHeaders.ACCEPT)
                 .body(mapToPageResponse(books));
     }
 
-    @GetMapping(value = "/{id}", produces = ApiMediaType.V1_JSON)
+    @GetMapping(value = "/{id}", produces = {ApiMediaType.V1_JSON, ApiMediaType.V1_CBOR})
     @PreAuthorize("hasAnyRole('ADMIN','STAFF')")
-    public ResponseEntity<BookResource> getById(@PathVariable UUID id,
-                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
-                                                @RequestParam(name = "embed", required = false)
-                                                    @Size(max = 50) List<@Size(max = 255) String> embed) {
+    public ResponseEntity<byte[]> getById(@PathVariable UUID id,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                          @RequestParam(name = "embed", required = false)
+                                              @Size(max = 50) List<@Size(max = 255) String> embed,
+                                          @RequestParam(name = "fields[books]", required = false)
+                                              @Size(max = 50) List<@Size(max = 255) String> fields) {
         EnumSet<BookEmbedOption> embedOptions = BookEmbedOption.fromQueryParameters(embed);
-        BookResource book = bookQueryService.requireById(id, embedOptions);
-        String eTag = eTagGenerator.generate(book.id(), book.metadata().version());
+        EnumSet<BookField> bookFields = BookField.fromQueryParameters(fields);
+        String mediaType = negotiateRepresentation(accept);
+        Long clientVersion = ETagHeaderSupport.extractVersion(ifNoneMatch, id);
+        BookResponseCache.Entry response = bookResponseCache.getOrLoad(
+                id,
+                new BookResponseCache.Variant(embedOptions, bookFields, mediaType),
+                clientVersion == null ? 0L : clientVersion,
+                () -> bookQueryService.requireById(id, embedOptions, bookFields)
+        );
 
-        if (ETagHeaderSupport.matches(ifNoneMatch, eTag)) {
+        if (ETagHeaderSupport.matches(ifNoneMatch, response.eTag())) {
             return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
-                    .eTag(eTag)
+                    .eTag(response.eTag())
+                    .varyBy(HttpHeaders.ACCEPT)
                     .build();
         }
 
         return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
-                .eTag(eTag)
-                .body(book);
+                .contentType(MediaType.valueOf(mediaType))
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentLength(response.body().length)
+                .eTag(response.eTag())
+                .body(response.body());
     }
 
     @PutMapping(value = "/{id}", consumes = ApiMediaType.V1_JSON, produces = ApiMediaType.V1_JSON)
@@ -116,7 +155,8 @@ public class BookController {
                 request.title(),
                 request.authorIds(),
                 normalizeGenres(request.genres()),
-                request.price()
+                request.price(),
+                request.language()
         );
 
         if ("*".equals(ifNoneMatch)) {
@@ -167,7 +207,8 @@ public class BookController {
                 request.titleValue().orElse(existing.title()),
                 request.authorsValue().orElse(existing.authors()),
                 request.genresValue().map(this::normalizeGenres).orElse(existing.genres()),
-                request.priceValue().orElse(existing.price())
+                request.priceValue().orElse(existing.price()),
+                request.languageValue().orElse(existing.language())
         );
 
         Book updated = bookService.update(id, expectedVersion, bookRequest);
@@ -204,6 +245,21 @@ public class BookController {
                 .toList();
     }
 
+    private String negotiateRepresentation(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return ApiMediaType.V1_JSON;
+        }
+        MediaType json = MediaType.valueOf(ApiMediaType.V1_JSON);
+        MediaType cbor = MediaType.valueOf(ApiMediaType.V1_CBOR);
+        return MediaType.parseMediaTypes(accept).stream()
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .filter(acceptable -> acceptable.isCompatibleWith(json) || acceptable.isCompatibleWith(cbor))
+                .findFirst()
+                .filter(preferred -> !preferred.isCompatibleWith(json))
+                .map(preferred -> ApiMediaType.V1_CBOR)
+                .orElse(ApiMediaType.V1_JSON);
+    }
+
     private long requireVersionFromIfMatch(String ifMatch, UUID resourceId) {
         Long extracted = ETagHeaderSupport.extractVersion(ifMatch, resourceId);
         if (extracted == null) {
@@ -0,0 +1,59 @@
+package com.example.bookstore.catalog.book;
+
+import com.example.bookstore.catalog.book.api.BookPriceUpdateResponse;
+import com.example.bookstore.catalog.book.domain.BookPriceUpdateRequest;
+import com.example.bookstore.catalog.book.domain.BookPriceUpdateResult;
+import com.example.bookstore.catalog.book.service.BookService;
+import com.example.bookstore.catalog.common.ApiMediaType;
+import com.example.bookstore.catalog.common.etag.StrongETagGenerator;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+@RequestMapping(value = "/api/book-price-updates", produces = ApiMediaType.V1_JSON)
+@Validated
+public class BookPriceUpdateController {
+
+    private final BookService bookService;
+    private final StrongETagGenerator eTagGenerator;
+
+    public BookPriceUpdateController(@NonNull BookService bookService,
+                                     @NonNull StrongETagGenerator eTagGenerator) {
+        this.bookService = Objects.requireNonNull(bookService, "bookService must not be null");
+        this.eTagGenerator = Objects.requireNonNull(eTagGenerator, "eTagGenerator must not be null");
+    }
+
+    @PostMapping(consumes = ApiMediaType.V1_JSON, produces = ApiMediaType.V1_JSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BookPriceUpdateResponse> updatePrices(@RequestBody @Validated BookPriceUpdateRequest request) {
+        List<BookPriceUpdateResponse.Item> items = bookService.updatePrices(request.items()).stream()
+                .map(this::toItem)
+                .toList();
+        return ResponseEntity.status(HttpStatus.MULTI_STATUS)
+                .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
+                .body(new BookPriceUpdateResponse(items));
+    }
+
+    private BookPriceUpdateResponse.Item toItem(BookPriceUpdateResult result) {
+        return switch (result.outcome()) {
+            case UPDATED -> new BookPriceUpdateResponse.Item(result.id(), HttpStatus.OK.value(),
+                    eTagGenerator.generate(result.id(), result.version()), result.version(), null);
+            case NOT_FOUND -> new BookPriceUpdateResponse.Item(result.id(), HttpStatus.NOT_FOUND.value(),
+                    null, null, "Book not found");
+            case VERSION_MISMATCH -> new BookPriceUpdateResponse.Item(result.id(), HttpStatus.PRECONDITION_FAILED.value(),
+                    eTagGenerator.generate(result.id(), result.version()), result.version(),
+                    "Entity version mismatch. Current version is %d".formatted(result.version()));
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.bookstore.catalog.book;
+
+import com.example.bookstore.catalog.book.api.BookEmbedOption;
+import com.example.bookstore.catalog.book.api.BookResource;
+import com.example.bookstore.catalog.book.api.GenreCollection;
+import com.example.bookstore.catalog.book.api.GenreSummary;
+import com.example.bookstore.catalog.book.domain.BookField;
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.service.BookQueryService;
+import com.example.bookstore.catalog.common.ApiMediaType;
+import com.example.bookstore.catalog.common.CursorPageResponse;
+import com.example.bookstore.catalog.common.PageCursor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+@RequestMapping(value = "/api/genres", produces = ApiMediaType.V1_JSON)
+@Validated
+public class GenreController {
+
+    private final BookQueryService bookQueryService;
+
+    public GenreController(@NonNull BookQueryService bookQueryService) {
+        this.bookQueryService = Objects.requireNonNull(bookQueryService, "bookQueryService must not be null");
+    }
+
+    @GetMapping(produces = ApiMediaType.V1_JSON)
+    @PreAuthorize("hasAnyRole('ADMIN','STAFF')")
+    public ResponseEntity<GenreCollection> list() {
+        List<GenreSummary> genres = bookQueryService.countByGenre().entrySet().stream()
+                .map(entry -> new GenreSummary(entry.getKey(), entry.getKey().getDisplayName(), entry.getValue()))
+                .toList();
+        return ResponseEntity.ok(new GenreCollection(genres));
+    }
+
+    @GetMapping(value = "/{genre}/books", produces = {ApiMediaType.V1_JSON, ApiMediaType.V1_CBOR})
+    @PreAuthorize("hasAnyRole('ADMIN','STAFF')")
+    public ResponseEntity<CursorPageResponse<BookResource>> listBooks(
+            @PathVariable BookGenre genre,
+            @RequestParam(name = "page[after]", required = false) @Size(max = 255) String after,
+            @RequestParam(name = "page[size]", defaultValue = "20") @Min(1) @Max(100) int pageSize,
+            @RequestParam(name = "embed", required = false) @Size(max = 50) List<@Size(max = 255) String> embed,
+            @RequestParam(name = "fields[books]", required = false) @Size(max = 50) List<@Size(max = 255) String> fields) {
+
+        return ResponseEntity.ok(bookQueryService.listByGenre(
+                genre,
+                after == null ? null : PageCursor.decode(after, 2),
+                pageSize,
+                BookEmbedOption.fromQueryParameters(embed),
+                BookField.fromQueryParameters(fields)));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.bookstore.catalog.book.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BookPriceUpdateResponse(List<Item> items) {
+
+    public BookPriceUpdateResponse {
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item(UUID id, int status, String eTag, Long version, String detail) {
+    }
+}
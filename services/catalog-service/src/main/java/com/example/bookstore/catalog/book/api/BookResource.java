@@ -1,6 +1,7 @@
 package com.example.bookstore.catalog.book.api;
 
 import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.domain.BookLanguage;
 import com.example.bookstore.catalog.common.Money;
 import com.example.bookstore.catalog.common.ResourceMetadata;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -15,12 +16,28 @@ public record BookResource(
         String title,
         List<UUID> authors,
         List<BookGenre> genres,
+        BookLanguage language,
         Money price,
         ResourceMetadata metadata,
-        @JsonProperty("_embedded") BookEmbedded _embedded) {
+        @JsonProperty("_embedded") BookEmbedded _embedded,
+        Money displayPrice) {
 
     public BookResource {
-        authors = authors == null ? List.of() : List.copyOf(authors);
-        genres = genres == null ? List.of() : List.copyOf(genres);
+        authors = authors == null ? null : List.copyOf(authors);
+        genres = genres == null ? null : List.copyOf(genres);
+    }
+
+    public BookResource(UUID id, String title, List<UUID> authors, List<BookGenre> genres, Money price,
+                        ResourceMetadata metadata, BookEmbedded _embedded) {
+        this(id, title, authors, genres, null, price, metadata, _embedded, null);
+    }
+
+    public BookResource(UUID id, String title, List<UUID> authors, List<BookGenre> genres, BookLanguage language,
+                        Money price, ResourceMetadata metadata, BookEmbedded _embedded) {
+        this(id, title, authors, genres, language, price, metadata, _embedded, null);
+    }
+
+    public BookResource withDisplayPrice(Money displayPrice) {
+        return new BookResource(id, title, authors, genres, language, price, metadata, _embedded, displayPrice);
     }
 }
@@ -0,0 +1,10 @@
+package com.example.bookstore.catalog.book.api;
+
+import java.util.List;
+
+public record GenreCollection(List<GenreSummary> content) {
+
+    public GenreCollection {
+        content = content == null ? List.of() : List.copyOf(content);
+    }
+}
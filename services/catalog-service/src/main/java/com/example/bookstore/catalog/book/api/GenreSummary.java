@@ -0,0 +1,6 @@
+package com.example.bookstore.catalog.book.api;
+
+import com.example.bookstore.catalog.book.domain.BookGenre;
+
+public record GenreSummary(BookGenre code, String name, long bookCount) {
+}
@@ -0,0 +1,10 @@
+package com.example.bookstore.catalog.book.api;
+
+import java.util.Objects;
+
+public record VersionedBookResource(BookResource resource, long version) {
+
+    public VersionedBookResource {
+        Objects.requireNonNull(resource, "resource must not be null");
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.bookstore.catalog.book.cache;
+
+import com.example.bookstore.catalog.author.event.AuthorChangedEvent;
+import com.example.bookstore.catalog.book.api.BookEmbedOption;
+import com.example.bookstore.catalog.book.api.BookResource;
+import com.example.bookstore.catalog.book.api.VersionedBookResource;
+import com.example.bookstore.catalog.book.domain.BookField;
+import com.example.bookstore.catalog.book.event.BookChangedEvent;
+import com.example.bookstore.catalog.common.ApiMediaType;
+import com.example.bookstore.catalog.common.datasource.ReadRouting;
+import com.example.bookstore.catalog.common.etag.StrongETagGenerator;
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
+import com.example.bookstore.catalog.common.invalidation.InvalidationGapEvent;
+import com.example.bookstore.catalog.common.invalidation.RemoteCatalogChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class BookResponseCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+    private static final int MAX_TRACKED_VERSIONS = 65_536;
+
+    private final Cache<UUID, Map<Variant, Entry>> cache;
+    private final Cache<UUID, Long> committedVersions;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborObjectMapper;
+    private final StrongETagGenerator eTagGenerator;
+    private final AtomicLong generation = new AtomicLong();
+
+    public BookResponseCache(@NonNull ObjectMapper objectMapper,
+                             @NonNull MappingJackson2CborHttpMessageConverter cborHttpMessageConverter,
+                             @NonNull StrongETagGenerator eTagGenerator,
+                             @Value("${catalog.cache.book-responses.max-bytes:33554432}") long maxBytes,
+                             @Value("${catalog.cache.book-responses.expire-after-write:PT10M}") Duration expireAfterWrite) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper must not be null");
+        this.cborObjectMapper = Objects.requireNonNull(cborHttpMessageConverter, "cborHttpMessageConverter must not be null")
+                .getObjectMapper();
+        this.eTagGenerator = Objects.requireNonNull(eTagGenerator, "eTagGenerator must not be null");
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((UUID bookId, Map<Variant, Entry> entries) -> entries.values().stream()
+                        .mapToInt(entry -> entry.body().length + ENTRY_OVERHEAD_BYTES)
+                        .sum())
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        this.committedVersions = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_VERSIONS)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    @NonNull
+    public Entry getOrLoad(@NonNull UUID bookId, @NonNull Variant variant, @NonNull Supplier<VersionedBookResource> loader) {
+        return getOrLoad(bookId, variant, 0L, loader);
+    }
+
+    @NonNull
+    public Entry getOrLoad(@NonNull UUID bookId,
+                           @NonNull Variant variant,
+                           long minimumVersion,
+                           @NonNull Supplier<VersionedBookResource> loader) {
+        Map<Variant, Entry> entries = cache.getIfPresent(bookId);
+        Entry cached = entries == null ? null : entries.get(variant);
+        if (cached != null && cached.version() >= minimumVersion) {
+            return cached;
+        }
+
+        long observedGeneration = generation.get();
+        // Books written through this instance are read back from the primary so a lagging replica cannot
+        // repopulate the cache with the state the write just replaced.
+        boolean recentlyWritten = committedVersions.getIfPresent(bookId) != null;
+        VersionedBookResource loadedResource = recentlyWritten ? ReadRouting.onPrimary(loader) : loader.get();
+        if (!recentlyWritten && loadedResource.version() < minimumVersion) {
+            loadedResource = ReadRouting.onPrimary(loader);
+        }
+        Entry loaded = new Entry(
+                loadedResource.version(),
+                eTag(bookId, loadedResource.version(), variant),
+                serialize(loadedResource.resource(), variant)
+        );
+        if (generation.get() == observedGeneration) {
+            cache.asMap().compute(bookId, (id, current) -> withEntry(current, variant, loaded));
+            // A write that committed while we were storing may have been evicted before our put landed.
+            if (generation.get() != observedGeneration) {
+                cache.invalidate(bookId);
+            }
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBookChanged(@NonNull BookChangedEvent event) {
+        evictBook(event.bookId(), event.version());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAuthorChanged(@NonNull AuthorChangedEvent event) {
+        evictAuthorEmbeds(event.changeType());
+    }
+
+    @EventListener
+    public void onRemoteChange(@NonNull RemoteCatalogChangeEvent event) {
+        switch (event.aggregateType()) {
+            case BOOK -> evictBook(event.aggregateId(), event.version());
+            case AUTHOR -> evictAuthorEmbeds(event.changeType());
+            default -> throw new IllegalArgumentException("Unsupported aggregate type: " + event.aggregateType());
+        }
+    }
+
+    @EventListener
+    public void onInvalidationGap(@NonNull InvalidationGapEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private void evictBook(UUID bookId, long version) {
+        generation.incrementAndGet();
+        committedVersions.put(bookId, version);
+        cache.invalidate(bookId);
+    }
+
+    private void evictAuthorEmbeds(CatalogChangeType changeType) {
+        if (changeType == CatalogChangeType.CREATED) {
+            return;
+        }
+        generation.incrementAndGet();
+        cache.asMap().replaceAll((bookId, entries) -> withoutAuthorEmbeds(entries));
+        cache.asMap().values().removeIf(Map::isEmpty);
+    }
+
+    // JSON keeps the plain version tag that If-Match expects; CBOR bodies get their own tag for the same version.
+    private String eTag(UUID bookId, long version, Variant variant) {
+        return ApiMediaType.V1_CBOR.equals(variant.mediaType())
+                ? eTagGenerator.generate(bookId, version, "cbor")
+                : eTagGenerator.generate(bookId, version);
+    }
+
+    private byte[] serialize(BookResource resource, Variant variant) {
+        ObjectMapper mapper = ApiMediaType.V1_CBOR.equals(variant.mediaType()) ? cborObjectMapper : objectMapper;
+        try {
+            return mapper.writeValueAsBytes(resource);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize book " + resource.id(), e);
+        }
+    }
+
+    private static Map<Variant, Entry> withEntry(Map<Variant, Entry> current, Variant variant, Entry entry) {
+        Map<Variant, Entry> updated = current == null ? new HashMap<>() : new HashMap<>(current);
+        updated.put(variant, entry);
+        return Map.copyOf(updated);
+    }
+
+    private static Map<Variant, Entry> withoutAuthorEmbeds(Map<Variant, Entry> entries) {
+        Map<Variant, Entry> remaining = new HashMap<>(entries);
+        remaining.keySet().removeIf(variant -> variant.embedOptions().contains(BookEmbedOption.AUTHORS));
+        return Map.copyOf(remaining);
+    }
+
+    public record Variant(Set<BookEmbedOption> embedOptions, Set<BookField> fields, String mediaType) {
+
+        public Variant {
+            embedOptions = embedOptions == null ? Set.of() : Set.copyOf(embedOptions);
+            fields = fields == null ? Set.copyOf(EnumSet.allOf(BookField.class)) : Set.copyOf(fields);
+            mediaType = mediaType == null ? ApiMediaType.V1_JSON : mediaType;
+        }
+    }
+
+    public record Entry(long version, String eTag, byte[] body) {
+    }
+}
@@ -12,10 +12,15 @@ public record Book(
         List<UUID> authors,
         List<BookGenre> genres,
         Money price,
+        BookLanguage language,
         ResourceMetadata metadata) {
 
     public Book {
         authors = authors == null ? List.of() : List.copyOf(authors);
         genres = genres == null ? List.of() : List.copyOf(genres);
     }
+
+    public Book(UUID id, String title, List<UUID> authors, List<BookGenre> genres, Money price, ResourceMetadata metadata) {
+        this(id, title, authors, genres, price, null, metadata);
+    }
 }
@@ -0,0 +1,52 @@
+package com.example.bookstore.catalog.book.domain;
+
+import com.example.bookstore.catalog.common.error.InvalidFieldsParameterException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+public enum BookField {
+    TITLE("title"),
+    AUTHORS("authors"),
+    GENRES("genres"),
+    LANGUAGE("language"),
+    PRICE("price"),
+    METADATA("metadata");
+
+    private final String parameterValue;
+
+    BookField(String parameterValue) {
+        this.parameterValue = parameterValue;
+    }
+
+    public static EnumSet<BookField> fromQueryParameters(List<String> rawValues) {
+        if (rawValues == null) {
+            return EnumSet.allOf(BookField.class);
+        }
+
+        EnumSet<BookField> result = EnumSet.noneOf(BookField.class);
+        rawValues.stream()
+                .filter(Objects::nonNull)
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .map(token -> token.toLowerCase(Locale.ROOT))
+                .filter(token -> !token.equals("id"))
+                .map(BookField::fromValue)
+                .forEach(result::add);
+
+        return result;
+    }
+
+    private static BookField fromValue(String value) {
+        for (BookField field : BookField.values()) {
+            if (field.parameterValue.equals(value)) {
+                return field;
+            }
+        }
+        throw new InvalidFieldsParameterException(value);
+    }
+}
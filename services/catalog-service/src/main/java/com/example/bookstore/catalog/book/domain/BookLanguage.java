@@ -0,0 +1,25 @@
+package com.example.bookstore.catalog.book.domain;
+
+import java.util.Locale;
+
+/**
+ * Languages with a built-in PostgreSQL text search configuration. A book's language picks the stemmer its stored title
+ * vector is built with; books without one are indexed with the unstemmed {@code simple} configuration.
+ */
+public enum BookLanguage {
+    DANISH,
+    DUTCH,
+    ENGLISH,
+    FINNISH,
+    FRENCH,
+    GERMAN,
+    ITALIAN,
+    NORWEGIAN,
+    PORTUGUESE,
+    SPANISH,
+    SWEDISH;
+
+    public String regConfig() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
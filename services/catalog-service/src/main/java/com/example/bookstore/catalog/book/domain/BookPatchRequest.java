@@ -17,7 +17,8 @@ public record BookPatchRequest(
         @Size(max = 255) String title,
         @Size(max = 20) List<@NotNull UUID> authors,
         @Size(max = 20) List<@NotNull BookGenre> genres,
-        @Valid Money price) {
+        @Valid Money price,
+        BookLanguage language) {
 
     public BookPatchRequest {
         authors = authors == null ? null : List.copyOf(authors);
@@ -29,7 +30,8 @@ public record BookPatchRequest(
         return titleValue().isEmpty()
                 && authorsValue().isEmpty()
                 && genresValue().isEmpty()
-                && price == null;
+                && price == null
+                && language == null;
     }
 
     @JsonIgnore
@@ -51,4 +53,9 @@ public record BookPatchRequest(
     public Optional<Money> priceValue() {
         return Optional.ofNullable(price);
     }
+
+    @JsonIgnore
+    public Optional<BookLanguage> languageValue() {
+        return Optional.ofNullable(language);
+    }
 }
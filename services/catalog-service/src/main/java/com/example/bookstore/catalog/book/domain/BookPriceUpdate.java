@@ -0,0 +1,15 @@
+package com.example.bookstore.catalog.book.domain;
+
+import java.util.UUID;
+
+import com.example.bookstore.catalog.common.Money;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record BookPriceUpdate(
+        @NotNull UUID id,
+        @NotNull @PositiveOrZero Long expectedVersion,
+        @NotNull @Valid Money price) {
+}
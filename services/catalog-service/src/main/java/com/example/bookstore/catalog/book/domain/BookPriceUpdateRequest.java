@@ -0,0 +1,16 @@
+package com.example.bookstore.catalog.book.domain;
+
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record BookPriceUpdateRequest(
+        @NotNull @Size(min = 1, max = 1000) List<@NotNull @Valid BookPriceUpdate> items) {
+
+    public BookPriceUpdateRequest {
+        items = List.copyOf(Objects.requireNonNull(items, "items must not be null"));
+    }
+}
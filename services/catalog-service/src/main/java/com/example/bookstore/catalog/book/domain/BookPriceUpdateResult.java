@@ -0,0 +1,18 @@
+package com.example.bookstore.catalog.book.domain;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public record BookPriceUpdateResult(UUID id, Outcome outcome, Long version) {
+
+    public BookPriceUpdateResult {
+        Objects.requireNonNull(id, "id must not be null");
+        Objects.requireNonNull(outcome, "outcome must not be null");
+    }
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        VERSION_MISMATCH
+    }
+}
@@ -15,10 +15,15 @@ public record BookRequest(
         @NotBlank @Size(max = 255) String title,
         @NotNull @Size(max = 20) List<@NotNull UUID> authorIds,
         @NotNull @Size(max = 20) List<@NotNull BookGenre> genres,
-        @NotNull @Valid Money price) {
+        @NotNull @Valid Money price,
+        BookLanguage language) {
 
     public BookRequest {
         authorIds = List.copyOf(Objects.requireNonNull(authorIds, "authorIds must not be null"));
         genres = List.copyOf(Objects.requireNonNull(genres, "genres must not be null"));
     }
+
+    public BookRequest(String title, List<UUID> authorIds, List<BookGenre> genres, Money price) {
+        this(title, authorIds, genres, price, null);
+    }
 }
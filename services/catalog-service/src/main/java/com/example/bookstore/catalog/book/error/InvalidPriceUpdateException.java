@@ -0,0 +1,11 @@
+package com.example.bookstore.catalog.book.error;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidPriceUpdateException extends ResponseStatusException {
+
+    public InvalidPriceUpdateException(String reason) {
+        super(HttpStatus.BAD_REQUEST, reason);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.bookstore.catalog.book.event;
+
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public record BookChangedEvent(UUID bookId, long version, CatalogChangeType changeType) {
+
+    public BookChangedEvent {
+        Objects.requireNonNull(bookId, "bookId must not be null");
+        Objects.requireNonNull(changeType, "changeType must not be null");
+    }
+}
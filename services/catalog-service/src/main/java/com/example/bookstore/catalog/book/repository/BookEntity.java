@@ -1,6 +1,8 @@
 package com.example.bookstore.catalog.book.repository;
 
 import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.domain.BookLanguage;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -18,6 +20,8 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -35,8 +39,14 @@ import com.example.bookstore.catalog.common.Money;
 @Entity
 @Table(name = "books")
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = BookEntity.CACHE_REGION)
 public class BookEntity {
 
+    public static final String CACHE_REGION = "catalog.books";
+    public static final String AUTHORS_CACHE_REGION = "catalog.books.authors";
+    public static final String GENRES_CACHE_REGION = "catalog.books.genres";
+
     @Id
     private UUID id;
 
@@ -49,6 +59,7 @@ public class BookEntity {
     @CollectionTable(name = "book_authors", joinColumns = @JoinColumn(name = "book_id"))
     @Column(name = "author_id", nullable = false)
     @OrderColumn(name = "author_order")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = AUTHORS_CACHE_REGION)
     private List<UUID> authors = new ArrayList<>();
 
     @ElementCollection(fetch = FetchType.EAGER)
@@ -56,6 +67,7 @@ public class BookEntity {
     @Column(name = "genre", nullable = false)
     @Enumerated(EnumType.STRING)
     @OrderColumn(name = "genre_order")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GENRES_CACHE_REGION)
     private List<BookGenre> genres = new ArrayList<>();
 
     @NotNull
@@ -68,6 +80,10 @@ public class BookEntity {
     @Column(name = "price_currency", nullable = false, length = 3)
     private String priceCurrency;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "language", length = 20)
+    private BookLanguage language;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -101,7 +117,7 @@ public class BookEntity {
     }
 
     public void setAuthors(List<UUID> authors) {
-        this.authors = authors == null ? new ArrayList<>() : new ArrayList<>(authors);
+        replaceContents(this.authors, authors == null ? List.of() : authors);
     }
 
     public List<BookGenre> getGenres() {
@@ -109,7 +125,7 @@ public class BookEntity {
     }
 
     public void setGenres(List<BookGenre> genres) {
-        this.genres = genres == null ? new ArrayList<>() : new ArrayList<>(genres);
+        replaceContents(this.genres, genres == null ? List.of() : genres);
     }
 
     public BigDecimal getPrice() {
@@ -132,6 +148,14 @@ public class BookEntity {
         }
     }
 
+    public BookLanguage getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(BookLanguage language) {
+        this.language = language;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -156,6 +180,26 @@ public class BookEntity {
         this.version = version;
     }
 
+    // Mutating the managed list in place lets Hibernate diff it by position instead of recreating every row.
+    private static <T> void replaceContents(List<T> target, List<T> source) {
+        if (target.equals(source)) {
+            return;
+        }
+        int common = Math.min(target.size(), source.size());
+        for (int index = 0; index < common; index++) {
+            T element = source.get(index);
+            if (!Objects.equals(target.get(index), element)) {
+                target.set(index, element);
+            }
+        }
+        for (int index = target.size() - 1; index >= source.size(); index--) {
+            target.remove(index);
+        }
+        if (source.size() > common) {
+            target.addAll(source.subList(common, source.size()));
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
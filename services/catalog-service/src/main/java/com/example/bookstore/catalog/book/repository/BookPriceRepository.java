@@ -0,0 +1,101 @@
+package com.example.bookstore.catalog.book.repository;
+
+import com.example.bookstore.catalog.book.domain.BookPriceUpdate;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+@Repository
+public class BookPriceRepository {
+
+    private static final String UPDATE_PRICE_SQL = """
+            UPDATE books
+               SET price = ?, price_currency = ?, updated_at = ?, version = version + 1
+             WHERE id = ? AND version = ?
+            """;
+
+    private static final String SELECT_VERSIONS_SQL = "SELECT id, version FROM books WHERE id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final Cache cache;
+
+    public BookPriceRepository(@NonNull JdbcTemplate jdbcTemplate,
+                               @NonNull NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                               @NonNull EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.namedParameterJdbcTemplate = Objects.requireNonNull(namedParameterJdbcTemplate,
+                "namedParameterJdbcTemplate must not be null");
+        this.cache = Objects.requireNonNull(entityManagerFactory, "entityManagerFactory must not be null")
+                .unwrap(SessionFactory.class)
+                .getCache();
+    }
+
+    public int[] updatePrices(@NonNull List<BookPriceUpdate> updates, @NonNull Instant updatedAt) {
+        OffsetDateTime timestamp = updatedAt.atOffset(ZoneOffset.UTC);
+        List<Object[]> batchArguments = updates.stream()
+                .map(update -> new Object[]{
+                        update.price().amount(),
+                        update.price().currency(),
+                        timestamp,
+                        update.id(),
+                        update.expectedVersion()
+                })
+                .toList();
+        int[] updateCounts = jdbcTemplate.batchUpdate(UPDATE_PRICE_SQL, batchArguments);
+        List<UUID> repriced = new ArrayList<>();
+        for (int index = 0; index < updates.size(); index++) {
+            if (updateCounts[index] != 0) {
+                repriced.add(updates.get(index).id());
+            }
+        }
+        evictAfterCommit(repriced);
+        return updateCounts;
+    }
+
+    public Map<UUID, Long> findVersions(@NonNull Collection<UUID> ids) {
+        Map<UUID, Long> versions = new HashMap<>();
+        if (ids.isEmpty()) {
+            return versions;
+        }
+        namedParameterJdbcTemplate.query(SELECT_VERSIONS_SQL, Map.of("ids", ids),
+                rs -> {
+                    versions.put(rs.getObject("id", UUID.class), rs.getLong("version"));
+                });
+        return versions;
+    }
+
+    // Hibernate never sees these UPDATEs, so cached book state goes once the new prices are visible.
+    private void evictAfterCommit(List<UUID> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bookIds.forEach(bookId -> cache.evictEntityData(BookEntity.class, bookId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bookIds.forEach(bookId -> cache.evictEntityData(BookEntity.class, bookId));
+            }
+        });
+    }
+}
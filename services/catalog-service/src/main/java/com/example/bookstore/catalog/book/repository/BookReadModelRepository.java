@@ -0,0 +1,256 @@
+package com.example.bookstore.catalog.book.repository;
+
+import com.example.bookstore.catalog.book.domain.BookField;
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.domain.BookLanguage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+public class BookReadModelRepository {
+
+    private static final String REFRESH_SQL = """
+            INSERT INTO book_read_model (id, title, author_ids, author_names, genres, language, price, price_currency,
+                                         normalized_price, title_tsv, authors_tsv, created_at, updated_at, version)
+            SELECT b.id,
+                   b.title,
+                   ARRAY(SELECT ba.author_id FROM book_authors ba WHERE ba.book_id = b.id ORDER BY ba.author_order),
+                   author_names.names,
+                   ARRAY(SELECT bg.genre::text FROM book_genres bg WHERE bg.book_id = b.id ORDER BY bg.genre_order),
+                   b.language,
+                   b.price,
+                   b.price_currency,
+                   round(b.price / fx.units_per_base, 4),
+                   setweight(to_tsvector(coalesce(lower(b.language), 'simple')::regconfig, coalesce(b.title, '')), 'A'),
+                   setweight(to_tsvector('simple', array_to_string(author_names.names, ' ')), 'B'),
+                   b.created_at,
+                   b.updated_at,
+                   b.version
+            FROM books b
+            CROSS JOIN LATERAL (SELECT ARRAY(SELECT a.name::text FROM book_authors ba JOIN authors a ON a.id = ba.author_id
+                                             WHERE ba.book_id = b.id ORDER BY ba.author_order) AS names) author_names
+            LEFT JOIN fx_rates fx ON fx.currency = b.price_currency
+            WHERE %s
+            ON CONFLICT (id) DO UPDATE SET
+                title = EXCLUDED.title,
+                author_ids = EXCLUDED.author_ids,
+                author_names = EXCLUDED.author_names,
+                genres = EXCLUDED.genres,
+                language = EXCLUDED.language,
+                price = EXCLUDED.price,
+                price_currency = EXCLUDED.price_currency,
+                normalized_price = EXCLUDED.normalized_price,
+                title_tsv = EXCLUDED.title_tsv,
+                authors_tsv = EXCLUDED.authors_tsv,
+                created_at = EXCLUDED.created_at,
+                updated_at = EXCLUDED.updated_at,
+                version = EXCLUDED.version
+            """;
+
+    // Diffs the genre index against the refreshed rows; an updated_at change removes and re-adds an entry, netting zero.
+    private static final String SYNC_GENRE_INDEX_SQL = """
+            WITH current_entries AS (
+                SELECT g.genre, r.updated_at, r.id AS book_id
+                  FROM book_read_model r
+                 CROSS JOIN unnest(r.genres) AS g(genre)
+                 WHERE r.id IN (:ids)
+            ), removed AS (
+                DELETE FROM book_genre_index gi
+                 WHERE gi.book_id IN (:ids)
+                   AND NOT EXISTS (SELECT 1 FROM current_entries c
+                                    WHERE c.genre = gi.genre AND c.updated_at = gi.updated_at AND c.book_id = gi.book_id)
+                RETURNING gi.genre
+            ), added AS (
+                INSERT INTO book_genre_index (genre, updated_at, book_id)
+                SELECT genre, updated_at, book_id FROM current_entries
+                ON CONFLICT DO NOTHING
+                RETURNING genre
+            )
+            INSERT INTO genre_book_counts (genre, book_count)
+            SELECT genre, sum(change)
+              FROM (SELECT genre, 1 AS change FROM added UNION ALL SELECT genre, -1 FROM removed) AS delta
+             GROUP BY genre
+            HAVING sum(change) <> 0
+            ON CONFLICT (genre) DO UPDATE SET book_count = genre_book_counts.book_count + EXCLUDED.book_count
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public BookReadModelRepository(@NonNull NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+    }
+
+    public void refresh(@NonNull Collection<UUID> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(REFRESH_SQL.formatted("b.id IN (:ids)"), Map.of("ids", bookIds));
+        jdbcTemplate.update(SYNC_GENRE_INDEX_SQL, Map.of("ids", bookIds));
+    }
+
+    public void refreshByAuthor(@NonNull UUID authorId) {
+        jdbcTemplate.update(
+                REFRESH_SQL.formatted("b.id IN (SELECT ba.book_id FROM book_authors ba WHERE ba.author_id = :authorId)"),
+                Map.of("authorId", authorId));
+    }
+
+    public Optional<BookReadModelRow> findById(@NonNull UUID id, @NonNull Set<BookField> fields) {
+        return jdbcTemplate.query(selectClause(fields) + " WHERE id = :id", Map.of("id", id), rowMapper(fields))
+                .stream()
+                .findFirst();
+    }
+
+    public Page<BookReadModelRow> findPage(@NonNull Pageable pageable, @NonNull Set<BookField> fields) {
+        String sql = selectClause(fields) + buildOrderClause(pageable.getSort()) + " LIMIT :limit OFFSET :offset";
+        List<BookReadModelRow> content = jdbcTemplate.query(sql,
+                Map.of("limit", pageable.getPageSize(), "offset", pageable.getOffset()), rowMapper(fields));
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book_read_model", Map.of(), Long.class);
+        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+    }
+
+    // Seeks idx_book_authors_author_id (author_id, book_id) past the cursor, so each page costs the same regardless of depth.
+    public List<BookReadModelRow> findByAuthor(@NonNull UUID authorId, UUID afterBookId, int limit, @NonNull Set<BookField> fields) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("authorId", authorId);
+        parameters.put("limit", limit);
+        StringBuilder sql = new StringBuilder(selectClause(fields))
+                .append(" JOIN book_authors ba ON ba.book_id = book_read_model.id WHERE ba.author_id = :authorId");
+        if (afterBookId != null) {
+            sql.append(" AND ba.book_id > :after");
+            parameters.put("after", afterBookId);
+        }
+        sql.append(" ORDER BY ba.book_id LIMIT :limit");
+        return jdbcTemplate.query(sql.toString(), parameters, rowMapper(fields));
+    }
+
+    public List<BookReadModelRow> findByGenre(@NonNull BookGenre genre,
+                                              Instant afterUpdatedAt,
+                                              UUID afterBookId,
+                                              int limit,
+                                              @NonNull Set<BookField> fields) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("genre", genre.name());
+        parameters.put("limit", limit);
+        StringBuilder page = new StringBuilder("SELECT gi.book_id AS browse_book_id, gi.updated_at AS browse_updated_at")
+                .append(" FROM book_genre_index gi WHERE gi.genre = :genre");
+        if (afterUpdatedAt != null && afterBookId != null) {
+            page.append(" AND (gi.updated_at, gi.book_id) < (:afterUpdatedAt, :afterBookId)");
+            parameters.put("afterUpdatedAt", afterUpdatedAt.atOffset(ZoneOffset.UTC));
+            parameters.put("afterBookId", afterBookId);
+        }
+        page.append(" ORDER BY gi.updated_at DESC, gi.book_id DESC LIMIT :limit");
+        String sql = selectClause(fields) + " JOIN (" + page + ") page ON page.browse_book_id = book_read_model.id"
+                + " ORDER BY page.browse_updated_at DESC, page.browse_book_id DESC";
+        return jdbcTemplate.query(sql, parameters, rowMapper(fields));
+    }
+
+    public Map<BookGenre, Long> countByGenre() {
+        Map<BookGenre, Long> counts = new EnumMap<>(BookGenre.class);
+        jdbcTemplate.query("SELECT genre, book_count FROM genre_book_counts", Map.of(), rs -> {
+            counts.put(BookGenre.valueOf(rs.getString("genre")), rs.getLong("book_count"));
+        });
+        return counts;
+    }
+
+    public long countByGenre(@NonNull BookGenre genre) {
+        List<Long> counts = jdbcTemplate.queryForList("SELECT book_count FROM genre_book_counts WHERE genre = :genre",
+                Map.of("genre", genre.name()), Long.class);
+        return counts.isEmpty() ? 0L : counts.getFirst();
+    }
+
+    private String selectClause(Set<BookField> fields) {
+        List<String> columns = new ArrayList<>(List.of("id", "version"));
+        for (BookField field : fields) {
+            switch (field) {
+                case TITLE -> columns.add("title");
+                case AUTHORS -> columns.add("author_ids");
+                case GENRES -> columns.add("genres");
+                case LANGUAGE -> columns.add("language");
+                case PRICE -> columns.addAll(List.of("price", "price_currency"));
+                case METADATA -> columns.addAll(List.of("created_at", "updated_at"));
+                default -> throw new IllegalArgumentException("Unsupported field: " + field);
+            }
+        }
+        return "SELECT " + String.join(", ", columns) + " FROM book_read_model";
+    }
+
+    private String buildOrderClause(Sort sort) {
+        List<String> clauses = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = switch (order.getProperty()) {
+                case "title" -> "title";
+                case "createdAt" -> "created_at";
+                case "updatedAt" -> "updated_at";
+                default -> throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            };
+            clauses.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        clauses.add("id ASC");
+        return " ORDER BY " + String.join(", ", clauses);
+    }
+
+    private static RowMapper<BookReadModelRow> rowMapper(Set<BookField> fields) {
+        return (rs, rowNum) -> new BookReadModelRow(
+                rs.getObject("id", UUID.class),
+                fields.contains(BookField.TITLE) ? rs.getString("title") : null,
+                fields.contains(BookField.AUTHORS) ? readArray(rs.getArray("author_ids"), UUID.class) : null,
+                null,
+                fields.contains(BookField.GENRES)
+                        ? readArray(rs.getArray("genres"), String.class).stream().map(BookGenre::valueOf).toList()
+                        : null,
+                fields.contains(BookField.LANGUAGE) ? readLanguage(rs.getString("language")) : null,
+                fields.contains(BookField.PRICE) ? rs.getBigDecimal("price") : null,
+                fields.contains(BookField.PRICE) ? rs.getString("price_currency") : null,
+                fields.contains(BookField.METADATA) ? readInstant(rs, "created_at") : null,
+                fields.contains(BookField.METADATA) ? readInstant(rs, "updated_at") : null,
+                rs.getLong("version")
+        );
+    }
+
+    private static BookLanguage readLanguage(String value) {
+        return value == null ? null : BookLanguage.valueOf(value);
+    }
+
+    private static Instant readInstant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toInstant();
+    }
+
+    private static <T> List<T> readArray(Array array, Class<T> elementType) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return Arrays.stream((Object[]) array.getArray())
+                    .filter(Objects::nonNull)
+                    .map(elementType::cast)
+                    .toList();
+        } finally {
+            array.free();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.bookstore.catalog.book.repository;
+
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.domain.BookLanguage;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record BookReadModelRow(
+        UUID id,
+        String title,
+        List<UUID> authorIds,
+        List<String> authorNames,
+        List<BookGenre> genres,
+        BookLanguage language,
+        BigDecimal price,
+        String priceCurrency,
+        Instant createdAt,
+        Instant updatedAt,
+        long version) {
+
+    public BookReadModelRow {
+        authorIds = authorIds == null ? null : List.copyOf(authorIds);
+        authorNames = authorNames == null ? null : List.copyOf(authorNames);
+        genres = genres == null ? null : List.copyOf(genres);
+    }
+}
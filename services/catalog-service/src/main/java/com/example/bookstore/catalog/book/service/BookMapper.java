@@ -17,6 +17,7 @@ public class BookMapper {
                 bookEntity.getAuthors(),
                 bookEntity.getGenres(),
                 new Money(bookEntity.getPrice(), bookEntity.getPriceCurrency()),
+                bookEntity.getLanguage(),
                 new ResourceMetadata(
                         bookEntity.getCreatedAt(), bookEntity.getUpdatedAt(), bookEntity.getVersion()
                 )
@@ -31,6 +32,7 @@ public class BookMapper {
         bookEntity.setGenres(book.genres());
         bookEntity.setPrice(book.price().amount());
         bookEntity.setPriceCurrency(book.price().currency());
+        bookEntity.setLanguage(book.language());
         bookEntity.setCreatedAt(book.metadata().createdAt());
         bookEntity.setUpdatedAt(book.metadata().updatedAt());
         bookEntity.setVersion(book.metadata().version());
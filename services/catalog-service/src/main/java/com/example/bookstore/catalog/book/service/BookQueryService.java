@@ -5,55 +5,159 @@ import com.example.bookstore.catalog.author.service.AuthorService;
 import com.example.bookstore.catalog.book.api.BookEmbedOption;
 import com.example.bookstore.catalog.book.api.BookEmbedded;
 import com.example.bookstore.catalog.book.api.BookResource;
-import com.example.bookstore.catalog.book.domain.Book;
+import com.example.bookstore.catalog.book.api.VersionedBookResource;
+import com.example.bookstore.catalog.book.domain.BookField;
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.error.BookNotFoundException;
+import com.example.bookstore.catalog.book.repository.BookReadModelRepository;
+import com.example.bookstore.catalog.book.repository.BookReadModelRow;
+import com.example.bookstore.catalog.common.CursorPageResponse;
+import com.example.bookstore.catalog.common.CursorPageResponseMeta;
+import com.example.bookstore.catalog.common.Money;
+import com.example.bookstore.catalog.common.PageCursor;
+import com.example.bookstore.catalog.common.ResourceMetadata;
+import com.example.bookstore.catalog.common.error.InvalidCursorException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class BookQueryService {
 
-    private final BookService bookService;
+    private final BookReadModelRepository bookReadModelRepository;
     private final AuthorService authorService;
 
-    public BookQueryService(@NonNull BookService bookService,
+    public BookQueryService(@NonNull BookReadModelRepository bookReadModelRepository,
                             @NonNull AuthorService authorService) {
-        this.bookService = Objects.requireNonNull(bookService, "bookService must not be null");
+        this.bookReadModelRepository = Objects.requireNonNull(bookReadModelRepository,
+                "bookReadModelRepository must not be null");
         this.authorService = Objects.requireNonNull(authorService, "authorService must not be null");
     }
 
     @Transactional(readOnly = true)
-    public Page<BookResource> list(@NonNull Pageable pageable, @NonNull EnumSet<BookEmbedOption> embedOptions) {
-        Page<Book> books = bookService.list(pageable);
-        Map<UUID, Author> authors = resolveAuthors(books.getContent(), embedOptions);
-        return books.map(book -> toResource(book, authors, embedOptions));
+    public Page<BookResource> list(@NonNull Pageable pageable,
+                                   @NonNull EnumSet<BookEmbedOption> embedOptions,
+                                   @NonNull EnumSet<BookField> fields) {
+        Page<BookReadModelRow> rows = bookReadModelRepository.findPage(pageable, columnsFor(embedOptions, fields));
+        Map<UUID, Author> authors = resolveAuthors(rows.getContent(), embedOptions);
+        return rows.map(row -> toResource(row, authors, embedOptions, fields));
     }
 
     @Transactional(readOnly = true)
-    public BookResource requireById(@NonNull UUID id, @NonNull EnumSet<BookEmbedOption> embedOptions) {
-        Book book = bookService.requireById(id);
-        Map<UUID, Author> authors = resolveAuthors(List.of(book), embedOptions);
-        return toResource(book, authors, embedOptions);
+    public CursorPageResponse<BookResource> listByAuthor(@NonNull UUID authorId,
+                                                         PageCursor after,
+                                                         int pageSize,
+                                                         @NonNull EnumSet<BookEmbedOption> embedOptions,
+                                                         @NonNull EnumSet<BookField> fields) {
+        UUID afterBookId = after == null ? null : cursorUuid(after, 0);
+        // One extra row tells whether another page follows without counting the author's books.
+        List<BookReadModelRow> rows = bookReadModelRepository.findByAuthor(
+                authorId, afterBookId, pageSize + 1, columnsFor(embedOptions, fields));
+        if (rows.isEmpty() && after == null) {
+            authorService.requireById(authorId);
+        }
+        return toCursorPage(rows, pageSize, null, embedOptions, fields, row -> PageCursor.of(row.id().toString()));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<BookResource> listByGenre(@NonNull BookGenre genre,
+                                                        PageCursor after,
+                                                        int pageSize,
+                                                        @NonNull EnumSet<BookEmbedOption> embedOptions,
+                                                        @NonNull EnumSet<BookField> fields) {
+        Instant afterUpdatedAt = null;
+        UUID afterBookId = null;
+        if (after != null) {
+            try {
+                afterUpdatedAt = Instant.parse(after.value(0));
+            } catch (DateTimeParseException ex) {
+                throw new InvalidCursorException(after.encode());
+            }
+            afterBookId = cursorUuid(after, 1);
+        }
+        // The cursor is the index key, so updated_at is read even when metadata is not requested.
+        Set<BookField> columns = columnsFor(embedOptions, fields);
+        columns.add(BookField.METADATA);
+        List<BookReadModelRow> rows = bookReadModelRepository.findByGenre(genre, afterUpdatedAt, afterBookId, pageSize + 1, columns);
+        Long total = after == null ? bookReadModelRepository.countByGenre(genre) : null;
+        return toCursorPage(rows, pageSize, total, embedOptions, fields,
+                row -> PageCursor.of(row.updatedAt().toString(), row.id().toString()));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<BookGenre, Long> countByGenre() {
+        Map<BookGenre, Long> counts = new EnumMap<>(BookGenre.class);
+        for (BookGenre genre : BookGenre.values()) {
+            counts.put(genre, 0L);
+        }
+        counts.putAll(bookReadModelRepository.countByGenre());
+        return counts;
+    }
+
+    @Transactional(readOnly = true)
+    public VersionedBookResource requireById(@NonNull UUID id,
+                                             @NonNull EnumSet<BookEmbedOption> embedOptions,
+                                             @NonNull EnumSet<BookField> fields) {
+        BookReadModelRow row = bookReadModelRepository.findById(id, columnsFor(embedOptions, fields))
+                .orElseThrow(() -> new BookNotFoundException(id));
+        Map<UUID, Author> authors = resolveAuthors(List.of(row), embedOptions);
+        return new VersionedBookResource(toResource(row, authors, embedOptions, fields), row.version());
+    }
+
+    private CursorPageResponse<BookResource> toCursorPage(List<BookReadModelRow> rows,
+                                                          int pageSize,
+                                                          Long total,
+                                                          EnumSet<BookEmbedOption> embedOptions,
+                                                          EnumSet<BookField> fields,
+                                                          Function<BookReadModelRow, PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<BookReadModelRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Map<UUID, Author> authors = resolveAuthors(page, embedOptions);
+        List<BookResource> content = page.stream()
+                .map(row -> toResource(row, authors, embedOptions, fields))
+                .toList();
+        String next = hasNext ? cursorOf.apply(page.getLast()).encode() : null;
+        return new CursorPageResponse<>(content, new CursorPageResponseMeta(pageSize, total, next));
+    }
+
+    private static UUID cursorUuid(PageCursor cursor, int index) {
+        try {
+            return UUID.fromString(cursor.value(index));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor.encode());
+        }
+    }
+
+    private Set<BookField> columnsFor(EnumSet<BookEmbedOption> embedOptions, EnumSet<BookField> fields) {
+        EnumSet<BookField> columns = EnumSet.copyOf(fields);
+        if (embedOptions.contains(BookEmbedOption.AUTHORS)) {
+            columns.add(BookField.AUTHORS);
+        }
+        return columns;
     }
 
-    private Map<UUID, Author> resolveAuthors(Collection<Book> books, EnumSet<BookEmbedOption> embedOptions) {
+    private Map<UUID, Author> resolveAuthors(Collection<BookReadModelRow> rows, EnumSet<BookEmbedOption> embedOptions) {
         if (!embedOptions.contains(BookEmbedOption.AUTHORS)) {
             return Map.of();
         }
 
-        Set<UUID> authorIds = books.stream()
-                .flatMap(book -> book.authors().stream())
+        Set<UUID> authorIds = rows.stream()
+                .flatMap(row -> row.authorIds().stream())
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
         if (authorIds.isEmpty()) {
@@ -64,10 +168,13 @@ public class BookQueryService {
                 .collect(Collectors.toMap(Author::id, author -> author));
     }
 
-    private BookResource toResource(Book book, Map<UUID, Author> authorsById, EnumSet<BookEmbedOption> embedOptions) {
+    private BookResource toResource(BookReadModelRow row,
+                                    Map<UUID, Author> authorsById,
+                                    EnumSet<BookEmbedOption> embedOptions,
+                                    EnumSet<BookField> fields) {
         BookEmbedded embedded = null;
-        if (embedOptions.contains(BookEmbedOption.AUTHORS) && !book.authors().isEmpty()) {
-            List<Author> authors = book.authors().stream()
+        if (embedOptions.contains(BookEmbedOption.AUTHORS) && !row.authorIds().isEmpty()) {
+            List<Author> authors = row.authorIds().stream()
                     .map(authorsById::get)
                     .filter(Objects::nonNull)
                     .toList();
@@ -76,12 +183,15 @@ public class BookQueryService {
             }
         }
         return new BookResource(
-                book.id(),
-                book.title(),
-                book.authors(),
-                book.genres(),
-                book.price(),
-                book.metadata(),
+                row.id(),
+                fields.contains(BookField.TITLE) ? row.title() : null,
+                fields.contains(BookField.AUTHORS) ? row.authorIds() : null,
+                fields.contains(BookField.GENRES) ? row.genres() : null,
+                fields.contains(BookField.LANGUAGE) ? row.language() : null,
+                fields.contains(BookField.PRICE) ? new Money(row.price(), row.priceCurrency()) : null,
+                fields.contains(BookField.METADATA)
+                        ? new ResourceMetadata(row.createdAt(), row.updatedAt(), row.version())
+                        : null,
                 embedded
         );
     }
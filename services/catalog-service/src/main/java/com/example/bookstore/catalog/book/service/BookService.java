@@ -1,14 +1,22 @@
 package com.example.bookstore.catalog.book.service;
 
 import com.example.bookstore.catalog.book.domain.Book;
+import com.example.bookstore.catalog.book.domain.BookPriceUpdate;
+import com.example.bookstore.catalog.book.domain.BookPriceUpdateResult;
 import com.example.bookstore.catalog.book.domain.BookRequest;
 import com.example.bookstore.catalog.book.error.BookNotFoundException;
+import com.example.bookstore.catalog.book.event.BookChangedEvent;
+import com.example.bookstore.catalog.book.error.InvalidPriceUpdateException;
 import com.example.bookstore.catalog.book.repository.BookEntity;
+import com.example.bookstore.catalog.book.repository.BookPriceRepository;
+import com.example.bookstore.catalog.book.repository.BookReadModelRepository;
 import com.example.bookstore.catalog.book.repository.BookRepository;
 import com.example.bookstore.catalog.common.Money;
 import com.example.bookstore.catalog.common.error.PreconditionFailedException;
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.lang.NonNull;
@@ -16,17 +24,35 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 public class BookService {
     private static final Logger log = LoggerFactory.getLogger(BookService.class);
     private final BookRepository bookRepository;
-
-    public BookService(@NonNull BookRepository bookRepository) {
+    private final BookPriceRepository bookPriceRepository;
+    private final BookReadModelRepository bookReadModelRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    public BookService(@NonNull BookRepository bookRepository,
+                       @NonNull BookPriceRepository bookPriceRepository,
+                       @NonNull BookReadModelRepository bookReadModelRepository,
+                       @NonNull ApplicationEventPublisher eventPublisher,
+                       @NonNull Clock clock) {
         this.bookRepository = bookRepository;
+        this.bookPriceRepository = bookPriceRepository;
+        this.bookReadModelRepository = bookReadModelRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
     }
 
     @Transactional(readOnly = true)
@@ -52,9 +78,13 @@ public class BookService {
         bookEntity.setTitle(bookRequest.title());
         bookEntity.setAuthors(bookRequest.authorIds().stream().distinct().toList());
         bookEntity.setGenres(bookRequest.genres());
+        bookEntity.setLanguage(bookRequest.language());
         applyPrice(bookEntity, bookRequest.price());
         BookEntity persisted = bookRepository.saveAndFlush(bookEntity);
-        log.info("book-service: bookId='{}' created with bookRequest='{}'", persisted.getId(), bookRequest);
+        bookReadModelRepository.refresh(List.of(persisted.getId()));
+        eventPublisher.publishEvent(new BookChangedEvent(persisted.getId(), persisted.getVersion(), CatalogChangeType.CREATED));
+        log.info("book-service: bookId='{}' created at version='{}'", persisted.getId(), persisted.getVersion());
+        log.debug("book-service: bookId='{}' created with bookRequest='{}'", persisted.getId(), bookRequest);
         return BookMapper.bookEntityToBook(persisted);
     }
 
@@ -79,16 +109,60 @@ public class BookService {
         ensureExpectedVersion(existing, expectedVersion);
         applyUpdates(existing, updated);
         BookEntity persisted = bookRepository.saveAndFlush(existing);
-        log.info("book-service: bookId='{}' updated with bookRequest='{}'", id, updated);
+        bookReadModelRepository.refresh(List.of(id));
+        eventPublisher.publishEvent(new BookChangedEvent(id, persisted.getVersion(), CatalogChangeType.UPDATED));
+        log.info("book-service: bookId='{}' updated to version='{}'", id, persisted.getVersion());
+        log.debug("book-service: bookId='{}' updated with bookRequest='{}'", id, updated);
         return BookMapper.bookEntityToBook(persisted);
     }
 
+    @Transactional
+    public List<BookPriceUpdateResult> updatePrices(@NonNull List<BookPriceUpdate> updates) {
+        Objects.requireNonNull(updates, "updates must not be null");
+        Set<UUID> seen = new HashSet<>();
+        for (BookPriceUpdate update : updates) {
+            if (!seen.add(update.id())) {
+                throw new InvalidPriceUpdateException("Book %s is repriced more than once in the same batch".formatted(update.id()));
+            }
+        }
+
+        // A stable lock order keeps concurrent batches touching the same books from deadlocking.
+        List<BookPriceUpdate> ordered = updates.stream()
+                .sorted(Comparator.comparing(BookPriceUpdate::id))
+                .toList();
+        int[] updateCounts = bookPriceRepository.updatePrices(ordered, clock.instant());
+
+        List<UUID> rejected = new ArrayList<>();
+        for (int index = 0; index < ordered.size(); index++) {
+            if (updateCounts[index] == 0) {
+                rejected.add(ordered.get(index).id());
+            }
+        }
+        Map<UUID, Long> currentVersions = bookPriceRepository.findVersions(rejected);
+        Set<UUID> rejectedIds = Set.copyOf(rejected);
+        List<BookPriceUpdate> applied = ordered.stream()
+                .filter(update -> !rejectedIds.contains(update.id()))
+                .toList();
+        bookReadModelRepository.refresh(applied.stream().map(BookPriceUpdate::id).toList());
+        applied.forEach(update -> eventPublisher.publishEvent(
+                new BookChangedEvent(update.id(), update.expectedVersion() + 1, CatalogChangeType.UPDATED)));
+
+        List<BookPriceUpdateResult> results = updates.stream()
+                .map(update -> toPriceUpdateResult(update, rejectedIds, currentVersions))
+                .toList();
+        log.info("book-service: repriced {} of {} books", updates.size() - rejected.size(), updates.size());
+        return results;
+    }
+
     @Transactional
     public void delete(@NonNull UUID id, long expectedVersion) {
         BookEntity existing = requireEntityById(id);
         ensureExpectedVersion(existing, expectedVersion);
         bookRepository.delete(existing);
         bookRepository.flush();
+        // The read model row is gone with the book; refreshing drops its genre index entries and counts.
+        bookReadModelRepository.refresh(List.of(id));
+        eventPublisher.publishEvent(new BookChangedEvent(id, expectedVersion, CatalogChangeType.DELETED));
         log.info("book-service: bookId='{}' deleted at expectedVersion='{}'", id, expectedVersion);
     }
 
@@ -97,10 +171,16 @@ public class BookService {
         delete(book.id(), book.metadata().version());
     }
 
+    @Transactional
+    public void refreshReadModelForAuthor(@NonNull UUID authorId) {
+        bookReadModelRepository.refreshByAuthor(authorId);
+    }
+
     private void applyUpdates(@NonNull BookEntity existing, @NonNull BookRequest updated) {
         existing.setTitle(updated.title());
         existing.setAuthors(updated.authorIds().stream().distinct().toList());
         existing.setGenres(updated.genres());
+        existing.setLanguage(updated.language());
         applyPrice(existing, updated.price());
     }
 
@@ -109,6 +189,20 @@ public class BookService {
         entity.setPriceCurrency(price.currency());
     }
 
+    private BookPriceUpdateResult toPriceUpdateResult(@NonNull BookPriceUpdate update,
+                                                      @NonNull Set<UUID> rejectedIds,
+                                                      @NonNull Map<UUID, Long> currentVersions) {
+        if (!rejectedIds.contains(update.id())) {
+            return new BookPriceUpdateResult(update.id(), BookPriceUpdateResult.Outcome.UPDATED,
+                    update.expectedVersion() + 1);
+        }
+        Long currentVersion = currentVersions.get(update.id());
+        if (currentVersion == null) {
+            return new BookPriceUpdateResult(update.id(), BookPriceUpdateResult.Outcome.NOT_FOUND, null);
+        }
+        return new BookPriceUpdateResult(update.id(), BookPriceUpdateResult.Outcome.VERSION_MISMATCH, currentVersion);
+    }
+
     private void ensureExpectedVersion(@NonNull BookEntity entity, long expectedVersion) {
         if (entity.getVersion() != expectedVersion) {
             throw new PreconditionFailedException(
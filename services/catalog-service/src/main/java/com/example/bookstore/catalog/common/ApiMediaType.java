@@ -3,6 +3,7 @@ package com.example.bookstore.catalog.common;
 public final class ApiMediaType {
 
     public static final String V1_JSON = "application/vnd.vbookstore.catalog+json;version=1";
+    public static final String V1_CBOR = "application/vnd.vbookstore.catalog+cbor;version=1";
     public static final String MERGE_PATCH_JSON = "application/merge-patch+json";
 
     private ApiMediaType() {
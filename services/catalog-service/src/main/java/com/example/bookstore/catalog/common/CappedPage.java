@@ -0,0 +1,30 @@
+package com.example.bookstore.catalog.common;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of a result that stops at a fixed number of rows although more match. The total is that cap, so paging ends
+ * where the result does. Mapping keeps the marker.
+ */
+public class CappedPage<T> extends PageImpl<T> {
+
+    public CappedPage(@NonNull List<T> content, @NonNull Pageable pageable, long cappedTotal) {
+        super(content, pageable, cappedTotal);
+    }
+
+    public static boolean isCapped(Page<?> page) {
+        return page instanceof CappedPage<?>;
+    }
+
+    @Override
+    @NonNull
+    public <U> Page<U> map(@NonNull Function<? super T, ? extends U> converter) {
+        return new CappedPage<>(getConvertedContent(converter), getPageable(), getTotalElements());
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.bookstore.catalog.common;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(List<T> content, CursorPageResponseMeta meta) {
+
+    public CursorPageResponse {
+        content = content == null ? List.of() : List.copyOf(content);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.bookstore.catalog.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorPageResponseMeta(int size, Long totalElements, String next) {
+}
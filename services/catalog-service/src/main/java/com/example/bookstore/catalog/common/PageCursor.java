@@ -0,0 +1,47 @@
+package com.example.bookstore.catalog.common;
+
+import com.example.bookstore.catalog.common.error.InvalidCursorException;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+public record PageCursor(List<String> values) {
+
+    private static final String SEPARATOR = "\u001f";
+
+    public PageCursor {
+        values = List.copyOf(Objects.requireNonNull(values, "values must not be null"));
+    }
+
+    public static PageCursor of(String... values) {
+        return new PageCursor(List.of(values));
+    }
+
+    @NonNull
+    public static PageCursor decode(@NonNull String token, int expectedValues) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            List<String> values = List.of(decoded.split(SEPARATOR, -1));
+            if (values.size() != expectedValues) {
+                throw new InvalidCursorException(token);
+            }
+            return new PageCursor(values);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    @NonNull
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(SEPARATOR, values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @NonNull
+    public String value(int index) {
+        return values.get(index);
+    }
+}
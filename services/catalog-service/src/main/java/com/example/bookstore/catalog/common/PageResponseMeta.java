@@ -1,4 +1,12 @@
 package com.example.bookstore.catalog.common;
 
-public record PageResponseMeta(long totalElements, int totalPages, int page, int size) {
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public record PageResponseMeta(long totalElements, int totalPages, int page, int size,
+                               @JsonInclude(JsonInclude.Include.NON_NULL) String next,
+                               @JsonInclude(JsonInclude.Include.NON_NULL) Boolean totalCapped) {
+
+    public PageResponseMeta(long totalElements, int totalPages, int page, int size) {
+        this(totalElements, totalPages, page, size, null, null);
+    }
 }
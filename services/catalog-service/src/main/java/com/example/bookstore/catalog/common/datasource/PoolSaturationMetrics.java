@@ -0,0 +1,58 @@
+package com.example.bookstore.catalog.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+public class PoolSaturationMetrics implements MeterBinder {
+
+    private final ListableBeanFactory beanFactory;
+
+    public PoolSaturationMetrics(@NonNull ListableBeanFactory beanFactory) {
+        this.beanFactory = Objects.requireNonNull(beanFactory, "beanFactory must not be null");
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        beanFactory.getBeansOfType(DataSource.class, false, false).values().stream()
+                .map(PoolSaturationMetrics::unwrapHikari)
+                .filter(Objects::nonNull)
+                .forEach(pool -> pools.put(pool.getPoolName(), pool));
+        beanFactory.getBeanProvider(ReplicaPool.class).ifAvailable(replicaPool -> replicaPool.replicas()
+                .forEach(replica -> pools.put(replica.name(), replica.dataSource())));
+
+        pools.forEach((name, pool) -> Gauge.builder("catalog.datasource.pool.saturation", pool, PoolSaturationMetrics::saturation)
+                .description("Share of the pool's maximum connections currently in use")
+                .tag("pool", String.valueOf(name))
+                .register(registry));
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean == null || pool.getMaximumPoolSize() <= 0) {
+            return Double.NaN;
+        }
+        return (double) mxBean.getActiveConnections() / pool.getMaximumPoolSize();
+    }
+}
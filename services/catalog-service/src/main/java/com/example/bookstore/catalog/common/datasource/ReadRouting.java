@@ -0,0 +1,50 @@
+package com.example.bookstore.catalog.common.datasource;
+
+import org.springframework.lang.NonNull;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private ReadRouting() {
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get();
+    }
+
+    @NonNull
+    public static PrimaryScope pinToPrimary() {
+        boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        return new PrimaryScope(previous);
+    }
+
+    public static <T> T onPrimary(@NonNull Supplier<T> action) {
+        Objects.requireNonNull(action, "action must not be null");
+        try (PrimaryScope ignored = pinToPrimary()) {
+            return action.get();
+        }
+    }
+
+    public static final class PrimaryScope implements AutoCloseable {
+
+        private final boolean previous;
+
+        private PrimaryScope(boolean previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous) {
+                PRIMARY_REQUIRED.set(Boolean.TRUE);
+            } else {
+                PRIMARY_REQUIRED.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.bookstore.catalog.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.lang.NonNull;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaPool implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPool.class);
+
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Duration lagCheckInterval;
+    private final Map<String, Duration> observedLag = new ConcurrentHashMap<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final ScheduledExecutorService lagProbe;
+
+    public ReplicaPool(@NonNull List<Replica> replicas,
+                       @NonNull Duration maxLag,
+                       @NonNull Duration lagCheckInterval,
+                       @NonNull MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(Objects.requireNonNull(replicas, "replicas must not be null"));
+        this.maxLag = Objects.requireNonNull(maxLag, "maxLag must not be null");
+        this.lagCheckInterval = Objects.requireNonNull(lagCheckInterval, "lagCheckInterval must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.replicas.forEach(replica -> Gauge.builder("catalog.datasource.replica.lag", this, pool -> pool.lagSeconds(replica.name()))
+                .description("Replication lag observed on a read replica")
+                .baseUnit("seconds")
+                .tag("replica", replica.name())
+                .register(meterRegistry));
+        this.lagProbe = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-replica-lag-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @NonNull
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    @NonNull
+    public Optional<String> nextAvailable() {
+        if (replicas.isEmpty()) {
+            return Optional.empty();
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), replicas.size());
+        for (int offset = 0; offset < replicas.size(); offset++) {
+            Replica candidate = replicas.get((start + offset) % replicas.size());
+            Duration lag = observedLag.get(candidate.name());
+            if (lag != null && lag.compareTo(maxLag) <= 0) {
+                return Optional.of(candidate.name());
+            }
+        }
+        return Optional.empty();
+    }
+
+    public void refreshLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+                resultSet.next();
+                observedLag.put(replica.name(), Duration.ofMillis(Math.round(resultSet.getDouble(1) * 1000)));
+            } catch (SQLException | RuntimeException ex) {
+                if (observedLag.remove(replica.name()) != null) {
+                    log.warn("replica-pool: replica='{}' removed from rotation: {}", replica.name(), ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private double lagSeconds(String replicaName) {
+        Duration lag = observedLag.get(replicaName);
+        return lag == null ? Double.NaN : lag.toMillis() / 1000.0;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        refreshLag();
+        long intervalMillis = lagCheckInterval.toMillis();
+        lagProbe.scheduleWithFixedDelay(this::refreshLag, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        lagProbe.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource().close());
+    }
+
+    public record Replica(String name, HikariDataSource dataSource) {
+
+        public Replica {
+            Objects.requireNonNull(name, "name must not be null");
+            Objects.requireNonNull(dataSource, "dataSource must not be null");
+        }
+    }
+}
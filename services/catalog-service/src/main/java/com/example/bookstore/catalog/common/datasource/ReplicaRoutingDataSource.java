@@ -0,0 +1,57 @@
+package com.example.bookstore.catalog.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+    private final Map<String, Counter> routedConnections = new HashMap<>();
+
+    public ReplicaRoutingDataSource(@NonNull DataSource primary,
+                                    @NonNull ReplicaPool replicaPool,
+                                    @NonNull MeterRegistry meterRegistry) {
+        Objects.requireNonNull(primary, "primary must not be null");
+        this.replicaPool = Objects.requireNonNull(replicaPool, "replicaPool must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        routedConnections.put(PRIMARY, routedConnectionCounter(meterRegistry, PRIMARY));
+        replicaPool.replicas().forEach(replica -> {
+            targets.put(replica.name(), replica.dataSource());
+            routedConnections.put(replica.name(), routedConnectionCounter(meterRegistry, replica.name()));
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = PRIMARY;
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !ReadRouting.isPrimaryRequired()) {
+            target = replicaPool.nextAvailable().orElse(PRIMARY);
+        }
+        routedConnections.get(target).increment();
+        return target;
+    }
+
+    private static Counter routedConnectionCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("catalog.datasource.routed.connections")
+                .description("Connections handed out per datasource pool")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.bookstore.catalog.common.error;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidCursorException extends ResponseStatusException {
+
+    public InvalidCursorException(String value) {
+        super(HttpStatus.BAD_REQUEST, "Invalid page cursor: " + value);
+    }
+}
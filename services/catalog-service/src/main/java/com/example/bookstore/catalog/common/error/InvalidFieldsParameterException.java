@@ -0,0 +1,11 @@
+package com.example.bookstore.catalog.common.error;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidFieldsParameterException extends ResponseStatusException {
+
+    public InvalidFieldsParameterException(String value) {
+        super(HttpStatus.BAD_REQUEST, "Unsupported fields parameter value: " + value);
+    }
+}
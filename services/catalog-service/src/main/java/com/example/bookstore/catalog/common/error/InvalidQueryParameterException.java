@@ -0,0 +1,11 @@
+package com.example.bookstore.catalog.common.error;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidQueryParameterException extends ResponseStatusException {
+
+    public InvalidQueryParameterException(String reason) {
+        super(HttpStatus.BAD_REQUEST, reason);
+    }
+}
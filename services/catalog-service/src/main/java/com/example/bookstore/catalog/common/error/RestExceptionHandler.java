@@ -3,6 +3,7 @@ package com.example.bookstore.catalog.common.error;
 import com.example.bookstore.catalog.author.error.AuthorNotFoundException;
 import com.example.bookstore.catalog.book.error.BookNotFoundException;
 import com.example.bookstore.catalog.book.error.InvalidEmbedParameterException;
+import com.example.bookstore.catalog.book.error.InvalidPriceUpdateException;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.persistence.OptimisticLockException;
@@ -33,7 +34,8 @@ public class RestExceptionHandler {
     }
 
     @ExceptionHandler({PreconditionFailedException.class, ResourceConflictException.class,
-            InvalidEmbedParameterException.class})
+            InvalidEmbedParameterException.class, InvalidFieldsParameterException.class, InvalidPriceUpdateException.class,
+            InvalidCursorException.class, InvalidQueryParameterException.class})
     public ResponseEntity<ProblemResponse> handlePreconditionFailures(ResponseStatusException ex) {
         HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
         if (status == null) {
@@ -36,6 +36,8 @@ public final class ETagHeaderSupport {
                 .map(ETagHeaderSupport::stripQuotes)
                 .filter(value -> value.startsWith(prefix))
                 .map(value -> value.substring(prefix.length()))
+                // Representation-specific tags carry the same version followed by ':' and the representation.
+                .map(value -> value.contains(":") ? value.substring(0, value.indexOf(':')) : value)
                 .map(ETagHeaderSupport::parseLongSafely)
                 .filter(Objects::nonNull)
                 .findFirst()
@@ -15,4 +15,14 @@ public class StrongETagGenerator {
         Objects.requireNonNull(resourceId, "resourceId must not be null");
         return QUOTE + resourceId + ':' + version + QUOTE;
     }
+
+    /**
+     * Tags one representation of the resource, such as {@code cbor}, so it never shares an entity tag with another
+     * representation of the same version.
+     */
+    @NonNull public String generate(@NonNull UUID resourceId, long version, @NonNull String representation) {
+        Objects.requireNonNull(resourceId, "resourceId must not be null");
+        Objects.requireNonNull(representation, "representation must not be null");
+        return QUOTE + resourceId + ':' + version + ':' + representation + QUOTE;
+    }
 }
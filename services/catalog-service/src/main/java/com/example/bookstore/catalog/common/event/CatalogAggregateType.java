@@ -0,0 +1,6 @@
+package com.example.bookstore.catalog.common.event;
+
+public enum CatalogAggregateType {
+    BOOK,
+    AUTHOR
+}
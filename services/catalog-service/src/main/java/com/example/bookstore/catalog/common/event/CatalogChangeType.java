@@ -0,0 +1,7 @@
+package com.example.bookstore.catalog.common.event;
+
+public enum CatalogChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
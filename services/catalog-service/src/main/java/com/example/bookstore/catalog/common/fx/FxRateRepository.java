@@ -0,0 +1,73 @@
+package com.example.bookstore.catalog.common.fx;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Repository
+public class FxRateRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO fx_rates (currency, units_per_base, updated_at)
+            VALUES (:currency, :unitsPerBase, now())
+            ON CONFLICT (currency) DO UPDATE SET units_per_base = EXCLUDED.units_per_base, updated_at = EXCLUDED.updated_at
+            WHERE fx_rates.units_per_base IS DISTINCT FROM EXCLUDED.units_per_base
+            """;
+
+    // Same expression as the read model refresh, so rows only change when their rate did.
+    private static final String RENORMALIZE_SQL = """
+            UPDATE book_read_model b
+               SET normalized_price = n.normalized_price
+              FROM (SELECT r.id, round(r.price / f.units_per_base, 4) AS normalized_price
+                      FROM book_read_model r
+                      LEFT JOIN fx_rates f ON f.currency = r.price_currency) n
+             WHERE n.id = b.id
+               AND b.normalized_price IS DISTINCT FROM n.normalized_price
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public FxRateRepository(@NonNull NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+    }
+
+    @NonNull
+    public Map<String, BigDecimal> findAll() {
+        Map<String, BigDecimal> rates = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT currency, units_per_base FROM fx_rates ORDER BY currency", Map.of(),
+                rs -> {
+                    rates.put(rs.getString("currency"), rs.getBigDecimal("units_per_base"));
+                });
+        return rates;
+    }
+
+    /**
+     * Writes the given rates and returns how many actually changed.
+     */
+    public int upsert(@NonNull Map<String, BigDecimal> unitsPerBase) {
+        if (unitsPerBase.isEmpty()) {
+            return 0;
+        }
+        SqlParameterSource[] batch = unitsPerBase.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("currency", entry.getKey())
+                        .addValue("unitsPerBase", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        return Arrays.stream(jdbcTemplate.batchUpdate(UPSERT_SQL, batch))
+                .map(count -> count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0))
+                .sum();
+    }
+
+    public int renormalizeReadModel() {
+        return jdbcTemplate.update(RENORMALIZE_SQL, Map.of());
+    }
+}
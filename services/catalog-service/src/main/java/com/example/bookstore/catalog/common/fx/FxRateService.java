@@ -0,0 +1,130 @@
+package com.example.bookstore.catalog.common.fx;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the {@code fx_rates} table in sync with a local rates file and serves an in-memory {@link FxRateTable}
+ * snapshot of it. Without a file location the table itself is the rate source.
+ */
+@Component
+public class FxRateService implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(FxRateService.class);
+
+    private final FxRateRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ResourceLoader resourceLoader;
+    private final String ratesLocation;
+    private final Duration refreshInterval;
+    private final ScheduledExecutorService executor;
+    private volatile FxRateTable table = FxRateTable.empty();
+    private volatile Map<String, BigDecimal> appliedRates = Map.of();
+
+    public FxRateService(@NonNull FxRateRepository repository,
+                         @NonNull PlatformTransactionManager transactionManager,
+                         @NonNull ResourceLoader resourceLoader,
+                         @Value("${catalog.fx.rates-location:classpath:fx/rates.csv}") String ratesLocation,
+                         @NonNull @Value("${catalog.fx.refresh-interval:PT1H}") Duration refreshInterval) {
+        this.repository = Objects.requireNonNull(repository, "repository must not be null");
+        this.transactionTemplate = new TransactionTemplate(
+                Objects.requireNonNull(transactionManager, "transactionManager must not be null"));
+        this.resourceLoader = Objects.requireNonNull(resourceLoader, "resourceLoader must not be null");
+        this.ratesLocation = ratesLocation;
+        this.refreshInterval = Objects.requireNonNull(refreshInterval, "refreshInterval must not be null");
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-fx-rates");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @NonNull
+    public FxRateTable rates() {
+        return table;
+    }
+
+    public void reload() {
+        try {
+            Map<String, BigDecimal> fileRates = readRatesFile();
+            Map<String, BigDecimal> rates = transactionTemplate.execute(status -> {
+                repository.upsert(fileRates);
+                Map<String, BigDecimal> stored = repository.findAll();
+                // Rates edited in fx_rates directly or by another replica count as much as changes from the file.
+                if (!stored.equals(appliedRates)) {
+                    int renormalized = repository.renormalizeReadModel();
+                    log.info("fx-rates: rates changed, renormalized {} books", renormalized);
+                }
+                return stored;
+            });
+            appliedRates = Objects.requireNonNull(rates, "rates must not be null");
+            table = FxRateTable.of(rates);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("fx-rates: reload failed, keeping {} known currencies: {}", table.currencies().size(), ex.getMessage());
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        reload();
+        long intervalMillis = refreshInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::reload, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private Map<String, BigDecimal> readRatesFile() throws IOException {
+        if (ratesLocation == null || ratesLocation.isBlank()) {
+            return Map.of();
+        }
+        Resource resource = resourceLoader.getResource(ratesLocation);
+        if (!resource.exists()) {
+            log.warn("fx-rates: rates file '{}' not found, using stored rates", ratesLocation);
+            return Map.of();
+        }
+        Map<String, BigDecimal> rates = new LinkedHashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = trimmed.split(",");
+                if (columns.length != 2) {
+                    throw new IllegalArgumentException("Malformed rate line: " + trimmed);
+                }
+                rates.put(columns[0].strip().toUpperCase(Locale.ROOT), new BigDecimal(columns[1].strip()));
+            }
+        }
+        // Validates codes and rates before anything is written.
+        FxRateTable.of(rates);
+        return rates;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.bookstore.catalog.common.fx;
+
+import com.example.bookstore.catalog.common.Money;
+import org.springframework.lang.NonNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Immutable snapshot of exchange rates against {@link #BASE_CURRENCY}. Rates are held as fixed-point longs in a
+ * flat array indexed directly by the three-letter currency code, so converting a page needs no map lookups or
+ * boxing.
+ */
+public final class FxRateTable {
+
+    public static final String BASE_CURRENCY = Money.DEFAULT_CURRENCY;
+    public static final int RATE_SCALE = 8;
+    public static final int NORMALIZED_SCALE = 4;
+
+    private static final int SLOTS = 26 * 26 * 26;
+    private static final FxRateTable EMPTY = new FxRateTable(new long[SLOTS], Set.of());
+
+    private final long[] unitsPerBase;
+    private final Set<String> currencies;
+
+    private FxRateTable(long[] unitsPerBase, Set<String> currencies) {
+        this.unitsPerBase = unitsPerBase;
+        this.currencies = currencies;
+    }
+
+    @NonNull
+    public static FxRateTable empty() {
+        return EMPTY;
+    }
+
+    @NonNull
+    public static FxRateTable of(@NonNull Map<String, BigDecimal> unitsPerBase) {
+        long[] rates = new long[SLOTS];
+        Set<String> currencies = new TreeSet<>();
+        unitsPerBase.forEach((currency, rate) -> {
+            int slot = slot(currency);
+            if (slot < 0 || rate == null || rate.signum() <= 0) {
+                throw new IllegalArgumentException("Invalid exchange rate for '" + currency + "': " + rate);
+            }
+            rates[slot] = rate.setScale(RATE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            currencies.add(currency.toUpperCase(Locale.ROOT));
+        });
+        int base = slot(BASE_CURRENCY);
+        if (rates[base] == 0) {
+            rates[base] = BigDecimal.ONE.setScale(RATE_SCALE).unscaledValue().longValueExact();
+            currencies.add(BASE_CURRENCY);
+        }
+        return new FxRateTable(rates, Set.copyOf(currencies));
+    }
+
+    @NonNull
+    public Set<String> currencies() {
+        return currencies;
+    }
+
+    public boolean supports(String currency) {
+        int slot = slot(currency);
+        return slot >= 0 && unitsPerBase[slot] != 0;
+    }
+
+    /**
+     * Converts every price on a page into {@code targetCurrency}. Entries that are {@code null} or priced in a currency
+     * without a rate map to {@code null}.
+     */
+    @NonNull
+    public List<Money> convertAll(@NonNull List<Money> prices, @NonNull String targetCurrency) {
+        int targetSlot = slot(targetCurrency);
+        long targetRate = targetSlot < 0 ? 0 : unitsPerBase[targetSlot];
+        if (targetRate == 0) {
+            throw new IllegalArgumentException("No exchange rate for " + targetCurrency);
+        }
+        String target = targetCurrency.toUpperCase(Locale.ROOT);
+        BigDecimal targetFactor = BigDecimal.valueOf(targetRate);
+        List<Money> converted = new ArrayList<>(prices.size());
+        for (Money price : prices) {
+            long sourceRate = price == null ? 0 : rate(price.currency());
+            if (sourceRate == 0) {
+                converted.add(null);
+            } else if (target.equals(price.currency())) {
+                converted.add(price);
+            } else {
+                BigDecimal amount = price.amount().multiply(targetFactor)
+                        .divide(BigDecimal.valueOf(sourceRate), 2, RoundingMode.HALF_UP);
+                converted.add(new Money(amount, target));
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Expresses an amount in {@link #BASE_CURRENCY} at the scale and rounding of {@code book_read_model.normalized_price}.
+     */
+    @NonNull
+    public BigDecimal toBase(@NonNull BigDecimal amount, @NonNull String currency) {
+        long rate = rate(currency);
+        if (rate == 0) {
+            throw new IllegalArgumentException("No exchange rate for " + currency);
+        }
+        return amount.divide(BigDecimal.valueOf(rate, RATE_SCALE), NORMALIZED_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private long rate(String currency) {
+        int slot = slot(currency);
+        return slot < 0 ? 0 : unitsPerBase[slot];
+    }
+
+    static int slot(String currency) {
+        if (currency == null || currency.length() != 3) {
+            return -1;
+        }
+        int slot = 0;
+        for (int i = 0; i < 3; i++) {
+            int letter = Character.toUpperCase(currency.charAt(i)) - 'A';
+            if (letter < 0 || letter >= 26) {
+                return -1;
+            }
+            slot = slot * 26 + letter;
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.bookstore.catalog.common.invalidation;
+
+// Raised when this node (re)subscribes: notifications sent while it was not listening are lost, so caches start over.
+public record InvalidationGapEvent() {
+}
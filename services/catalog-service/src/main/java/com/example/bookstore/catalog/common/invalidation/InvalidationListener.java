@@ -0,0 +1,152 @@
+package com.example.bookstore.catalog.common.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+@Component
+@ConditionalOnProperty(name = "catalog.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class InvalidationListener implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationListener.class);
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String channel;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicBoolean connected = new AtomicBoolean();
+    private final Counter received;
+    private final Thread worker;
+    private volatile boolean running;
+
+    public InvalidationListener(@NonNull DataSourceProperties dataSourceProperties,
+                                @NonNull ApplicationEventPublisher eventPublisher,
+                                @NonNull MeterRegistry meterRegistry,
+                                @NonNull @Value("${catalog.cache.invalidation.channel:catalog_invalidation}") String channel,
+                                @NonNull @Value("${catalog.cache.invalidation.poll-timeout:PT1S}") Duration pollTimeout,
+                                @NonNull @Value("${catalog.cache.invalidation.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        this.dataSourceProperties = Objects.requireNonNull(dataSourceProperties, "dataSourceProperties must not be null");
+        this.eventPublisher = Objects.requireNonNull(eventPublisher, "eventPublisher must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        if (!CHANNEL_NAME.matcher(Objects.requireNonNull(channel, "channel must not be null")).matches()) {
+            throw new IllegalArgumentException("Invalid invalidation channel name: " + channel);
+        }
+        this.channel = channel;
+        this.pollTimeout = Objects.requireNonNull(pollTimeout, "pollTimeout must not be null");
+        this.reconnectDelay = Objects.requireNonNull(reconnectDelay, "reconnectDelay must not be null");
+        this.received = Counter.builder("catalog.cache.invalidation.received")
+                .description("Cache invalidations received from other catalog nodes")
+                .register(meterRegistry);
+        Gauge.builder("catalog.cache.invalidation.connected", connected, flag -> flag.get() ? 1 : 0)
+                .description("Whether this node is subscribed to the invalidation channel")
+                .register(meterRegistry);
+        this.worker = new Thread(this::listen, "catalog-cache-invalidation");
+        this.worker.setDaemon(true);
+    }
+
+    @NonNull
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @NonNull
+    public String channel() {
+        return channel;
+    }
+
+    public boolean isConnected() {
+        return connected.get();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        worker.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(reconnectDelay.toMillis());
+    }
+
+    private void listen() {
+        while (running) {
+            // A dedicated connection to the primary keeps the subscription out of the pool and away from read replicas.
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                eventPublisher.publishEvent(new InvalidationGapEvent());
+                connected.set(true);
+                log.info("cache-invalidation: nodeId='{}' listening on channel='{}'", nodeId, channel);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                connected.set(false);
+                if (running) {
+                    log.warn("cache-invalidation: subscription lost, reconnecting in {}: {}", reconnectDelay, ex.getMessage());
+                    try {
+                        Thread.sleep(reconnectDelay.toMillis());
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+        connected.set(false);
+    }
+
+    private void dispatch(String payload) {
+        InvalidationMessage message = InvalidationMessage.decode(payload).orElse(null);
+        if (message == null) {
+            log.debug("cache-invalidation: ignoring malformed payload='{}'", payload);
+            return;
+        }
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        received.increment();
+        try {
+            eventPublisher.publishEvent(new RemoteCatalogChangeEvent(
+                    message.aggregateType(), message.aggregateId(), message.version(), message.changeType()));
+        } catch (RuntimeException ex) {
+            log.warn("cache-invalidation: failed to apply {} {}: {}", message.aggregateType(), message.aggregateId(), ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.bookstore.catalog.common.invalidation;
+
+import com.example.bookstore.catalog.common.event.CatalogAggregateType;
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
+import org.springframework.lang.NonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+public record InvalidationMessage(String origin,
+                                  CatalogAggregateType aggregateType,
+                                  UUID aggregateId,
+                                  long version,
+                                  CatalogChangeType changeType) {
+
+    private static final String SEPARATOR = "|";
+
+    public InvalidationMessage {
+        Objects.requireNonNull(origin, "origin must not be null");
+        Objects.requireNonNull(aggregateType, "aggregateType must not be null");
+        Objects.requireNonNull(aggregateId, "aggregateId must not be null");
+        Objects.requireNonNull(changeType, "changeType must not be null");
+    }
+
+    @NonNull
+    public String encode() {
+        return String.join(SEPARATOR, origin, aggregateType.name(), aggregateId.toString(), Long.toString(version), changeType.name());
+    }
+
+    @NonNull
+    public static Optional<InvalidationMessage> decode(@NonNull String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 5) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new InvalidationMessage(parts[0],
+                    CatalogAggregateType.valueOf(parts[1]),
+                    UUID.fromString(parts[2]),
+                    Long.parseLong(parts[3]),
+                    CatalogChangeType.valueOf(parts[4])));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+}
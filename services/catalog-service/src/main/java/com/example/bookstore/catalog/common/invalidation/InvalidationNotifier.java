@@ -0,0 +1,48 @@
+package com.example.bookstore.catalog.common.invalidation;
+
+import com.example.bookstore.catalog.author.event.AuthorChangedEvent;
+import com.example.bookstore.catalog.book.event.BookChangedEvent;
+import com.example.bookstore.catalog.common.event.CatalogAggregateType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+@ConditionalOnProperty(name = "catalog.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class InvalidationNotifier {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final InvalidationListener listener;
+
+    public InvalidationNotifier(@NonNull NamedParameterJdbcTemplate jdbcTemplate, @NonNull InvalidationListener listener) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        this.listener = Objects.requireNonNull(listener, "listener must not be null");
+    }
+
+    // NOTIFY is queued by the writing transaction and only delivered once it commits; a rollback discards it.
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onBookChanged(@NonNull BookChangedEvent event) {
+        notify(new InvalidationMessage(listener.nodeId(), CatalogAggregateType.BOOK, event.bookId(), event.version(), event.changeType()));
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onAuthorChanged(@NonNull AuthorChangedEvent event) {
+        notify(new InvalidationMessage(listener.nodeId(), CatalogAggregateType.AUTHOR, event.authorId(), event.version(),
+                event.changeType()));
+    }
+
+    private void notify(InvalidationMessage message) {
+        jdbcTemplate.query("SELECT pg_notify(:channel, :payload)",
+                Map.of("channel", listener.channel(), "payload", message.encode()),
+                rs -> { });
+    }
+}
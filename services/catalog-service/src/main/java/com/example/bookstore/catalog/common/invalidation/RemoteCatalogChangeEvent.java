@@ -0,0 +1,16 @@
+package com.example.bookstore.catalog.common.invalidation;
+
+import com.example.bookstore.catalog.common.event.CatalogAggregateType;
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public record RemoteCatalogChangeEvent(CatalogAggregateType aggregateType, UUID aggregateId, long version, CatalogChangeType changeType) {
+
+    public RemoteCatalogChangeEvent {
+        Objects.requireNonNull(aggregateType, "aggregateType must not be null");
+        Objects.requireNonNull(aggregateId, "aggregateId must not be null");
+        Objects.requireNonNull(changeType, "changeType must not be null");
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.bookstore.catalog.common.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final ObjectProvider<QueryExecutionListener> listenerProvider;
+    private volatile List<QueryExecutionListener> listeners;
+
+    public InstrumentedDataSource(@NonNull DataSource targetDataSource,
+                                  @NonNull ObjectProvider<QueryExecutionListener> listenerProvider) {
+        super(targetDataSource);
+        this.listenerProvider = Objects.requireNonNull(listenerProvider, "listenerProvider must not be null");
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    Object identity = identityMethod(proxy, method, args);
+                    if (identity != null) {
+                        return identity;
+                    }
+                    Object result = invokeTarget(connection, method, args);
+                    if (result instanceof Statement statement && !"unwrap".equals(method.getName())) {
+                        return wrapStatement(statement, firstStringArgument(args));
+                    }
+                    return result;
+                });
+    }
+
+    private Statement wrapStatement(Statement statement, String preparedSql) {
+        Class<?> statementType = statement instanceof CallableStatement
+                ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {statementType},
+                new StatementHandler(statement, preparedSql));
+    }
+
+    private void publish(QueryExecution execution) {
+        List<QueryExecutionListener> resolved = listeners;
+        if (resolved == null) {
+            resolved = listenerProvider.orderedStream().toList();
+            listeners = resolved;
+        }
+        for (QueryExecutionListener listener : resolved) {
+            listener.afterExecution(execution);
+        }
+    }
+
+    private static Object identityMethod(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private static String firstStringArgument(Object[] args) {
+        return args != null && args.length > 0 && args[0] instanceof String sql ? sql : null;
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private final List<Object> parameters = new ArrayList<>();
+        private PendingQuery pendingQuery;
+
+        private StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identityMethod(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            String name = method.getName();
+            if (EXECUTE_METHODS.contains(name)) {
+                return execute(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, "setNull".equals(name) ? null : args[1]);
+            } else if ("clearParameters".equals(name)) {
+                parameters.clear();
+            } else if ("close".equals(name)) {
+                completePendingQuery();
+            }
+            return invokeTarget(statement, method, args);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            completePendingQuery();
+            String executedSql = firstStringArgument(args) != null ? firstStringArgument(args) : preparedSql;
+            long started = System.nanoTime();
+            Object result;
+            try {
+                result = invokeTarget(statement, method, args);
+            } catch (Throwable ex) {
+                if (executedSql != null) {
+                    long elapsed = System.nanoTime() - started;
+                    publish(new QueryExecution(executedSql, snapshot(), elapsed, QueryExecution.UNKNOWN_ROWS, true));
+                }
+                throw ex;
+            }
+            long elapsed = System.nanoTime() - started;
+            if (executedSql == null) {
+                return result;
+            }
+            if (result instanceof ResultSet resultSet) {
+                // Row counts are only known once the caller has consumed the result set.
+                PendingQuery pending = new PendingQuery(executedSql, snapshot(), elapsed);
+                pendingQuery = pending;
+                return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {ResultSet.class},
+                        (proxy, resultSetMethod, resultSetArgs) -> {
+                            Object identity = identityMethod(proxy, resultSetMethod, resultSetArgs);
+                            if (identity != null) {
+                                return identity;
+                            }
+                            if ("close".equals(resultSetMethod.getName()) && pendingQuery == pending) {
+                                completePendingQuery();
+                            }
+                            Object value = invokeTarget(resultSet, resultSetMethod, resultSetArgs);
+                            if ("next".equals(resultSetMethod.getName()) && Boolean.TRUE.equals(value)) {
+                                pending.rows++;
+                            }
+                            return value;
+                        });
+            }
+            publish(new QueryExecution(executedSql, snapshot(), elapsed, affectedRows(result), false));
+            return result;
+        }
+
+        private void bind(int index, Object value) {
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, value);
+        }
+
+        private List<Object> snapshot() {
+            return new ArrayList<>(parameters);
+        }
+
+        private void completePendingQuery() {
+            PendingQuery completed = pendingQuery;
+            pendingQuery = null;
+            if (completed != null) {
+                publish(new QueryExecution(completed.sql, completed.parameters, completed.elapsedNanos, completed.rows, false));
+            }
+        }
+
+        private static long affectedRows(Object result) {
+            return switch (result) {
+                case Integer count -> count;
+                case Long count -> count;
+                case int[] counts -> Arrays.stream(counts).filter(count -> count > 0).sum();
+                case long[] counts -> Arrays.stream(counts).filter(count -> count > 0).sum();
+                case null, default -> QueryExecution.UNKNOWN_ROWS;
+            };
+        }
+    }
+
+    private static final class PendingQuery {
+
+        private final String sql;
+        private final List<Object> parameters;
+        private final long elapsedNanos;
+        private long rows;
+
+        private PendingQuery(String sql, List<Object> parameters, long elapsedNanos) {
+            this.sql = sql;
+            this.parameters = parameters;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.bookstore.catalog.common.jdbc;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+public record QueryExecution(String sql, List<Object> parameters, long elapsedNanos, long rows, boolean failed) {
+
+    public static final long UNKNOWN_ROWS = -1;
+
+    public QueryExecution {
+        parameters = parameters == null ? List.of() : Collections.unmodifiableList(parameters);
+    }
+
+    public QueryExecution(String sql, long elapsedNanos, boolean failed) {
+        this(sql, List.of(), elapsedNanos, UNKNOWN_ROWS, failed);
+    }
+
+    public Duration elapsed() {
+        return Duration.ofNanos(elapsedNanos);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.bookstore.catalog.common.jdbc;
+
+import org.springframework.lang.NonNull;
+
+@FunctionalInterface
+public interface QueryExecutionListener {
+
+    void afterExecution(@NonNull QueryExecution execution);
+}
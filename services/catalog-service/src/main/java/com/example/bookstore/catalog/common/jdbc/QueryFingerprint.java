@@ -0,0 +1,47 @@
+package com.example.bookstore.catalog.common.jdbc;
+
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+public record QueryFingerprint(String id, String normalizedSql) {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w$.])\\d+(?:\\.\\d+)?(?![\\w$])");
+    private static final Pattern CAST_PLACEHOLDER_LIST = Pattern.compile(
+            "cast\\(\\? as ([\\w\\[\\]]+)\\)(?:\\s*,\\s*cast\\(\\? as \\1\\))+");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public QueryFingerprint {
+        Objects.requireNonNull(id, "id must not be null");
+        Objects.requireNonNull(normalizedSql, "normalizedSql must not be null");
+    }
+
+    @NonNull
+    public static QueryFingerprint of(@NonNull String sql) {
+        String normalized = WHITESPACE.matcher(Objects.requireNonNull(sql, "sql must not be null")).replaceAll(" ")
+                .strip()
+                .toLowerCase(Locale.ROOT);
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMERIC_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = CAST_PLACEHOLDER_LIST.matcher(normalized).replaceAll("cast(? as $1)+");
+        normalized = PLACEHOLDER_LIST.matcher(normalized).replaceAll("?+");
+        return new QueryFingerprint(hash(normalized), normalized);
+    }
+
+    private static String hash(String normalized) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
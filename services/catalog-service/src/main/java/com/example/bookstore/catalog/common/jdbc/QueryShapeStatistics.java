@@ -0,0 +1,178 @@
+package com.example.bookstore.catalog.common.jdbc;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class QueryShapeStatistics implements QueryExecutionListener {
+
+    private static final String OVERFLOW_SHAPE = "other";
+    private static final Duration[] LATENCY_BUCKETS = {
+            Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofMillis(2500)
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final int maxShapes;
+    private final Cache<String, QueryFingerprint> fingerprints = Caffeine.newBuilder().maximumSize(4096).build();
+    private final Map<String, ShapeStatistics> shapes = new ConcurrentHashMap<>();
+
+    public QueryShapeStatistics(@NonNull MeterRegistry meterRegistry,
+                                @Value("${catalog.jdbc.statistics.max-shapes:500}") int maxShapes) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.maxShapes = maxShapes;
+    }
+
+    @NonNull
+    public QueryFingerprint fingerprint(@NonNull String sql) {
+        return fingerprints.get(sql, QueryFingerprint::of);
+    }
+
+    @Override
+    public void afterExecution(@NonNull QueryExecution execution) {
+        QueryFingerprint fingerprint = fingerprint(execution.sql());
+        ShapeStatistics statistics = shapes.get(fingerprint.id());
+        if (statistics == null) {
+            QueryFingerprint tracked = shapes.size() < maxShapes ? fingerprint : new QueryFingerprint(OVERFLOW_SHAPE, OVERFLOW_SHAPE);
+            statistics = shapes.computeIfAbsent(tracked.id(), id -> new ShapeStatistics(tracked, meterRegistry));
+        }
+        statistics.record(execution);
+    }
+
+    public void recordPlan(@NonNull String shapeId, @NonNull String plan) {
+        ShapeStatistics statistics = shapes.get(shapeId);
+        if (statistics != null) {
+            statistics.lastPlan = new ExplainedPlan(plan, Instant.now());
+        }
+    }
+
+    @NonNull
+    public List<QueryShapeReport> report() {
+        return shapes.values().stream()
+                .map(ShapeStatistics::toReport)
+                .sorted(Comparator.comparingDouble(QueryShapeReport::totalMillis).reversed())
+                .toList();
+    }
+
+    @NonNull
+    public Optional<QueryShapeReport> report(@NonNull String shapeId) {
+        return Optional.ofNullable(shapes.get(shapeId)).map(ShapeStatistics::toReport);
+    }
+
+    public void reset() {
+        shapes.values().forEach(statistics -> statistics.remove(meterRegistry));
+        shapes.clear();
+    }
+
+    private static final class ShapeStatistics {
+
+        private final QueryFingerprint fingerprint;
+        private final Timer latency;
+        private final DistributionSummary rows;
+        private final Counter failures;
+        private final AtomicLong maxRows = new AtomicLong();
+        private volatile ExplainedPlan lastPlan;
+
+        private ShapeStatistics(QueryFingerprint fingerprint, MeterRegistry meterRegistry) {
+            this.fingerprint = fingerprint;
+            this.latency = Timer.builder("catalog.jdbc.query")
+                    .description("Execution time per SQL shape")
+                    .tag("shape", fingerprint.id())
+                    .serviceLevelObjectives(LATENCY_BUCKETS)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            this.rows = DistributionSummary.builder("catalog.jdbc.query.rows")
+                    .description("Rows returned or affected per SQL shape")
+                    .tag("shape", fingerprint.id())
+                    .register(meterRegistry);
+            this.failures = Counter.builder("catalog.jdbc.query.failures")
+                    .tag("shape", fingerprint.id())
+                    .register(meterRegistry);
+        }
+
+        private void record(QueryExecution execution) {
+            latency.record(execution.elapsedNanos(), TimeUnit.NANOSECONDS);
+            if (execution.failed()) {
+                failures.increment();
+            }
+            if (execution.rows() >= 0) {
+                rows.record(execution.rows());
+                maxRows.accumulateAndGet(execution.rows(), Math::max);
+            }
+        }
+
+        private void remove(MeterRegistry meterRegistry) {
+            meterRegistry.remove(latency);
+            meterRegistry.remove(rows);
+            meterRegistry.remove(failures);
+        }
+
+        private QueryShapeReport toReport() {
+            HistogramSnapshot snapshot = latency.takeSnapshot();
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                percentiles.put("p" + Math.round(percentile.percentile() * 100), percentile.value(TimeUnit.MILLISECONDS));
+            }
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (CountAtBucket bucket : snapshot.histogramCounts()) {
+                histogram.put("le_" + Math.round(bucket.bucket(TimeUnit.MILLISECONDS)) + "ms", Math.round(bucket.count()));
+            }
+            ExplainedPlan plan = lastPlan;
+            return new QueryShapeReport(
+                    fingerprint.id(),
+                    fingerprint.normalizedSql(),
+                    snapshot.count(),
+                    Math.round(failures.count()),
+                    snapshot.total(TimeUnit.MILLISECONDS),
+                    snapshot.mean(TimeUnit.MILLISECONDS),
+                    snapshot.max(TimeUnit.MILLISECONDS),
+                    percentiles,
+                    histogram,
+                    rows.count() == 0 ? null : rows.mean(),
+                    rows.count() == 0 ? null : maxRows.get(),
+                    plan == null ? null : plan.plan(),
+                    plan == null ? null : plan.explainedAt()
+            );
+        }
+    }
+
+    private record ExplainedPlan(String plan, Instant explainedAt) {
+    }
+
+    public record QueryShapeReport(String shape,
+                                   String sql,
+                                   long executions,
+                                   long failures,
+                                   double totalMillis,
+                                   double meanMillis,
+                                   double maxMillis,
+                                   Map<String, Double> percentilesMillis,
+                                   Map<String, Long> latencyHistogram,
+                                   Double meanRows,
+                                   Long maxRows,
+                                   String lastSlowPlan,
+                                   Instant lastSlowPlanAt) {
+    }
+}
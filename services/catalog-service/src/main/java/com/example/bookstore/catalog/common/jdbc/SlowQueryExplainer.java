@@ -0,0 +1,118 @@
+package com.example.bookstore.catalog.common.jdbc;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class SlowQueryExplainer implements QueryExecutionListener, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger("com.example.bookstore.catalog.sql");
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final QueryShapeStatistics statistics;
+    private final boolean enabled;
+    private final long thresholdNanos;
+    private final Cache<String, Boolean> recentlyExplained;
+    private final ThreadPoolExecutor executor;
+
+    public SlowQueryExplainer(@NonNull ObjectProvider<DataSource> dataSource,
+                              @NonNull QueryShapeStatistics statistics,
+                              @Value("${catalog.jdbc.explain.enabled:true}") boolean enabled,
+                              @NonNull @Value("${catalog.jdbc.explain.threshold:PT0.5S}") Duration threshold,
+                              @NonNull @Value("${catalog.jdbc.explain.min-interval:PT5M}") Duration minInterval) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+        this.statistics = Objects.requireNonNull(statistics, "statistics must not be null");
+        this.enabled = enabled;
+        this.thresholdNanos = Objects.requireNonNull(threshold, "threshold must not be null").toNanos();
+        this.recentlyExplained = Caffeine.newBuilder()
+                .expireAfterWrite(Objects.requireNonNull(minInterval, "minInterval must not be null"))
+                .maximumSize(1024)
+                .build();
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16), runnable -> {
+            Thread thread = new Thread(runnable, "catalog-slow-query-explain");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Override
+    public void afterExecution(@NonNull QueryExecution execution) {
+        if (!enabled || execution.failed() || execution.elapsedNanos() < thresholdNanos || !isSelect(execution.sql())) {
+            return;
+        }
+        QueryFingerprint fingerprint = statistics.fingerprint(execution.sql());
+        if (recentlyExplained.asMap().putIfAbsent(fingerprint.id(), Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            executor.execute(() -> explain(fingerprint, execution));
+        } catch (RejectedExecutionException ex) {
+            recentlyExplained.invalidate(fingerprint.id());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void explain(QueryFingerprint fingerprint, QueryExecution execution) {
+        // Explaining through the raw pool keeps the EXPLAIN itself out of the statistics and listeners.
+        DataSource target = dataSource.getObject();
+        if (target instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+            target = delegating.getTargetDataSource();
+        }
+        try (Connection connection = target.getConnection()) {
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + execution.sql())) {
+                List<Object> parameters = execution.parameters();
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                StringJoiner plan = new StringJoiner(System.lineSeparator());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+                statistics.recordPlan(fingerprint.id(), plan.toString());
+                log.warn("slow-query-plan: shape='{}' elapsedMs='{}' plan=\n{}", fingerprint.id(), execution.elapsed().toMillis(), plan);
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(true);
+                connection.setReadOnly(false);
+            }
+        } catch (SQLException | RuntimeException ex) {
+            log.debug("slow-query-plan: shape='{}' could not be explained: {}", fingerprint.id(), ex.getMessage());
+        }
+    }
+
+    private static boolean isSelect(String sql) {
+        String leading = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return leading.startsWith("select") || leading.startsWith("with");
+    }
+}
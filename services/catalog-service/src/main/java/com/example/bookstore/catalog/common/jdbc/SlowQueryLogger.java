@@ -0,0 +1,52 @@
+package com.example.bookstore.catalog.common.jdbc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+@Component
+public class SlowQueryLogger implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger("com.example.bookstore.catalog.sql");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+
+    public SlowQueryLogger(@NonNull @Value("${catalog.logging.slow-query.threshold:PT0.25S}") Duration threshold,
+                           @Value("${catalog.logging.slow-query.sample-rate:0.0}") double sampleRate) {
+        this.thresholdNanos = Objects.requireNonNull(threshold, "threshold must not be null").toNanos();
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void afterExecution(@NonNull QueryExecution execution) {
+        if (execution.elapsedNanos() >= thresholdNanos) {
+            log.atWarn()
+                    .setMessage("slow-query: elapsedMs='{}' failed='{}' sql='{}'")
+                    .addArgument(() -> execution.elapsed().toMillis())
+                    .addArgument(execution.failed())
+                    .addArgument(() -> compact(execution.sql()))
+                    .log();
+            return;
+        }
+        if (sampleRate > 0 && log.isDebugEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.atDebug()
+                    .setMessage("sampled-query: elapsedMicros='{}' sql='{}'")
+                    .addArgument(() -> execution.elapsedNanos() / 1_000)
+                    .addArgument(() -> compact(execution.sql()))
+                    .log();
+        }
+    }
+
+    private static String compact(String sql) {
+        return WHITESPACE.matcher(sql).replaceAll(" ").strip();
+    }
+}
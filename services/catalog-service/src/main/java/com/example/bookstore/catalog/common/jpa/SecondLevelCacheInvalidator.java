@@ -0,0 +1,56 @@
+package com.example.bookstore.catalog.common.jpa;
+
+import com.example.bookstore.catalog.author.repository.AuthorEntity;
+import com.example.bookstore.catalog.book.repository.BookEntity;
+import com.example.bookstore.catalog.common.invalidation.InvalidationGapEvent;
+import com.example.bookstore.catalog.common.invalidation.RemoteCatalogChangeEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "catalog.jpa.second-level-cache.enabled", havingValue = "true")
+public class SecondLevelCacheInvalidator {
+
+    private static final String BOOK_AUTHORS_ROLE = BookEntity.class.getName() + ".authors";
+    private static final String BOOK_GENRES_ROLE = BookEntity.class.getName() + ".genres";
+
+    private final Cache cache;
+
+    public SecondLevelCacheInvalidator(@NonNull EntityManagerFactory entityManagerFactory) {
+        this.cache = Objects.requireNonNull(entityManagerFactory, "entityManagerFactory must not be null")
+                .unwrap(SessionFactory.class)
+                .getCache();
+    }
+
+    // Only changes from other replicas are evicted here: Hibernate puts what it writes locally, and JDBC repricing evicts its books.
+    @EventListener
+    public void onRemoteChange(@NonNull RemoteCatalogChangeEvent event) {
+        switch (event.aggregateType()) {
+            case BOOK -> evictBook(event.aggregateId());
+            case AUTHOR -> {
+                cache.evictEntityData(AuthorEntity.class, event.aggregateId());
+                cache.evictQueryRegion(AuthorEntity.NAME_QUERY_CACHE_REGION);
+            }
+            default -> throw new IllegalArgumentException("Unsupported aggregate type: " + event.aggregateType());
+        }
+    }
+
+    @EventListener
+    public void onInvalidationGap(@NonNull InvalidationGapEvent event) {
+        cache.evictAllRegions();
+    }
+
+    private void evictBook(UUID bookId) {
+        cache.evictEntityData(BookEntity.class, bookId);
+        cache.evictCollectionData(BOOK_AUTHORS_ROLE, bookId);
+        cache.evictCollectionData(BOOK_GENRES_ROLE, bookId);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.bookstore.catalog.common.jpa;
+
+import com.example.bookstore.catalog.author.repository.AuthorEntity;
+import com.example.bookstore.catalog.book.repository.BookEntity;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+@Component
+@ConditionalOnProperty(name = "catalog.jpa.second-level-cache.enabled", havingValue = "true")
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private static final List<String> REGIONS = List.of(
+            AuthorEntity.CACHE_REGION,
+            AuthorEntity.NAME_QUERY_CACHE_REGION,
+            BookEntity.CACHE_REGION,
+            BookEntity.AUTHORS_CACHE_REGION,
+            BookEntity.GENRES_CACHE_REGION);
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(@NonNull EntityManagerFactory entityManagerFactory) {
+        this.statistics = Objects.requireNonNull(entityManagerFactory, "entityManagerFactory must not be null")
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        for (String region : REGIONS) {
+            Gauge.builder("catalog.jpa.cache.hit.ratio", this, metrics -> metrics.hitRatio(region))
+                    .description("Share of second-level cache lookups answered without the database")
+                    .tag("region", region)
+                    .register(registry);
+            requests(registry, region, "hit", CacheRegionStatistics::getHitCount);
+            requests(registry, region, "miss", CacheRegionStatistics::getMissCount);
+            requests(registry, region, "put", CacheRegionStatistics::getPutCount);
+        }
+    }
+
+    private void requests(MeterRegistry registry, String region, String result, ToLongFunction<CacheRegionStatistics> count) {
+        FunctionCounter.builder("catalog.jpa.cache.requests", this, metrics -> metrics.count(region, count))
+                .description("Second-level cache operations per region")
+                .tag("region", region)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private double count(String region, ToLongFunction<CacheRegionStatistics> count) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+    }
+
+    private double hitRatio(String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long lookups = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) regionStatistics.getHitCount() / lookups;
+    }
+}
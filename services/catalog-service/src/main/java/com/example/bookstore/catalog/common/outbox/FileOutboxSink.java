@@ -0,0 +1,39 @@
+package com.example.bookstore.catalog.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+public class FileOutboxSink implements OutboxSink {
+
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(@NonNull Path file, @NonNull ObjectMapper objectMapper) {
+        this.file = Objects.requireNonNull(file, "file must not be null");
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper must not be null");
+    }
+
+    @Override
+    public synchronized void publish(@NonNull List<OutboxEvent> batch) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (OutboxEvent event : batch) {
+                out.write(objectMapper.writeValueAsBytes(event));
+                out.write(LINE_SEPARATOR);
+            }
+        }
+    }
+}
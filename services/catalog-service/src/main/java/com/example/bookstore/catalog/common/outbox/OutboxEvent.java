@@ -0,0 +1,24 @@
+package com.example.bookstore.catalog.common.outbox;
+
+import com.example.bookstore.catalog.common.event.CatalogAggregateType;
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+public record OutboxEvent(long id,
+                          CatalogAggregateType aggregateType,
+                          UUID aggregateId,
+                          long version,
+                          CatalogChangeType changeType,
+                          Instant occurredAt,
+                          int attempts) {
+
+    public OutboxEvent {
+        Objects.requireNonNull(aggregateType, "aggregateType must not be null");
+        Objects.requireNonNull(aggregateId, "aggregateId must not be null");
+        Objects.requireNonNull(changeType, "changeType must not be null");
+        Objects.requireNonNull(occurredAt, "occurredAt must not be null");
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.bookstore.catalog.common.outbox;
+
+import com.example.bookstore.catalog.author.event.AuthorChangedEvent;
+import com.example.bookstore.catalog.book.event.BookChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class OutboxPublisher implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPublisher.class);
+
+    private final OutboxRepository repository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerDrain;
+    private final Duration pollInterval;
+    private final Duration maxBackoff;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final AtomicLong pending = new AtomicLong();
+    private volatile Instant oldestPending;
+    private final Counter published;
+    private final Counter failures;
+    private final DistributionSummary batchSizes;
+    private final Timer deliveryLatency;
+
+    public OutboxPublisher(@NonNull OutboxRepository repository,
+                           @NonNull OutboxSink sink,
+                           @NonNull PlatformTransactionManager transactionManager,
+                           @NonNull Clock clock,
+                           @NonNull MeterRegistry meterRegistry,
+                           @Value("${catalog.outbox.enabled:true}") boolean enabled,
+                           @Value("${catalog.outbox.batch-size:100}") int batchSize,
+                           @Value("${catalog.outbox.max-batches-per-drain:10}") int maxBatchesPerDrain,
+                           @NonNull @Value("${catalog.outbox.poll-interval:PT1S}") Duration pollInterval,
+                           @NonNull @Value("${catalog.outbox.max-backoff:PT1M}") Duration maxBackoff) {
+        this.repository = Objects.requireNonNull(repository, "repository must not be null");
+        this.sink = Objects.requireNonNull(sink, "sink must not be null");
+        this.transactionTemplate = new TransactionTemplate(
+                Objects.requireNonNull(transactionManager, "transactionManager must not be null"));
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerDrain = maxBatchesPerDrain;
+        this.pollInterval = Objects.requireNonNull(pollInterval, "pollInterval must not be null");
+        this.maxBackoff = Objects.requireNonNull(maxBackoff, "maxBackoff must not be null");
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-outbox-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("catalog.outbox.pending", pending, AtomicLong::get)
+                .description("Change events waiting in the outbox")
+                .register(meterRegistry);
+        Gauge.builder("catalog.outbox.lag", this, OutboxPublisher::lagSeconds)
+                .description("Age of the oldest undelivered change event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.published = Counter.builder("catalog.outbox.published")
+                .description("Change events delivered to the outbox sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("catalog.outbox.failures")
+                .description("Outbox batches the sink rejected")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("catalog.outbox.batch.size")
+                .description("Change events per delivered outbox batch")
+                .register(meterRegistry);
+        this.deliveryLatency = Timer.builder("catalog.outbox.delivery.latency")
+                .description("Time between a change being committed and delivered")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        long intervalMillis = pollInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::drain, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBookChanged(@NonNull BookChangedEvent event) {
+        requestDrain();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAuthorChanged(@NonNull AuthorChangedEvent event) {
+        requestDrain();
+    }
+
+    // Commits only hand the single publisher thread a hint; concurrent hints collapse into one pending drain.
+    public void requestDrain() {
+        if (!enabled || !drainRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+            drainRequested.set(false);
+        }
+    }
+
+    private void drain() {
+        drainRequested.set(false);
+        try {
+            for (int batch = 0; batch < maxBatchesPerDrain; batch++) {
+                if (publishNextBatch() < batchSize) {
+                    break;
+                }
+            }
+            OutboxRepository.Backlog backlog = repository.backlog();
+            pending.set(backlog.pending());
+            oldestPending = backlog.oldestOccurredAt().orElse(null);
+        } catch (RuntimeException ex) {
+            log.warn("outbox-publisher: drain failed: {}", ex.getMessage());
+        }
+    }
+
+    private int publishNextBatch() {
+        List<OutboxEvent> delivered = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = repository.lockAvailable(clock.instant(), batchSize);
+            if (batch.isEmpty()) {
+                return batch;
+            }
+            List<Long> ids = batch.stream().map(OutboxEvent::id).toList();
+            try {
+                sink.publish(batch);
+            } catch (Exception ex) {
+                int attempts = batch.stream().mapToInt(OutboxEvent::attempts).max().orElse(0) + 1;
+                repository.postpone(ids, clock.instant().plus(backoff(attempts)));
+                failures.increment();
+                log.warn("outbox-publisher: {} events postponed after attempt='{}': {}", batch.size(), attempts, ex.getMessage());
+                return null;
+            }
+            repository.delete(ids);
+            return batch;
+        });
+        if (delivered == null) {
+            return 0;
+        }
+        if (!delivered.isEmpty()) {
+            Instant now = clock.instant();
+            published.increment(delivered.size());
+            batchSizes.record(delivered.size());
+            delivered.forEach(event -> deliveryLatency.record(Duration.between(event.occurredAt(), now)));
+            log.debug("outbox-publisher: delivered {} events", delivered.size());
+        }
+        return delivered.size();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = pollInterval.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private double lagSeconds() {
+        Instant oldest = oldestPending;
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, clock.instant()).toMillis() / 1000.0);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.bookstore.catalog.common.outbox;
+
+import com.example.bookstore.catalog.author.event.AuthorChangedEvent;
+import com.example.bookstore.catalog.book.event.BookChangedEvent;
+import com.example.bookstore.catalog.common.event.CatalogAggregateType;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.util.Objects;
+
+@Component
+public class OutboxRecorder {
+
+    private final OutboxRepository repository;
+    private final Clock clock;
+
+    public OutboxRecorder(@NonNull OutboxRepository repository, @NonNull Clock clock) {
+        this.repository = Objects.requireNonNull(repository, "repository must not be null");
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+    }
+
+    // Runs inside the writing transaction, so the outbox row commits or rolls back together with the change.
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onBookChanged(@NonNull BookChangedEvent event) {
+        repository.append(CatalogAggregateType.BOOK, event.bookId(), event.version(), event.changeType(), clock.instant());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onAuthorChanged(@NonNull AuthorChangedEvent event) {
+        repository.append(CatalogAggregateType.AUTHOR, event.authorId(), event.version(), event.changeType(), clock.instant());
+    }
+}
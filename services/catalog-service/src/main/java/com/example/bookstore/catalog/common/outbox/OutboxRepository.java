@@ -0,0 +1,97 @@
+package com.example.bookstore.catalog.common.outbox;
+
+import com.example.bookstore.catalog.common.event.CatalogAggregateType;
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public class OutboxRepository {
+
+    private static final String APPEND_SQL = """
+            INSERT INTO catalog_outbox (aggregate_type, aggregate_id, aggregate_version, change_type, occurred_at, available_at)
+            VALUES (:aggregateType, :aggregateId, :version, :changeType, :occurredAt, :occurredAt)
+            """;
+
+    private static final String LOCK_BATCH_SQL = """
+            SELECT id, aggregate_type, aggregate_id, aggregate_version, change_type, occurred_at, attempts
+            FROM catalog_outbox
+            WHERE available_at <= :now
+            ORDER BY available_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final RowMapper<OutboxEvent> ROW_MAPPER = (rs, rowNum) -> new OutboxEvent(
+            rs.getLong("id"),
+            CatalogAggregateType.valueOf(rs.getString("aggregate_type")),
+            rs.getObject("aggregate_id", UUID.class),
+            rs.getLong("aggregate_version"),
+            CatalogChangeType.valueOf(rs.getString("change_type")),
+            rs.getObject("occurred_at", OffsetDateTime.class).toInstant(),
+            rs.getInt("attempts"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OutboxRepository(@NonNull NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+    }
+
+    public void append(@NonNull CatalogAggregateType aggregateType,
+                       @NonNull UUID aggregateId,
+                       long version,
+                       @NonNull CatalogChangeType changeType,
+                       @NonNull Instant occurredAt) {
+        jdbcTemplate.update(APPEND_SQL, new MapSqlParameterSource()
+                .addValue("aggregateType", aggregateType.name())
+                .addValue("aggregateId", aggregateId)
+                .addValue("version", version)
+                .addValue("changeType", changeType.name())
+                .addValue("occurredAt", Timestamp.from(occurredAt)));
+    }
+
+    @NonNull
+    public List<OutboxEvent> lockAvailable(@NonNull Instant now, int limit) {
+        return jdbcTemplate.query(LOCK_BATCH_SQL, Map.of("now", Timestamp.from(now), "limit", limit), ROW_MAPPER);
+    }
+
+    public void delete(@NonNull Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM catalog_outbox WHERE id IN (:ids)", Map.of("ids", ids));
+    }
+
+    public void postpone(@NonNull Collection<Long> ids, @NonNull Instant availableAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE catalog_outbox SET attempts = attempts + 1, available_at = :availableAt WHERE id IN (:ids)",
+                Map.of("ids", ids, "availableAt", Timestamp.from(availableAt)));
+    }
+
+    @NonNull
+    public Backlog backlog() {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) AS pending, MIN(occurred_at) AS oldest FROM catalog_outbox",
+                Map.of(),
+                (rs, rowNum) -> new Backlog(rs.getLong("pending"),
+                        Optional.ofNullable(rs.getObject("oldest", OffsetDateTime.class)).map(OffsetDateTime::toInstant))));
+    }
+
+    public record Backlog(long pending, Optional<Instant> oldestOccurredAt) {
+    }
+}
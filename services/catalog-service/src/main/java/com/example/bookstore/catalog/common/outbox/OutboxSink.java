@@ -0,0 +1,12 @@
+package com.example.bookstore.catalog.common.outbox;
+
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface OutboxSink {
+
+    // Delivery is at-least-once: a batch stays in the outbox until this returns, so it may be seen again after a failure.
+    void publish(@NonNull List<OutboxEvent> batch) throws Exception;
+}
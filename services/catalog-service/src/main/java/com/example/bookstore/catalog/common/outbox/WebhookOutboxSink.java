@@ -0,0 +1,30 @@
+package com.example.bookstore.catalog.common.outbox;
+
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Objects;
+
+public class WebhookOutboxSink implements OutboxSink {
+
+    private final RestClient restClient;
+    private final URI endpoint;
+
+    public WebhookOutboxSink(@NonNull RestClient restClient, @NonNull URI endpoint) {
+        this.restClient = Objects.requireNonNull(restClient, "restClient must not be null");
+        this.endpoint = Objects.requireNonNull(endpoint, "endpoint must not be null");
+    }
+
+    @Override
+    public void publish(@NonNull List<OutboxEvent> batch) {
+        restClient.post()
+                .uri(endpoint)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(batch)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
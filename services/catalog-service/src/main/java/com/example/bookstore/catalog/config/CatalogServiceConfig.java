@@ -1,9 +1,15 @@
 package com.example.bookstore.catalog.config;
 
+import com.example.bookstore.catalog.common.ApiMediaType;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
 import java.time.Clock;
+import java.util.List;
 
 @Configuration
 public class CatalogServiceConfig {
@@ -12,4 +18,12 @@ public class CatalogServiceConfig {
     public Clock clock() {
         return Clock.systemUTC();
     }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        MappingJackson2CborHttpMessageConverter converter = new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.factory(new CBORFactory()).build());
+        converter.setSupportedMediaTypes(List.of(MediaType.valueOf(ApiMediaType.V1_CBOR), MediaType.APPLICATION_CBOR));
+        return converter;
+    }
 }
@@ -0,0 +1,69 @@
+package com.example.bookstore.catalog.config;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public enum DataSourceProfile {
+    LATENCY("latency", 10, 10, "2s", 1, 100, 20),
+    THROUGHPUT("throughput", 20, 5, "5s", 3, 500, 50),
+    BATCH_IMPORT("batch-import", 4, 1, "30s", 1, 1000, 500);
+
+    private final String propertyValue;
+    private final int maximumPoolSize;
+    private final int minimumIdle;
+    private final String connectionTimeout;
+    private final int prepareThreshold;
+    private final int fetchSize;
+    private final int batchSize;
+
+    DataSourceProfile(String propertyValue,
+                      int maximumPoolSize,
+                      int minimumIdle,
+                      String connectionTimeout,
+                      int prepareThreshold,
+                      int fetchSize,
+                      int batchSize) {
+        this.propertyValue = propertyValue;
+        this.maximumPoolSize = maximumPoolSize;
+        this.minimumIdle = minimumIdle;
+        this.connectionTimeout = connectionTimeout;
+        this.prepareThreshold = prepareThreshold;
+        this.fetchSize = fetchSize;
+        this.batchSize = batchSize;
+    }
+
+    public static DataSourceProfile fromPropertyValue(String value) {
+        String normalized = value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(profile -> profile.propertyValue.equals(normalized))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown catalog.datasource.profile '%s', expected one of %s".formatted(
+                        value, Arrays.stream(values()).map(DataSourceProfile::propertyValue).collect(Collectors.joining(", ")))));
+    }
+
+    public String propertyValue() {
+        return propertyValue;
+    }
+
+    public Map<String, Object> properties() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.hikari.maximum-pool-size", maximumPoolSize);
+        properties.put("spring.datasource.hikari.minimum-idle", minimumIdle);
+        properties.put("spring.datasource.hikari.connection-timeout", connectionTimeout);
+        properties.put("spring.datasource.hikari.data-source-properties.prepareThreshold", prepareThreshold);
+        properties.put("spring.datasource.hikari.data-source-properties.preparedStatementCacheQueries", 512);
+        properties.put("spring.datasource.hikari.data-source-properties.preparedStatementCacheSizeMiB", 8);
+        properties.put("spring.datasource.hikari.data-source-properties.defaultRowFetchSize", fetchSize);
+        properties.put("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts", true);
+        properties.put("spring.datasource.hikari.data-source-properties.tcpKeepAlive", true);
+        properties.put("spring.jpa.properties.hibernate.jdbc.batch_size", batchSize);
+        properties.put("spring.jpa.properties.hibernate.jdbc.fetch_size", fetchSize);
+        properties.put("spring.jpa.properties.hibernate.jdbc.batch_versioned_data", true);
+        properties.put("spring.jpa.properties.hibernate.order_inserts", true);
+        properties.put("spring.jpa.properties.hibernate.order_updates", true);
+        return properties;
+    }
+}
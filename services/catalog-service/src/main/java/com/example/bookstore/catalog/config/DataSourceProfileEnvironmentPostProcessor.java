@@ -0,0 +1,27 @@
+package com.example.bookstore.catalog.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+public class DataSourceProfileEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    private static final String PROFILE_PROPERTY = "catalog.datasource.profile";
+    private static final String PROPERTY_SOURCE_NAME = "catalogDataSourceProfile";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        DataSourceProfile profile = DataSourceProfile.fromPropertyValue(
+                environment.getProperty(PROFILE_PROPERTY, DataSourceProfile.LATENCY.propertyValue()));
+        // Added last so that any explicitly configured pool or Hibernate setting still wins over the profile.
+        environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, profile.properties()));
+    }
+
+    @Override
+    public int getOrder() {
+        return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+    }
+}
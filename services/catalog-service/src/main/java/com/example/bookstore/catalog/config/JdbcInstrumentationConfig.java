@@ -0,0 +1,32 @@
+package com.example.bookstore.catalog.config;
+
+import com.example.bookstore.catalog.common.jdbc.InstrumentedDataSource;
+import com.example.bookstore.catalog.common.jdbc.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class JdbcInstrumentationConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                // Only the application-facing datasource is wrapped; pools behind it are reached through it.
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource, listeners);
+                }
+                return bean;
+            }
+        };
+    }
+}
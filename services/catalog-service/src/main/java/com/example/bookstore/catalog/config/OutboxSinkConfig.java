@@ -0,0 +1,45 @@
+package com.example.bookstore.catalog.config;
+
+import com.example.bookstore.catalog.common.outbox.FileOutboxSink;
+import com.example.bookstore.catalog.common.outbox.InMemoryOutboxSink;
+import com.example.bookstore.catalog.common.outbox.WebhookOutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+public class OutboxSinkConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "catalog.outbox.sink", havingValue = "memory", matchIfMissing = true)
+    public InMemoryOutboxSink inMemoryOutboxSink(@Value("${catalog.outbox.memory.capacity:10000}") int capacity) {
+        return new InMemoryOutboxSink(capacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "catalog.outbox.sink", havingValue = "file")
+    public FileOutboxSink fileOutboxSink(ObjectMapper objectMapper,
+                                         @Value("${catalog.outbox.file.path}") Path path) {
+        return new FileOutboxSink(path, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "catalog.outbox.sink", havingValue = "webhook")
+    public WebhookOutboxSink webhookOutboxSink(RestClient.Builder restClientBuilder,
+                                               @Value("${catalog.outbox.webhook.url}") URI url,
+                                               @Value("${catalog.outbox.webhook.connect-timeout:PT2S}") Duration connectTimeout,
+                                               @Value("${catalog.outbox.webhook.read-timeout:PT5S}") Duration readTimeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        return new WebhookOutboxSink(restClientBuilder.requestFactory(requestFactory).build(), url);
+    }
+}
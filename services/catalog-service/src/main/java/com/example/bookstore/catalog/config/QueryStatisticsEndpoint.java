@@ -0,0 +1,38 @@
+package com.example.bookstore.catalog.config;
+
+import com.example.bookstore.catalog.common.jdbc.QueryShapeStatistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@Endpoint(id = "querystats")
+public class QueryStatisticsEndpoint {
+
+    private final QueryShapeStatistics statistics;
+
+    public QueryStatisticsEndpoint(@NonNull QueryShapeStatistics statistics) {
+        this.statistics = Objects.requireNonNull(statistics, "statistics must not be null");
+    }
+
+    @ReadOperation
+    public List<QueryShapeStatistics.QueryShapeReport> shapes() {
+        return statistics.report();
+    }
+
+    @ReadOperation
+    public QueryShapeStatistics.QueryShapeReport shape(@Selector String shape) {
+        return statistics.report(shape).orElse(null);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.reset();
+    }
+}
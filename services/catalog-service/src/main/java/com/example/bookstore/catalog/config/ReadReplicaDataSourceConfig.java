@@ -0,0 +1,80 @@
+package com.example.bookstore.catalog.config;
+
+import com.example.bookstore.catalog.common.datasource.ReplicaPool;
+import com.example.bookstore.catalog.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "catalog.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close", autowireCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("catalog-primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return primary;
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(DataSourceProperties properties,
+                                   Environment environment,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${catalog.datasource.replicas.urls}") List<String> urls,
+                                   @Value("${catalog.datasource.replicas.username:}") String username,
+                                   @Value("${catalog.datasource.replicas.password:}") String password,
+                                   @Value("${catalog.datasource.replicas.maximum-pool-size:0}") int maximumPoolSize,
+                                   @Value("${catalog.datasource.replicas.max-lag:PT5S}") Duration maxLag,
+                                   @Value("${catalog.datasource.replicas.lag-check-interval:PT2S}") Duration lagCheckInterval) {
+        List<ReplicaPool.Replica> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            String name = "catalog-replica-" + replicas.size();
+            HikariDataSource replica = new HikariDataSource();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+            replica.setPoolName(name);
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(StringUtils.hasText(username) ? username : properties.determineUsername());
+            replica.setPassword(StringUtils.hasText(password) ? password : properties.determinePassword());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            if (maximumPoolSize > 0) {
+                replica.setMaximumPoolSize(maximumPoolSize);
+            }
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReplicaPool.Replica(name, replica));
+        }
+        return new ReplicaPool(replicas, maxLag, lagCheckInterval, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, ReplicaPool replicaPool, MeterRegistry meterRegistry) {
+        // Read-only transactions only become visible once Spring has begun them, so the physical
+        // connection has to be fetched lazily for the routing decision to see the flag.
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource(properties, meterRegistry), replicaPool, meterRegistry));
+    }
+}
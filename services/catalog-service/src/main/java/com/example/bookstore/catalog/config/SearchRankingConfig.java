@@ -0,0 +1,44 @@
+package com.example.bookstore.catalog.config;
+
+import com.example.bookstore.catalog.search.domain.FuzzyFallback;
+import com.example.bookstore.catalog.search.domain.SearchRanking;
+import com.example.bookstore.catalog.search.service.BoostingSearchReranker;
+import com.example.bookstore.catalog.search.service.SearchReranker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Configuration
+public class SearchRankingConfig {
+
+    @Bean
+    public SearchRanking searchRanking(
+            @Value("${catalog.search.ranking.title-weight:1.0}") double titleWeight,
+            @Value("${catalog.search.ranking.author-weight:0.4}") double authorWeight,
+            @Value("${catalog.search.ranking.normalization:}") Set<SearchRanking.Normalization> normalization,
+            @Value("${catalog.search.ranking.exact-title-boost:1.0}") double exactTitleBoost,
+            @Value("${catalog.search.ranking.phrase-boost:0.5}") double phraseBoost,
+            @Value("${catalog.search.ranking.rerank-top-k:100}") int rerankTopK,
+            @Value("${catalog.search.ranking.candidate-limit:1000}") int candidateLimit) {
+        return new SearchRanking(titleWeight, authorWeight, normalization, exactTitleBoost, phraseBoost, rerankTopK,
+                candidateLimit);
+    }
+
+    @Bean
+    public FuzzyFallback fuzzyFallback(
+            @Value("${catalog.search.fuzzy.min-results:5}") int minResults,
+            @Value("${catalog.search.fuzzy.similarity-threshold:0.4}") double similarityThreshold,
+            @Value("${catalog.search.fuzzy.budget:PT0.2S}") Duration budget) {
+        return new FuzzyFallback(minResults, similarityThreshold, budget);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(SearchReranker.class)
+    public SearchReranker searchReranker(SearchRanking searchRanking) {
+        return new BoostingSearchReranker(searchRanking);
+    }
+}
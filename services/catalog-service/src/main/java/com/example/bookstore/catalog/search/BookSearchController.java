@@ -3,16 +3,27 @@ package com.example.bookstore.catalog.search;
 import com.example.bookstore.catalog.book.domain.BookGenre;
 import com.example.bookstore.catalog.book.domain.BookSort;
 import com.example.bookstore.catalog.common.ApiMediaType;
+import com.example.bookstore.catalog.common.CappedPage;
+import com.example.bookstore.catalog.common.Money;
+import com.example.bookstore.catalog.common.PageCursor;
 import com.example.bookstore.catalog.common.PageResponse;
 import com.example.bookstore.catalog.common.PageResponseMeta;
+import com.example.bookstore.catalog.common.error.InvalidCursorException;
+import com.example.bookstore.catalog.common.error.InvalidQueryParameterException;
 import com.example.bookstore.catalog.common.error.PreconditionFailedException;
+import com.example.bookstore.catalog.common.fx.FxRateService;
+import com.example.bookstore.catalog.common.fx.FxRateTable;
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
+import com.example.bookstore.catalog.search.domain.BookSearchField;
 import com.example.bookstore.catalog.search.domain.BookSearchResult;
+import com.example.bookstore.catalog.search.domain.PriceCursor;
+import com.example.bookstore.catalog.search.domain.PriceFilter;
 import com.example.bookstore.catalog.search.service.BookSearchService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -21,44 +32,110 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 @RestController
-@RequestMapping(value = "/api/book-search", produces = ApiMediaType.V1_JSON)
+@RequestMapping(value = "/api/book-search", produces = {ApiMediaType.V1_JSON, ApiMediaType.V1_CBOR})
 @Validated
 public class BookSearchController {
 
     private final BookSearchService bookSearchService;
+    private final FxRateService fxRateService;
 
-    public BookSearchController(BookSearchService bookSearchService) {
+    public BookSearchController(BookSearchService bookSearchService, FxRateService fxRateService) {
         this.bookSearchService = bookSearchService;
+        this.fxRateService = fxRateService;
     }
 
-    @GetMapping(produces = ApiMediaType.V1_JSON)
+    @GetMapping(produces = {ApiMediaType.V1_JSON, ApiMediaType.V1_CBOR})
     @PreAuthorize("hasAnyRole('ADMIN','STAFF')")
     public ResponseEntity<PageResponse<BookSearchItemResponse>> searchBooks(
             @RequestParam(name = "filter[title]", required = false) @Size(max = 255) String title,
             @RequestParam(name = "filter[author]", required = false) @Size(max = 255) String author,
             @RequestParam(name = "filter[genres]", required = false) @Size(max = 20) List<@NotNull BookGenre> genres,
+            @RequestParam(name = "filter[price][gte]", required = false) @DecimalMin("0") BigDecimal priceMin,
+            @RequestParam(name = "filter[price][lte]", required = false) @DecimalMin("0") BigDecimal priceMax,
+            @RequestParam(name = "filter[price][currency]", required = false) @Pattern(regexp = "^[A-Za-z]{3}$") String priceCurrency,
             @RequestParam(name = "page[number]", defaultValue = "1") @Min(1) int pageNumber,
             @RequestParam(name = "page[size]", defaultValue = "20") @Min(1) @Max(100) int pageSize,
-            @RequestParam(name = "sort", required = false) @Size(max = 255) @Pattern(regexp = "^[A-Za-z0-9_,\\-\\s]*$") String sort) {
+            @RequestParam(name = "page[after]", required = false) @Size(max = 255) String after,
+            @RequestParam(name = "sort", required = false) @Size(max = 255) @Pattern(regexp = "^[A-Za-z0-9_,\\-\\s]*$") String sort,
+            @RequestParam(name = "fields[books]", required = false) @Size(max = 50) List<@Size(max = 255) String> fields,
+            @RequestParam(name = "currency", required = false) @Pattern(regexp = "^[A-Za-z]{3}$") String currency) {
 
+        if (priceMin != null && priceMax != null && priceMin.compareTo(priceMax) > 0) {
+            throw new InvalidQueryParameterException("filter[price][gte] must not be greater than filter[price][lte]");
+        }
+        FxRateTable rates = fxRateService.rates();
+        if (currency != null && !rates.supports(currency)) {
+            throw new InvalidQueryParameterException("Unsupported currency: " + currency);
+        }
         Sort resolvedSort = resolveSort(sort);
         Pageable pageable = PageRequest.of(pageNumber - 1, pageSize, resolvedSort);
-        Page<BookSearchResult> result = bookSearchService.search(title, author, normalizeGenres(genres), pageable);
-
+        PriceFilter price = resolvePriceFilter(priceMin, priceMax, priceCurrency, currency, rates);
+        BookSearchCriteria criteria = new BookSearchCriteria(title, author, normalizeGenres(genres),
+                BookSearchField.fromQueryParameters(fields), price, null);
+        if (after != null && !after.isBlank()) {
+            criteria = criteria.withAfter(decodePriceCursor(after, criteria, resolvedSort));
+        }
+        Page<BookSearchResult> result = bookSearchService.search(criteria, pageable);
+
+        String next = null;
+        if (criteria.keysetPriceOrder(resolvedSort) != null && result.hasNext() && result.hasContent()) {
+            BookSearchResult last = result.getContent().getLast();
+            next = PageCursor.of(price.currency(), last.price().amount().toPlainString(), last.id().toString(),
+                    Long.toString(result.getTotalElements()),
+                    Long.toString(result.getPageable().getOffset() + result.getNumberOfElements())).encode();
+        }
+        List<Money> displayPrices = currency == null
+                ? null
+                : rates.convertAll(result.getContent().stream().map(BookSearchResult::price).toList(), currency);
         return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
-                .body(toPageResponse(result));
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(toPageResponse(result, displayPrices, next));
+    }
+
+    private PriceFilter resolvePriceFilter(BigDecimal min, BigDecimal max, String currency, String displayCurrency,
+                                           FxRateTable rates) {
+        boolean scoped = currency != null && !currency.isBlank();
+        if (min == null && max == null && !scoped) {
+            return null;
+        }
+        if (!scoped && displayCurrency != null) {
+            // Bounds in the display currency match books in any currency through their normalized price.
+            return PriceFilter.normalized(
+                    min == null ? null : rates.toBase(min, displayCurrency),
+                    max == null ? null : rates.toBase(max, displayCurrency));
+        }
+        return new PriceFilter(scoped ? currency : Money.DEFAULT_CURRENCY, min, max);
+    }
+
+    private PriceCursor decodePriceCursor(String token, BookSearchCriteria criteria, Sort sort) {
+        if (criteria.keysetPriceOrder(sort) == null) {
+            throw new InvalidCursorException(token);
+        }
+        PageCursor cursor = PageCursor.decode(token, 5);
+        if (!criteria.price().currency().equals(cursor.value(0))) {
+            throw new InvalidCursorException(token);
+        }
+        try {
+            return new PriceCursor(new BigDecimal(cursor.value(1)), UUID.fromString(cursor.value(2)),
+                    Long.parseLong(cursor.value(3)), Long.parseLong(cursor.value(4)));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(token);
+        }
     }
 
     private Sort resolveSort(String sort) {
@@ -112,15 +189,24 @@ public class BookSearchController {
     }
 
     public PageResponse<BookSearchItemResponse> toPageResponse(Page<BookSearchResult> page) {
+        return toPageResponse(page, null, null);
+    }
+
+    private PageResponse<BookSearchItemResponse> toPageResponse(Page<BookSearchResult> page, List<Money> displayPrices,
+                                                                String next) {
+        List<BookSearchResult> results = page.getContent();
         return new PageResponse<>(
-                page.getContent().stream()
-                        .map(BookSearchItemResponse::fromResult)
+                IntStream.range(0, results.size())
+                        .mapToObj(i -> BookSearchItemResponse.fromResult(results.get(i),
+                                displayPrices == null ? null : displayPrices.get(i)))
                         .toList(),
                 new PageResponseMeta(
                         page.getTotalElements(),
                         page.getTotalPages(),
                         page.getNumber() + 1,
-                        page.getSize()
+                        page.getSize(),
+                        next,
+                        CappedPage.isCapped(page) ? Boolean.TRUE : null
                 ));
     }
 }
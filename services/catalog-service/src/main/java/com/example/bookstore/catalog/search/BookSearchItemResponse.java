@@ -1,6 +1,9 @@
 package com.example.bookstore.catalog.search;
 
+import com.example.bookstore.catalog.common.Money;
 import com.example.bookstore.catalog.search.domain.BookSearchResult;
+import com.example.bookstore.catalog.search.domain.SearchStage;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.List;
@@ -8,21 +11,31 @@ import java.util.UUID;
 
 public record BookSearchItemResponse(
         UUID id,
-        String title,
-        List<String> authors,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String title,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<String> authors,
         Double score,
+        @JsonInclude(JsonInclude.Include.NON_NULL) SearchStage stage,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Money price,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Money displayPrice,
         @JsonProperty("_links") Links links) {
 
     public BookSearchItemResponse {
-        authors = authors == null ? List.of() : List.copyOf(authors);
+        authors = authors == null ? null : List.copyOf(authors);
     }
 
     public static BookSearchItemResponse fromResult(BookSearchResult result) {
+        return fromResult(result, null);
+    }
+
+    public static BookSearchItemResponse fromResult(BookSearchResult result, Money displayPrice) {
         return new BookSearchItemResponse(
                 result.id(),
                 result.title(),
                 result.authors(),
                 result.score(),
+                result.stage(),
+                result.price(),
+                displayPrice,
                 new Links(new Link("/api/books/" + result.id()))
         );
     }
@@ -0,0 +1,52 @@
+package com.example.bookstore.catalog.search.domain;
+
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.domain.BookSort;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+public record BookSearchCriteria(
+        String titleQuery,
+        String authorQuery,
+        List<BookGenre> genres,
+        Set<BookSearchField> fields,
+        PriceFilter price,
+        PriceCursor after) {
+
+    public BookSearchCriteria {
+        genres = genres == null ? List.of() : List.copyOf(genres);
+        fields = fields == null ? Set.copyOf(EnumSet.allOf(BookSearchField.class)) : Set.copyOf(fields);
+    }
+
+    public BookSearchCriteria(String titleQuery, String authorQuery, List<BookGenre> genres, Set<BookSearchField> fields) {
+        this(titleQuery, authorQuery, genres, fields, null, null);
+    }
+
+    public BookSearchCriteria withAfter(PriceCursor after) {
+        return new BookSearchCriteria(titleQuery, authorQuery, genres, fields, price, after);
+    }
+
+    /**
+     * Returns the price order when results can be continued from a {@link PriceCursor}: a currency-scoped price filter
+     * sorted by price alone. Other orders page by offset.
+     */
+    @Nullable
+    public Sort.Order keysetPriceOrder(Sort sort) {
+        if (price == null || price.crossCurrency() || sort == null) {
+            return null;
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1 || !BookSort.PRICE.equals(orders.getFirst().getProperty())) {
+            return null;
+        }
+        return orders.getFirst();
+    }
+
+    public static BookSearchCriteria of(String titleQuery, String authorQuery, List<BookGenre> genres) {
+        return new BookSearchCriteria(titleQuery, authorQuery, genres, null);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.bookstore.catalog.search.domain;
+
+import com.example.bookstore.catalog.common.error.InvalidFieldsParameterException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+public enum BookSearchField {
+    TITLE("title"),
+    AUTHORS("authors"),
+    SCORE("score");
+
+    private final String parameterValue;
+
+    BookSearchField(String parameterValue) {
+        this.parameterValue = parameterValue;
+    }
+
+    public static EnumSet<BookSearchField> fromQueryParameters(List<String> rawValues) {
+        if (rawValues == null) {
+            return EnumSet.allOf(BookSearchField.class);
+        }
+
+        EnumSet<BookSearchField> result = EnumSet.noneOf(BookSearchField.class);
+        rawValues.stream()
+                .filter(Objects::nonNull)
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .map(token -> token.toLowerCase(Locale.ROOT))
+                .filter(token -> !token.equals("id"))
+                .map(BookSearchField::fromValue)
+                .forEach(result::add);
+
+        return result;
+    }
+
+    private static BookSearchField fromValue(String value) {
+        for (BookSearchField field : BookSearchField.values()) {
+            if (field.parameterValue.equals(value)) {
+                return field;
+            }
+        }
+        throw new InvalidFieldsParameterException(value);
+    }
+}
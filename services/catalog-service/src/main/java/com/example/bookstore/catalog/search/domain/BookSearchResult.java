@@ -1,11 +1,13 @@
 package com.example.bookstore.catalog.search.domain;
 
+import com.example.bookstore.catalog.common.Money;
+
 import java.util.List;
 import java.util.UUID;
 
-public record BookSearchResult(UUID id, String title, List<String> authors, Double score) {
+public record BookSearchResult(UUID id, String title, List<String> authors, Double score, Money price, SearchStage stage) {
 
     public BookSearchResult {
-        authors = authors == null ? List.of() : List.copyOf(authors);
+        authors = authors == null ? null : List.copyOf(authors);
     }
 }
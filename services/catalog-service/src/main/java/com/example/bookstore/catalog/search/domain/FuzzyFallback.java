@@ -0,0 +1,34 @@
+package com.example.bookstore.catalog.search.domain;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Settings for the typo-tolerant search stage. When a text search has fewer than {@code minResults} full-text matches,
+ * the first page is topped up with titles and author names whose {@code word_similarity} to the query reaches
+ * {@code similarityThreshold}. The stage gets at most {@code budget} of database time; past that, the full-text
+ * results are returned alone.
+ */
+public record FuzzyFallback(int minResults, double similarityThreshold, Duration budget) {
+
+    public FuzzyFallback {
+        if (minResults < 0) {
+            throw new IllegalArgumentException("minResults must not be negative");
+        }
+        if (!(similarityThreshold > 0 && similarityThreshold <= 1)) {
+            throw new IllegalArgumentException("similarityThreshold must be greater than 0 and at most 1");
+        }
+        Objects.requireNonNull(budget, "budget must not be null");
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("budget must be positive");
+        }
+    }
+
+    public static FuzzyFallback defaults() {
+        return new FuzzyFallback(5, 0.4, Duration.ofMillis(200));
+    }
+
+    public boolean enabled() {
+        return minResults > 0;
+    }
+}
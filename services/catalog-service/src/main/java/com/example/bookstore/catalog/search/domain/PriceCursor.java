@@ -0,0 +1,20 @@
+package com.example.bookstore.catalog.search.domain;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Continues a price-sorted search after the book with {@code price} and {@code id}. The total counted on the first page
+ * and the offset of the continued page travel with it, so later pages need no count.
+ */
+public record PriceCursor(BigDecimal price, UUID id, long total, long offset) {
+
+    public PriceCursor {
+        Objects.requireNonNull(price, "price must not be null");
+        Objects.requireNonNull(id, "id must not be null");
+        if (total < 0 || offset < 0) {
+            throw new IllegalArgumentException("total and offset must not be negative");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.bookstore.catalog.search.domain;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Price bounds for a search. With a currency the bounds apply to books priced in that currency only; without one
+ * they are base-currency amounts compared against every book's normalized price.
+ */
+public record PriceFilter(String currency, BigDecimal min, BigDecimal max) {
+
+    public PriceFilter {
+        currency = currency == null ? null : currency.trim().toUpperCase(Locale.ROOT);
+    }
+
+    public static PriceFilter normalized(BigDecimal min, BigDecimal max) {
+        return new PriceFilter(null, min, max);
+    }
+
+    public boolean crossCurrency() {
+        return currency == null;
+    }
+}
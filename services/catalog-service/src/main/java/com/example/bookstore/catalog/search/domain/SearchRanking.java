@@ -0,0 +1,85 @@
+package com.example.bookstore.catalog.search.domain;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Relevance settings for full-text search. Field weights feed the {@code ts_rank_cd} weight array (title vectors carry
+ * label A, author vectors label B), the boosts are applied by the re-ranking stage to the top {@code rerankTopK}
+ * candidates only. A positive {@code candidateLimit} ranks relevance-sorted searches within at most that many of the
+ * best-ranked matches and caps their total and paging there.
+ */
+public record SearchRanking(double titleWeight,
+                            double authorWeight,
+                            Set<Normalization> normalization,
+                            double exactTitleBoost,
+                            double phraseBoost,
+                            int rerankTopK,
+                            int candidateLimit) {
+
+    public SearchRanking {
+        requireWeight("titleWeight", titleWeight);
+        requireWeight("authorWeight", authorWeight);
+        normalization = normalization == null || normalization.isEmpty()
+                ? Set.of()
+                : Set.copyOf(EnumSet.copyOf(normalization));
+        if (exactTitleBoost < 0 || phraseBoost < 0) {
+            throw new IllegalArgumentException("Search boosts must not be negative");
+        }
+        if (rerankTopK < 0 || candidateLimit < 0) {
+            throw new IllegalArgumentException("rerankTopK and candidateLimit must not be negative");
+        }
+    }
+
+    public static SearchRanking defaults() {
+        return new SearchRanking(1.0, 0.4, Set.of(), 1.0, 0.5, 100, 1000);
+    }
+
+    public int normalizationMask() {
+        return normalization.stream().mapToInt(Normalization::flag).reduce(0, (left, right) -> left | right);
+    }
+
+    /**
+     * Weight array in the {D, C, B, A} order {@code ts_rank_cd} expects.
+     */
+    public String weightsLiteral() {
+        return String.format(Locale.ROOT, "'{0, 0, %s, %s}'::float4[]", authorWeight, titleWeight);
+    }
+
+    public boolean rerankEnabled() {
+        return rerankTopK > 0;
+    }
+
+    public boolean candidatesBounded() {
+        return candidateLimit > 0;
+    }
+
+    private static void requireWeight(String name, double weight) {
+        if (!(weight >= 0 && weight <= 1)) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1");
+        }
+    }
+
+    /**
+     * Document-length normalization options of {@code ts_rank_cd}; the selected flags are OR-ed together.
+     */
+    public enum Normalization {
+        LOG_LENGTH(1),
+        LENGTH(2),
+        HARMONIC_DISTANCE(4),
+        UNIQUE_WORDS(8),
+        LOG_UNIQUE_WORDS(16),
+        SCALE_TO_UNIT(32);
+
+        private final int flag;
+
+        Normalization(int flag) {
+            this.flag = flag;
+        }
+
+        public int flag() {
+            return flag;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.bookstore.catalog.search.domain;
+
+/**
+ * The search stage that produced a result: the full-text match or the trigram fallback for sparse result sets.
+ */
+public enum SearchStage {
+    FULL_TEXT,
+    FUZZY
+}
@@ -0,0 +1,308 @@
+package com.example.bookstore.catalog.search.index;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * Set of non-negative ints in the layout of a Roaring bitmap: values are split by their high 16 bits into chunks, and
+ * each chunk is a sorted {@code char[]} while it holds at most 4096 values and a 1024-word bitmap beyond that. A sparse
+ * genre costs two bytes per book, a dense one an eighth of a byte, and membership checks stay O(log chunks).
+ */
+final class CompressedBitmap {
+
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    static CompressedBitmap union(Collection<CompressedBitmap> bitmaps) {
+        CompressedBitmap union = new CompressedBitmap();
+        for (CompressedBitmap bitmap : bitmaps) {
+            for (int i = 0; i < bitmap.size; i++) {
+                int index = union.indexOf(bitmap.keys[i]);
+                if (index >= 0) {
+                    union.containers[index] = union.containers[index].or(bitmap.containers[i]);
+                } else {
+                    union.insert(-index - 1, bitmap.keys[i], bitmap.containers[i].copy());
+                }
+            }
+        }
+        return union;
+    }
+
+    void add(int value) {
+        char key = (char) (value >>> 16);
+        int index = indexOf(key);
+        if (index >= 0) {
+            containers[index] = containers[index].add((char) value);
+        } else {
+            insert(-index - 1, key, new ArrayContainer().add((char) value));
+        }
+    }
+
+    void remove(int value) {
+        int index = indexOf((char) (value >>> 16));
+        if (index < 0) {
+            return;
+        }
+        Container container = containers[index].remove((char) value);
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+        } else {
+            containers[index] = container;
+        }
+    }
+
+    boolean contains(int value) {
+        int index = indexOf((char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Visits the values in ascending order. */
+    void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    long sizeInBytes() {
+        long bytes = (long) size * (Character.BYTES + Long.BYTES);
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insert(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private abstract static sealed class Container permits ArrayContainer, BitmapContainer {
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract Container or(Container other);
+
+        abstract Container copy();
+
+        abstract void forEach(int high, IntConsumer action);
+
+        abstract long sizeInBytes();
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_LIMIT) {
+                return toBitmap().add(value);
+            }
+            int insertion = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_LIMIT));
+            }
+            System.arraycopy(values, insertion, values, insertion + 1, cardinality - insertion);
+            values[insertion] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                return bitmap.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            if (cardinality + array.cardinality > ARRAY_LIMIT) {
+                return toBitmap().or(array);
+            }
+            char[] merged = new char[Math.max(cardinality + array.cardinality, 4)];
+            int left = 0;
+            int right = 0;
+            int count = 0;
+            while (left < cardinality && right < array.cardinality) {
+                char a = values[left];
+                char b = array.values[right];
+                merged[count++] = a <= b ? a : b;
+                left += a <= b ? 1 : 0;
+                right += b <= a ? 1 : 0;
+            }
+            while (left < cardinality) {
+                merged[count++] = values[left++];
+            }
+            while (right < array.cardinality) {
+                merged[count++] = array.values[right++];
+            }
+            ArrayContainer union = new ArrayContainer();
+            union.values = merged;
+            union.cardinality = count;
+            return union;
+        }
+
+        @Override
+        Container copy() {
+            ArrayContainer copy = new ArrayContainer();
+            copy.values = Arrays.copyOf(values, Math.max(cardinality, 4));
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return (long) values.length * Character.BYTES;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        @Override
+        Container add(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                words[value >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) != 0) {
+                words[value >>> 6] &= ~bit;
+                cardinality--;
+            }
+            return cardinality > ARRAY_LIMIT ? this : toArray();
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container or(Container other) {
+            BitmapContainer union = (BitmapContainer) copy();
+            if (other instanceof BitmapContainer bitmap) {
+                union.cardinality = 0;
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    union.words[i] |= bitmap.words[i];
+                    union.cardinality += Long.bitCount(union.words[i]);
+                }
+            } else {
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.cardinality; i++) {
+                    union.add(array.values[i]);
+                }
+            }
+            return union;
+        }
+
+        @Override
+        Container copy() {
+            BitmapContainer copy = new BitmapContainer();
+            System.arraycopy(words, 0, copy.words, 0, BITMAP_WORDS);
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return (long) BITMAP_WORDS * Long.BYTES;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            forEach(0, value -> array.add((char) value));
+            return array;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.bookstore.catalog.search.index;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inverted index of one text field, scored with Okapi BM25. Removed documents only leave the length statistics; their
+ * postings stay until the owning index is compacted, and callers filter them out.
+ */
+final class FieldIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private int[] lengths = new int[64];
+    private long totalLength;
+    private int documents;
+
+    void add(int docId, List<String> tokens) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new PostingList()).add(docId, frequency));
+        if (docId >= lengths.length) {
+            lengths = Arrays.copyOf(lengths, Math.max(lengths.length * 2, docId + 1));
+        }
+        lengths[docId] = tokens.size();
+        totalLength += tokens.size();
+        documents++;
+    }
+
+    void remove(int docId) {
+        totalLength -= lengths[docId];
+        documents--;
+    }
+
+    /**
+     * Scores the documents holding every term; the terms of a query are AND-ed like {@code websearch_to_tsquery}. Only
+     * documents in {@code candidates}, when given, are probed against the other terms and scored.
+     */
+    ScoredDocuments match(List<String> terms, CompressedBitmap candidates) {
+        List<String> distinct = terms.stream().distinct().toList();
+        PostingList[] lists = new PostingList[distinct.size()];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postings.get(distinct.get(i));
+            if (lists[i] == null) {
+                return ScoredDocuments.EMPTY;
+            }
+        }
+        // The rarest term leads, so the other lists are only probed at its documents.
+        Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+        PostingList.Cursor[] cursors = new PostingList.Cursor[lists.length];
+        double[] idf = new double[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            cursors[i] = lists[i].cursor();
+            idf[i] = idf(lists[i].size());
+        }
+        double averageLength = documents == 0 ? 1.0 : Math.max(1.0, (double) totalLength / documents);
+        ScoredDocuments matches = new ScoredDocuments(lists[0].size());
+        PostingList.Cursor lead = cursors[0];
+        scan:
+        while (lead.next()) {
+            int docId = lead.docId();
+            if (candidates != null && !candidates.contains(docId)) {
+                continue;
+            }
+            for (int i = 1; i < cursors.length; i++) {
+                if (!cursors[i].advance(docId)) {
+                    break scan;
+                }
+                if (cursors[i].docId() != docId) {
+                    continue scan;
+                }
+            }
+            double score = 0;
+            for (int i = 0; i < cursors.length; i++) {
+                score += idf[i] * termWeight(cursors[i].frequency(), lengths[docId], averageLength);
+            }
+            matches.add(docId, score);
+        }
+        return matches;
+    }
+
+    long sizeInBytes() {
+        long bytes = (long) lengths.length * Integer.BYTES;
+        for (PostingList list : postings.values()) {
+            bytes += list.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private double idf(int documentFrequency) {
+        // Postings of removed documents can outnumber the live ones until compaction.
+        int frequency = Math.min(documentFrequency, documents);
+        return Math.log(1 + (documents - frequency + 0.5) / (frequency + 0.5));
+    }
+
+    private static double termWeight(int frequency, int length, double averageLength) {
+        return frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+    }
+}
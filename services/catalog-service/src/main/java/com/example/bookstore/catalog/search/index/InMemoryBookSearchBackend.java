@@ -0,0 +1,248 @@
+package com.example.bookstore.catalog.search.index;
+
+import com.example.bookstore.catalog.author.event.AuthorChangedEvent;
+import com.example.bookstore.catalog.book.event.BookChangedEvent;
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
+import com.example.bookstore.catalog.common.invalidation.InvalidationGapEvent;
+import com.example.bookstore.catalog.common.invalidation.RemoteCatalogChangeEvent;
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
+import com.example.bookstore.catalog.search.domain.SearchRanking;
+import com.example.bookstore.catalog.search.repository.BookSearchDocument;
+import com.example.bookstore.catalog.search.repository.BookSearchDocumentRepository;
+import com.example.bookstore.catalog.search.repository.BookSearchRow;
+import com.example.bookstore.catalog.search.service.BookSearchBackend;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Serves text searches from an {@link InvertedBookIndex} held by each replica, so search capacity grows with the
+ * number of replicas rather than with the database. The index is built from a streaming scan of
+ * {@code book_read_model} on startup; local commits are applied from their change events and commits on other
+ * replicas from the invalidation bus. A periodic scan by {@code updated_at} and a full rebuild every
+ * {@code rebuild-interval} repair anything a lost notification missed. Until the first build finishes, searches stay on
+ * the database, and so do queries using websearch operators (phrases, exclusions and {@code or}), which the index does
+ * not implement.
+ *
+ * <p>All index writes run on one thread; searches share a read lock and only wait while a change is applied.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "catalog.search.backend", havingValue = "in-memory")
+public class InMemoryBookSearchBackend implements BookSearchBackend, InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryBookSearchBackend.class);
+    // Rows can commit after a later updated_at was seen, so every sync re-reads a short window.
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final BookSearchDocumentRepository repository;
+    private final SearchRanking ranking;
+    private final Duration syncInterval;
+    private final Duration rebuildInterval;
+    private final ScheduledExecutorService executor;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedBookIndex index;
+    private volatile boolean ready;
+    private Instant watermark;
+
+    public InMemoryBookSearchBackend(@NonNull BookSearchDocumentRepository repository,
+                                     @NonNull SearchRanking ranking,
+                                     @NonNull MeterRegistry meterRegistry,
+                                     @NonNull @Value("${catalog.search.in-memory.sync-interval:PT30S}") Duration syncInterval,
+                                     @NonNull @Value("${catalog.search.in-memory.rebuild-interval:PT1H}") Duration rebuildInterval) {
+        this.repository = Objects.requireNonNull(repository, "repository must not be null");
+        this.ranking = Objects.requireNonNull(ranking, "ranking must not be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        this.syncInterval = Objects.requireNonNull(syncInterval, "syncInterval must not be null");
+        this.rebuildInterval = Objects.requireNonNull(rebuildInterval, "rebuildInterval must not be null");
+        this.index = new InvertedBookIndex(ranking);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("catalog.search.index.books", this, InMemoryBookSearchBackend::indexedBooks)
+                .description("Books held by the in-memory search index")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean supports(@NonNull BookSearchCriteria criteria, @NonNull Pageable pageable) {
+        return ready && criteria.price() == null && criteria.after() == null
+                && InvertedBookIndex.isSortable(pageable.getSort())
+                && InvertedBookIndex.isPlainQuery(criteria.titleQuery()) && InvertedBookIndex.isPlainQuery(criteria.authorQuery());
+    }
+
+    @Override
+    @NonNull
+    public Page<BookSearchRow> search(@NonNull BookSearchCriteria criteria, @NonNull Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            return index.search(criteria, pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        submit(this::rebuild);
+        long syncMillis = syncInterval.toMillis();
+        long rebuildMillis = rebuildInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::sync, syncMillis, syncMillis, TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::rebuild, rebuildMillis, rebuildMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBookChanged(@NonNull BookChangedEvent event) {
+        reindexBook(event.bookId(), event.changeType());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAuthorChanged(@NonNull AuthorChangedEvent event) {
+        reindexAuthor(event.authorId());
+    }
+
+    // Author renames leave updated_at of their books alone, so the sync scan alone would never see remote ones.
+    @EventListener
+    public void onRemoteChange(@NonNull RemoteCatalogChangeEvent event) {
+        switch (event.aggregateType()) {
+            case BOOK -> reindexBook(event.aggregateId(), event.changeType());
+            case AUTHOR -> reindexAuthor(event.aggregateId());
+            default -> throw new IllegalArgumentException("Unsupported aggregate type: " + event.aggregateType());
+        }
+    }
+
+    @EventListener
+    public void onInvalidationGap(@NonNull InvalidationGapEvent event) {
+        submit(this::rebuild);
+    }
+
+    private void reindexBook(UUID bookId, CatalogChangeType changeType) {
+        if (changeType == CatalogChangeType.DELETED) {
+            submit(() -> apply(List.of(), Set.of(bookId)));
+        } else {
+            // A book no longer in the read model by the time the update runs is dropped rather than re-added.
+            submit(() -> apply(repository.findByIds(List.of(bookId)), Set.of(bookId)));
+        }
+    }
+
+    // Deleting an author first updates each of its books, so those arrive as book changes.
+    private void reindexAuthor(UUID authorId) {
+        submit(() -> apply(repository.findByAuthor(authorId), Set.of()));
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException ex) {
+                    log.warn("search-index: update failed, the next sync retries it: {}", ex.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            log.debug("search-index: shutting down, dropped an index update");
+        }
+    }
+
+    private void apply(List<BookSearchDocument> documents, Set<UUID> removed) {
+        lock.writeLock().lock();
+        try {
+            removed.forEach(index::remove);
+            documents.forEach(this::put);
+            if (index.needsCompaction()) {
+                index = index.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(BookSearchDocument document) {
+        index.put(document);
+        if (document.updatedAt() != null && (watermark == null || document.updatedAt().isAfter(watermark))) {
+            watermark = document.updatedAt();
+        }
+    }
+
+    private void sync() {
+        if (!ready) {
+            return;
+        }
+        try {
+            Instant since = watermark == null ? Instant.EPOCH : watermark.minus(SYNC_OVERLAP);
+            repository.streamUpdatedSince(since, document -> apply(List.of(document), Set.of()));
+        } catch (RuntimeException ex) {
+            log.warn("search-index: sync failed: {}", ex.getMessage());
+        }
+    }
+
+    // Builds the replacement off to the side, so searches keep using the current index until the swap.
+    private void rebuild() {
+        long started = System.nanoTime();
+        try {
+            InvertedBookIndex rebuilt = new InvertedBookIndex(ranking);
+            Instant[] newest = new Instant[1];
+            repository.streamAll(document -> {
+                rebuilt.put(document);
+                if (document.updatedAt() != null && (newest[0] == null || document.updatedAt().isAfter(newest[0]))) {
+                    newest[0] = document.updatedAt();
+                }
+            });
+            lock.writeLock().lock();
+            try {
+                index = rebuilt;
+                watermark = newest[0];
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("search-index: indexed {} books in {} ms ({} KiB of postings, {} KiB of genre bitmaps)", rebuilt.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), rebuilt.postingBytes() / 1024,
+                    rebuilt.genreBytes() / 1024);
+        } catch (RuntimeException ex) {
+            log.warn("search-index: rebuild failed, keeping {} indexed books: {}", indexedBooks(), ex.getMessage());
+        }
+        // Commits that landed during the scan are covered by the sync overlap.
+        sync();
+    }
+
+    private double indexedBooks() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.bookstore.catalog.search.index;
+
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.domain.BookSort;
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
+import com.example.bookstore.catalog.search.domain.BookSearchField;
+import com.example.bookstore.catalog.search.domain.SearchRanking;
+import com.example.bookstore.catalog.search.repository.BookSearchDocument;
+import com.example.bookstore.catalog.search.repository.BookSearchRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory index of book titles and author names. Books get dense int ids in insertion order, and each genre is a
+ * {@link CompressedBitmap} over those ids that pre-filters text matches before they are scored. A changed book is
+ * re-added under a new id; its old id only leaves the live set until {@link #compact()} rebuilds the index from the
+ * live documents. Not thread-safe.
+ */
+final class InvertedBookIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // Quotes, a leading minus and a standalone "or" are operators to websearch_to_tsquery; tokenize drops them.
+    private static final Pattern WEBSEARCH_OPERATOR = Pattern.compile("\"|(?:^|\\s)-|(?:^|\\s)or(?:\\s|$)", Pattern.CASE_INSENSITIVE);
+    private static final Set<String> SORTABLE = Set.of(BookSort.SCORE, BookSort.TITLE, BookSort.CREATED_AT, BookSort.UPDATED_AT);
+    private static final int MIN_COMPACTION_TOMBSTONES = 1024;
+
+    private final SearchRanking ranking;
+    private final List<BookSearchDocument> documents = new ArrayList<>();
+    private final Map<UUID, Integer> docIds = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final Map<BookGenre, CompressedBitmap> genres = new EnumMap<>(BookGenre.class);
+    private final FieldIndex titles = new FieldIndex();
+    private final FieldIndex authors = new FieldIndex();
+
+    InvertedBookIndex(SearchRanking ranking) {
+        this.ranking = ranking;
+    }
+
+    static boolean isSortable(Sort sort) {
+        return sort.stream().allMatch(order -> SORTABLE.contains(order.getProperty()));
+    }
+
+    /** Returns true when the query has no websearch operators, so matching all of its terms agrees with PostgreSQL. */
+    static boolean isPlainQuery(String query) {
+        return query == null || !WEBSEARCH_OPERATOR.matcher(query).find();
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    void put(BookSearchDocument document) {
+        remove(document.id());
+        int docId = documents.size();
+        documents.add(document);
+        docIds.put(document.id(), docId);
+        live.set(docId);
+        titles.add(docId, tokenize(document.title()));
+        authors.add(docId, tokenize(String.join(" ", document.authorNames())));
+        for (BookGenre genre : document.genres()) {
+            genres.computeIfAbsent(genre, key -> new CompressedBitmap()).add(docId);
+        }
+    }
+
+    void remove(UUID bookId) {
+        Integer docId = docIds.remove(bookId);
+        if (docId == null) {
+            return;
+        }
+        for (BookGenre genre : documents.get(docId).genres()) {
+            genres.get(genre).remove(docId);
+        }
+        live.clear(docId);
+        documents.set(docId, null);
+        titles.remove(docId);
+        authors.remove(docId);
+    }
+
+    int size() {
+        return docIds.size();
+    }
+
+    long postingBytes() {
+        return titles.sizeInBytes() + authors.sizeInBytes();
+    }
+
+    long genreBytes() {
+        return genres.values().stream().mapToLong(CompressedBitmap::sizeInBytes).sum();
+    }
+
+    /** Returns true when none of the requested genres holds a book, which answers the search without scanning. */
+    boolean excludesAll(List<BookGenre> filter) {
+        return !filter.isEmpty() && filter.stream().map(genres::get).allMatch(books -> books == null || books.isEmpty());
+    }
+
+    boolean needsCompaction() {
+        int tombstones = documents.size() - docIds.size();
+        return tombstones >= MIN_COMPACTION_TOMBSTONES && tombstones > docIds.size();
+    }
+
+    InvertedBookIndex compact() {
+        InvertedBookIndex compacted = new InvertedBookIndex(ranking);
+        for (int docId = live.nextSetBit(0); docId >= 0; docId = live.nextSetBit(docId + 1)) {
+            compacted.put(documents.get(docId));
+        }
+        return compacted;
+    }
+
+    Page<BookSearchRow> search(BookSearchCriteria criteria, Pageable pageable) {
+        if (excludesAll(criteria.genres())) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        // Genre bitmaps only hold live books, so the union is the candidate set as it stands.
+        CompressedBitmap candidates = criteria.genres().isEmpty() ? null : CompressedBitmap.union(
+                criteria.genres().stream().distinct().map(genres::get).filter(Objects::nonNull).toList());
+        ScoredDocuments titleMatches = match(titles, criteria.titleQuery(), candidates);
+        ScoredDocuments authorMatches = match(authors, criteria.authorQuery(), candidates);
+        boolean hasRank = titleMatches != null || authorMatches != null;
+        Comparator<Hit> order = order(pageable.getSort(), hasRank);
+        TopHits top = new TopHits(order, pageable.getOffset() + pageable.getPageSize());
+
+        if (!hasRank && candidates != null) {
+            candidates.forEach(docId -> top.offer(new Hit(docId, 0)));
+        } else if (!hasRank) {
+            for (int docId = live.nextSetBit(0); docId >= 0; docId = live.nextSetBit(docId + 1)) {
+                top.offer(new Hit(docId, 0));
+            }
+        } else {
+            ScoredDocuments lead = titleMatches != null ? titleMatches : authorMatches;
+            double leadWeight = titleMatches != null ? ranking.titleWeight() : ranking.authorWeight();
+            ScoredDocuments other = titleMatches != null ? authorMatches : null;
+            for (int i = 0; i < lead.size(); i++) {
+                int docId = lead.docId(i);
+                if (!live.get(docId)) {
+                    continue;
+                }
+                double score = leadWeight * lead.score(i);
+                if (other != null) {
+                    double otherScore = other.scoreOf(docId);
+                    if (Double.isNaN(otherScore)) {
+                        continue;
+                    }
+                    score += ranking.authorWeight() * otherScore;
+                }
+                top.offer(new Hit(docId, score));
+            }
+        }
+
+        List<Hit> hits = top.sorted();
+        Set<BookSearchField> fields = criteria.fields();
+        boolean withScore = hasRank && fields.contains(BookSearchField.SCORE);
+        List<BookSearchRow> content = hits.stream()
+                .skip(pageable.getOffset())
+                .map(hit -> {
+                    BookSearchDocument document = documents.get(hit.docId());
+                    return new BookSearchRow(document.id(),
+                            fields.contains(BookSearchField.TITLE) ? document.title() : null,
+                            fields.contains(BookSearchField.AUTHORS) ? document.authorNames() : null,
+                            withScore ? hit.score() : null,
+                            document.price());
+                })
+                .toList();
+        return new PageImpl<>(content, pageable, top.total());
+    }
+
+    private static ScoredDocuments match(FieldIndex field, String query, CompressedBitmap candidates) {
+        if (query == null) {
+            return null;
+        }
+        List<String> terms = tokenize(query);
+        return terms.isEmpty() ? ScoredDocuments.EMPTY : field.match(terms, candidates);
+    }
+
+    // Mirrors the SQL backend: relevance, then newest first, unless the request names its own order.
+    private Comparator<Hit> order(Sort sort, boolean hasRank) {
+        Comparator<Hit> newestFirst = by(BookSearchDocument::createdAt).reversed();
+        Comparator<Hit> order;
+        if (sort == null || sort.isUnsorted()) {
+            order = hasRank ? Comparator.comparingDouble(Hit::score).reversed().thenComparing(newestFirst) : newestFirst;
+        } else {
+            order = (left, right) -> 0;
+            for (Sort.Order sortOrder : sort) {
+                order = order.thenComparing(comparator(sortOrder));
+            }
+        }
+        return order.thenComparing(by(BookSearchDocument::id));
+    }
+
+    private Comparator<Hit> comparator(Sort.Order sortOrder) {
+        Comparator<Hit> comparator = switch (sortOrder.getProperty()) {
+            case BookSort.SCORE -> Comparator.comparingDouble(Hit::score);
+            case BookSort.TITLE -> by(BookSearchDocument::title);
+            case BookSort.CREATED_AT -> by(BookSearchDocument::createdAt);
+            case BookSort.UPDATED_AT -> by(BookSearchDocument::updatedAt);
+            default -> throw new IllegalArgumentException("Unsupported sort property: " + sortOrder.getProperty());
+        };
+        return sortOrder.isAscending() ? comparator : comparator.reversed();
+    }
+
+    private <T extends Comparable<? super T>> Comparator<Hit> by(Function<BookSearchDocument, T> key) {
+        return Comparator.comparing(hit -> key.apply(documents.get(hit.docId())), Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    private record Hit(int docId, double score) {
+    }
+
+    /** Keeps only the best {@code limit} hits, worst on top, instead of sorting every match. */
+    private static final class TopHits {
+
+        private final Comparator<Hit> order;
+        private final long limit;
+        private final PriorityQueue<Hit> queue;
+        private long total;
+
+        TopHits(Comparator<Hit> order, long limit) {
+            this.order = order;
+            this.limit = limit;
+            this.queue = new PriorityQueue<>(order.reversed());
+        }
+
+        void offer(Hit hit) {
+            total++;
+            queue.offer(hit);
+            if (queue.size() > limit) {
+                queue.poll();
+            }
+        }
+
+        long total() {
+            return total;
+        }
+
+        List<Hit> sorted() {
+            List<Hit> hits = new ArrayList<>(queue);
+            hits.sort(order);
+            return hits;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.bookstore.catalog.search.index;
+
+import java.util.Arrays;
+
+/**
+ * Append-only list of ascending document ids and their term frequencies. Each posting is stored as a variable-length
+ * gap to the previous id followed by the frequency, so a common term costs about two bytes per document.
+ */
+final class PostingList {
+
+    private byte[] bytes = new byte[16];
+    private int length;
+    private int size;
+    private int lastDocId = -1;
+
+    void add(int docId, int frequency) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("Postings must be appended in ascending document order");
+        }
+        if (length + 10 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 10));
+        }
+        writeVarInt(docId - lastDocId);
+        writeVarInt(frequency);
+        lastDocId = docId;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void writeVarInt(int value) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        bytes[length++] = (byte) remaining;
+    }
+
+    /** Walks the postings in document order; {@link #advance} skips forward within the same pass. */
+    final class Cursor {
+
+        private final byte[] data = bytes;
+        private final int end = size;
+        private int position;
+        private int read;
+        private int docId = -1;
+        private int frequency;
+
+        boolean next() {
+            if (read == end) {
+                return false;
+            }
+            docId += readVarInt();
+            frequency = readVarInt();
+            read++;
+            return true;
+        }
+
+        /** Moves to the first posting at or after {@code target}; returns false once the list is exhausted. */
+        boolean advance(int target) {
+            while (docId < target) {
+                if (!next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int docId() {
+            return docId;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte current;
+            do {
+                current = data[position++];
+                value |= (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            return value;
+        }
+    }
+}
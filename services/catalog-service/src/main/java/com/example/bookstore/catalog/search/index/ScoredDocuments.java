@@ -0,0 +1,47 @@
+package com.example.bookstore.catalog.search.index;
+
+import java.util.Arrays;
+
+/** Matching document ids in ascending order with their scores, held in parallel primitive arrays. */
+final class ScoredDocuments {
+
+    static final ScoredDocuments EMPTY = new ScoredDocuments(0);
+
+    private int[] docIds;
+    private double[] scores;
+    private int size;
+
+    ScoredDocuments(int capacity) {
+        this.docIds = new int[Math.max(capacity, 0)];
+        this.scores = new double[Math.max(capacity, 0)];
+    }
+
+    void add(int docId, double score) {
+        if (size == docIds.length) {
+            int capacity = Math.max(8, size * 2);
+            docIds = Arrays.copyOf(docIds, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+        }
+        docIds[size] = docId;
+        scores[size] = score;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int docId(int index) {
+        return docIds[index];
+    }
+
+    double score(int index) {
+        return scores[index];
+    }
+
+    /** Returns the score of {@code docId}, or {@link Double#NaN} when it did not match. */
+    double scoreOf(int docId) {
+        int index = Arrays.binarySearch(docIds, 0, size, docId);
+        return index < 0 ? Double.NaN : scores[index];
+    }
+}
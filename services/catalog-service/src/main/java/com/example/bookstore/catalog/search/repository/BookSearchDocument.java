@@ -0,0 +1,24 @@
+package com.example.bookstore.catalog.search.repository;
+
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.common.Money;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+public record BookSearchDocument(UUID id,
+                                 String title,
+                                 List<String> authorNames,
+                                 List<BookGenre> genres,
+                                 Money price,
+                                 Instant createdAt,
+                                 Instant updatedAt) {
+
+    public BookSearchDocument {
+        Objects.requireNonNull(id, "id must not be null");
+        authorNames = authorNames == null ? List.of() : List.copyOf(authorNames);
+        genres = genres == null ? List.of() : List.copyOf(genres);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.bookstore.catalog.search.repository;
+
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.common.Money;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads {@code book_read_model} rows for search engines that index outside the database. Scans run inside a read-only
+ * transaction with a fetch size, so the PostgreSQL driver streams them through a cursor instead of buffering the table.
+ */
+@Repository
+public class BookSearchDocumentRepository {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String SELECT_SQL = """
+            SELECT id, title, author_names, genres, price, price_currency, created_at, updated_at
+              FROM book_read_model
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate streamingTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public BookSearchDocumentRepository(@NonNull NamedParameterJdbcTemplate jdbcTemplate,
+                                        @NonNull PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+        JdbcTemplate streaming = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getJdbcTemplate().getDataSource(),
+                "dataSource must not be null"));
+        streaming.setFetchSize(FETCH_SIZE);
+        this.streamingTemplate = new NamedParameterJdbcTemplate(streaming);
+        this.transactionTemplate = new TransactionTemplate(
+                Objects.requireNonNull(transactionManager, "transactionManager must not be null"));
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public void streamAll(@NonNull Consumer<BookSearchDocument> consumer) {
+        stream(SELECT_SQL, Map.of(), consumer);
+    }
+
+    // Follows idx_book_read_model_updated_at (updated_at, id).
+    public void streamUpdatedSince(@NonNull Instant since, @NonNull Consumer<BookSearchDocument> consumer) {
+        stream(SELECT_SQL + " WHERE updated_at >= :since ORDER BY updated_at, id",
+                Map.of("since", since.atOffset(ZoneOffset.UTC)), consumer);
+    }
+
+    public List<BookSearchDocument> findByIds(@NonNull Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id IN (:ids)", Map.of("ids", ids), (rs, rowNum) -> map(rs));
+    }
+
+    public List<BookSearchDocument> findByAuthor(@NonNull UUID authorId) {
+        return jdbcTemplate.query(SELECT_SQL + " WHERE id IN (SELECT ba.book_id FROM book_authors ba WHERE ba.author_id = :authorId)",
+                Map.of("authorId", authorId), (rs, rowNum) -> map(rs));
+    }
+
+    private void stream(String sql, Map<String, Object> parameters, Consumer<BookSearchDocument> consumer) {
+        transactionTemplate.executeWithoutResult(status ->
+                streamingTemplate.query(sql, parameters, (RowCallbackHandler) rs -> consumer.accept(map(rs))));
+    }
+
+    private static BookSearchDocument map(ResultSet rs) throws SQLException {
+        BigDecimal price = rs.getBigDecimal("price");
+        return new BookSearchDocument(
+                rs.getObject("id", UUID.class),
+                rs.getString("title"),
+                readArray(rs.getArray("author_names")),
+                readArray(rs.getArray("genres")).stream().map(BookGenre::valueOf).toList(),
+                price == null ? null : new Money(price, rs.getString("price_currency")),
+                readInstant(rs, "created_at"),
+                readInstant(rs, "updated_at"));
+    }
+
+    private static Instant readInstant(ResultSet rs, String column) throws SQLException {
+        OffsetDateTime value = rs.getObject(column, OffsetDateTime.class);
+        return value == null ? null : value.toInstant();
+    }
+
+    private static List<String> readArray(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return Arrays.stream((Object[]) array.getArray())
+                    .filter(Objects::nonNull)
+                    .map(String::valueOf)
+                    .toList();
+        } finally {
+            array.free();
+        }
+    }
+}
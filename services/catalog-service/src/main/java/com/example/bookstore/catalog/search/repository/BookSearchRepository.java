@@ -1,105 +1,293 @@
 package com.example.bookstore.catalog.search.repository;
 
 import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.domain.BookLanguage;
 import com.example.bookstore.catalog.book.domain.BookSort;
+import com.example.bookstore.catalog.common.CappedPage;
+import com.example.bookstore.catalog.common.Money;
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
+import com.example.bookstore.catalog.search.domain.BookSearchField;
+import com.example.bookstore.catalog.search.domain.FuzzyFallback;
+import com.example.bookstore.catalog.search.domain.PriceCursor;
+import com.example.bookstore.catalog.search.domain.PriceFilter;
+import com.example.bookstore.catalog.search.domain.SearchRanking;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.lang.NonNull;
-import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.sql.Array;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
 import java.util.UUID;
 
 @Repository
 public class BookSearchRepository {
 
+    private static final String STORED_VECTOR_CONFIG = "simple";
+
     @PersistenceContext
     private EntityManager entityManager;
 
     @Value("${catalog.search.fts-config:simple}")
     private String ftsConfig;
 
-    @NonNull
-    public Page<BookSearchRow> search(@Nullable String titleQuery,
-                                      @Nullable String authorQuery,
-                                      @NonNull List<BookGenre> genreFilters,
-                                      @NonNull Pageable pageable) {
-        Map<String, Object> parameters = new HashMap<>();
-
-        String regConfig = toRegconfigLiteral();
-        String titleDocument = String.format("setweight(to_tsvector(%s, coalesce(b.title, '')), 'A')", regConfig);
-        String authorDocument = String.format("setweight(to_tsvector(%s, coalesce((SELECT string_agg(a.name, ' ' "
-                        + "ORDER BY ba2.author_order) FROM authors a "
-                        + "JOIN book_authors ba2 ON a.id = ba2.author_id WHERE ba2.book_id = b.id), '')), 'B')",
-                regConfig
-        );
+    private final SearchRanking ranking;
 
-        List<String> predicates = new ArrayList<>();
-        List<String> rankComponents = new ArrayList<>();
-
-        applyFieldPredicate("titleQuery", titleQuery, titleDocument, regConfig, predicates, rankComponents, parameters);
-        applyFieldPredicate("authorQuery", authorQuery, authorDocument, regConfig, predicates, rankComponents, parameters);
-        applyGenreFilters(genreFilters, predicates, parameters);
+    public BookSearchRepository(@NonNull SearchRanking ranking) {
+        this.ranking = Objects.requireNonNull(ranking, "ranking must not be null");
+    }
 
-        StringBuilder baseSql = new StringBuilder("FROM books b");
-        if (!predicates.isEmpty()) {
-            baseSql.append(" WHERE ").append(String.join(" AND ", predicates));
+    @NonNull
+    public Page<BookSearchRow> search(@NonNull BookSearchCriteria criteria, @NonNull Pageable pageable) {
+        SearchQuery query = prepare(criteria);
+        if (isRelevanceSort(pageable.getSort()) && criteria.after() == null) {
+            // Every page ranks the same candidate set, so pages past it come back empty instead of reordering.
+            query = query.bounded(ranking.candidateLimit());
+        }
+        Set<BookSearchField> fields = criteria.fields();
+        Map<String, Object> parameters = query.parameters();
+
+        Sort.Order priceOrder = criteria.keysetPriceOrder(pageable.getSort());
+        String keysetPredicate = null;
+        String orderClause;
+        if (priceOrder != null) {
+            // Price-sorted pages within one currency follow idx_book_read_model_price, so the cursor replaces OFFSET.
+            String direction = priceOrder.isAscending() ? "ASC" : "DESC";
+            orderClause = " ORDER BY b.price " + direction + ", b.id " + direction;
+            if (criteria.after() != null) {
+                keysetPredicate = "(b.price, b.id) " + (priceOrder.isAscending() ? ">" : "<") + " (:afterPrice, :afterId)";
+                parameters.put("afterPrice", criteria.after().price());
+                parameters.put("afterId", criteria.after().id());
+            }
+        } else {
+            orderClause = buildOrderClause(pageable.getSort(), query.rankExpression());
         }
 
-        boolean hasRank = !rankComponents.isEmpty();
-        String rankExpression = hasRank ? String.join(" + ", rankComponents) : "0";
-        String orderClause = buildOrderClause(pageable.getSort(), rankExpression);
-
-        String authorNamesSelect = "(SELECT array_agg(a.name ORDER BY ba.author_order) FROM authors a "
-                + "JOIN book_authors ba ON a.id = ba.author_id WHERE ba.book_id = b.id)";
-        String scoreSelect = hasRank ? rankExpression : "NULL";
+        String titleSelect = fields.contains(BookSearchField.TITLE) ? "b.title" : "NULL";
+        String authorNamesSelect = fields.contains(BookSearchField.AUTHORS) ? "b.author_names" : "NULL";
+        String scoreSelect = query.hasRank() && fields.contains(BookSearchField.SCORE) ? query.rankExpression() : "NULL";
 
-        String dataSql = "SELECT b.id, b.title, " + authorNamesSelect + " AS author_names, "
-                + scoreSelect + " AS score " + baseSql + orderClause;
+        String dataSql = "SELECT b.id, " + titleSelect + " AS title, " + authorNamesSelect + " AS author_names, "
+                + scoreSelect + " AS score, b.price, b.price_currency " + query.withPredicate(keysetPredicate)
+                + orderClause;
         Query dataQuery = entityManager.createNativeQuery(dataSql);
         applyParameters(dataQuery, parameters);
-        dataQuery.setFirstResult((int) pageable.getOffset());
+        dataQuery.setFirstResult(keysetPredicate == null ? (int) pageable.getOffset() : 0);
         dataQuery.setMaxResults(pageable.getPageSize());
 
         @SuppressWarnings("unchecked")
         List<Object[]> rows = dataQuery.getResultList();
+        boolean hasRank = query.hasRank();
         List<BookSearchRow> content = rows.stream()
-                .map(row -> mapRow(row, hasRank))
+                .map(row -> mapRow(row, hasRank, fields))
+                .toList();
+
+        if (keysetPredicate == null) {
+            SearchTotal total = total(query);
+            return total.capped()
+                    ? new CappedPage<>(content, pageable, total.count())
+                    : new PageImpl<>(content, pageable, total.count());
+        }
+
+        // Continued pages take the first page's count and their offset from the cursor, so no page after it counts again.
+        PriceCursor after = criteria.after();
+        Pageable position = PageRequest.of((int) (after.offset() / pageable.getPageSize()), pageable.getPageSize(), pageable.getSort());
+        return new PageImpl<>(content, position, Math.max(after.total(), after.offset() + content.size()));
+    }
+
+    /**
+     * Returns the best {@code limit} matches in {@code sort} order with the features the re-ranking stage scores. Exact
+     * title and phrase checks run against the stored vectors of these candidates only, not the whole match set.
+     */
+    @NonNull
+    public List<SearchCandidate> findTopCandidates(@NonNull BookSearchCriteria criteria, @NonNull Sort sort, int limit) {
+        SearchQuery query = prepare(criteria).bounded(ranking.candidateLimit());
+        Set<BookSearchField> fields = criteria.fields();
+        Map<String, Object> parameters = query.parameters();
+        parameters.put("candidateLimit", limit);
+
+        String orderClause = buildOrderClause(sort, query.rankExpression());
+        String candidates = "SELECT b.id, b.title, b.author_names, b.price, b.price_currency, b.language, "
+                + query.titleDocument() + " AS title_document, " + query.authorDocument() + " AS author_document, "
+                + query.rankExpression() + " AS base_score, row_number() OVER (" + orderClause.strip() + ") AS candidate_rank "
+                + query.baseSql() + " ORDER BY candidate_rank LIMIT :candidateLimit";
+
+        String exactTitle = "false";
+        String titlePhrase = "false";
+        if (parameters.containsKey("titleQuery")) {
+            exactTitle = "lower(c.title) = lower(:titleQuery)";
+            titlePhrase = query.titleScope().match("c", "c.title_document", "phraseto_tsquery", "titleQuery");
+        }
+        String authorPhrase = parameters.containsKey("authorQuery")
+                ? query.authorScope().match("c", "c.author_document", "phraseto_tsquery", "authorQuery")
+                : "false";
+
+        String sql = "SELECT c.id, c.title, c.author_names, c.price, c.price_currency, c.base_score, "
+                + exactTitle + " AS exact_title, " + titlePhrase + " AS title_phrase, " + authorPhrase + " AS author_phrase"
+                + " FROM (" + candidates + ") c ORDER BY c.candidate_rank";
+        Query candidateQuery = entityManager.createNativeQuery(sql);
+        applyParameters(candidateQuery, parameters);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = candidateQuery.getResultList();
+        return rows.stream()
+                .map(row -> new SearchCandidate(
+                        new BookSearchRow(
+                                (UUID) row[0],
+                                fields.contains(BookSearchField.TITLE) ? (String) row[1] : null,
+                                fields.contains(BookSearchField.AUTHORS) ? extractAuthorNames(row[2]) : null,
+                                null,
+                                new Money((BigDecimal) row[3], (String) row[4])),
+                        ((Number) row[5]).doubleValue(),
+                        Boolean.TRUE.equals(row[6]),
+                        Boolean.TRUE.equals(row[7]),
+                        Boolean.TRUE.equals(row[8])))
                 .toList();
+    }
 
-        String countSql = "SELECT COUNT(*) " + baseSql;
+    @NonNull
+    public SearchTotal count(@NonNull BookSearchCriteria criteria) {
+        return total(prepare(criteria).bounded(ranking.candidateLimit()));
+    }
+
+    /**
+     * Returns typo-tolerant matches for the title and author filters, best first. Titles and names are matched with
+     * {@code word_similarity} through the trigram indexes on books.title and authors.name; genre and price filters apply
+     * as in full-text search. Statement timeout and similarity threshold are set locally, so callers should run this in
+     * its own transaction.
+     */
+    @NonNull
+    public List<BookSearchRow> findFuzzyMatches(@NonNull BookSearchCriteria criteria,
+                                                @NonNull FuzzyFallback fallback,
+                                                @NonNull Collection<UUID> excludedIds,
+                                                int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        List<String> predicates = new ArrayList<>();
+        List<String> scores = new ArrayList<>();
+        if (criteria.titleQuery() != null && !criteria.titleQuery().isBlank()) {
+            predicates.add("b.id IN (SELECT bk.id FROM books bk WHERE :fuzzyTitle <% bk.title)");
+            scores.add("word_similarity(:fuzzyTitle, b.title)");
+            parameters.put("fuzzyTitle", collapseWhitespace(criteria.titleQuery()));
+        }
+        if (criteria.authorQuery() != null && !criteria.authorQuery().isBlank()) {
+            predicates.add("b.author_ids && ARRAY(SELECT a.id FROM authors a WHERE :fuzzyAuthor <% a.name)");
+            scores.add("COALESCE((SELECT max(word_similarity(:fuzzyAuthor, name)) FROM unnest(b.author_names) AS name), 0)");
+            parameters.put("fuzzyAuthor", collapseWhitespace(criteria.authorQuery()));
+        }
+        if (predicates.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        applyGenreFilters(criteria.genres(), predicates, parameters);
+        applyPriceFilter(criteria.price(), predicates, parameters);
+        if (!excludedIds.isEmpty()) {
+            predicates.add("b.id NOT IN (:excludedIds)");
+            parameters.put("excludedIds", excludedIds);
+        }
+
+        Query settings = entityManager.createNativeQuery("SELECT set_config('statement_timeout', :timeout, true), "
+                + "set_config('pg_trgm.word_similarity_threshold', :threshold, true)");
+        settings.setParameter("timeout", String.valueOf(fallback.budget().toMillis()));
+        settings.setParameter("threshold", String.valueOf(fallback.similarityThreshold()));
+        settings.getSingleResult();
+
+        Set<BookSearchField> fields = criteria.fields();
+        String score = String.join(" + ", scores);
+        String sql = "SELECT b.id, " + (fields.contains(BookSearchField.TITLE) ? "b.title" : "NULL") + " AS title, "
+                + (fields.contains(BookSearchField.AUTHORS) ? "b.author_names" : "NULL") + " AS author_names, "
+                + (fields.contains(BookSearchField.SCORE) ? score : "NULL") + " AS score, b.price, b.price_currency"
+                + " FROM book_read_model b WHERE " + String.join(" AND ", predicates)
+                + " ORDER BY " + score + " DESC, b.id";
+        Query fuzzyQuery = entityManager.createNativeQuery(sql);
+        applyParameters(fuzzyQuery, parameters);
+        fuzzyQuery.setMaxResults(limit);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = fuzzyQuery.getResultList();
+        return rows.stream().map(row -> mapRow(row, true, fields)).toList();
+    }
+
+    // A bounded query stops counting one row past its candidate set; the total is then the set itself, marked as capped.
+    private SearchTotal total(SearchQuery query) {
+        Integer limit = query.candidateLimit();
+        String countSql = limit == null
+                ? "SELECT COUNT(*) " + query.baseSql()
+                : "SELECT COUNT(*) FROM (SELECT 1 " + query.bounded(null).baseSql() + " LIMIT " + (limit + 1) + ") c";
         Query countQuery = entityManager.createNativeQuery(countSql);
-        applyParameters(countQuery, parameters);
-        long total = ((Number) countQuery.getSingleResult()).longValue();
+        applyParameters(countQuery, query.parameters());
+        long count = ((Number) countQuery.getSingleResult()).longValue();
+        if (limit == null || count <= limit) {
+            return new SearchTotal(count, false);
+        }
+        return new SearchTotal(limit, true);
+    }
 
-        return new PageImpl<>(content, pageable, total);
+    private boolean isRelevanceSort(Sort sort) {
+        Sort.Order first = sort == null ? null : sort.stream().findFirst().orElse(null);
+        return first != null && BookSort.SCORE.equals(first.getProperty()) && first.isDescending();
     }
 
-    private BookSearchRow mapRow(Object[] row, boolean hasRank) {
-        if (row == null || row.length < 4) {
+    private SearchQuery prepare(BookSearchCriteria criteria) {
+        Map<String, Object> parameters = new HashMap<>();
+        String regConfig = toRegconfigLiteral(sanitizedFtsConfig());
+        QueryScope titleScope;
+        String titleDocument;
+        String authorDocument;
+        if (STORED_VECTOR_CONFIG.equals(sanitizedFtsConfig())) {
+            // Stored title vectors are stemmed per book, so each book is matched with the query parsed for its language.
+            // Every language a book can be stored in gets its branch; any other parse would miss inflected words.
+            titleScope = new QueryScope(List.of(BookLanguage.values()), regConfig);
+            titleDocument = "b.title_tsv";
+            authorDocument = "b.authors_tsv";
+        } else {
+            titleScope = QueryScope.single(regConfig);
+            titleDocument = String.format("setweight(to_tsvector(%s, coalesce(b.title, '')), 'A')", regConfig);
+            authorDocument = String.format("setweight(to_tsvector(%s, array_to_string(b.author_names, ' ')), 'B')", regConfig);
+        }
+
+        List<String> predicates = new ArrayList<>();
+        List<String> rankComponents = new ArrayList<>();
+
+        QueryScope authorScope = QueryScope.single(regConfig);
+        applyFieldPredicate("titleQuery", criteria.titleQuery(), titleDocument, titleScope, predicates, rankComponents, parameters);
+        applyFieldPredicate("authorQuery", criteria.authorQuery(), authorDocument, authorScope, predicates, rankComponents,
+                parameters);
+        applyGenreFilters(criteria.genres(), predicates, parameters);
+        applyPriceFilter(criteria.price(), predicates, parameters);
+
+        boolean hasRank = !rankComponents.isEmpty();
+        return new SearchQuery(predicates, parameters, hasRank ? String.join(" + ", rankComponents) : "0", hasRank,
+                titleScope, authorScope, titleDocument, authorDocument, null);
+    }
+
+    private BookSearchRow mapRow(Object[] row, boolean hasRank, Set<BookSearchField> fields) {
+        if (row == null || row.length < 6) {
             throw new IllegalStateException("Unexpected search result row shape");
         }
 
         UUID id = (UUID) row[0];
         String title = (String) row[1];
-        List<String> authors = extractAuthorNames(row[2]);
+        List<String> authors = fields.contains(BookSearchField.AUTHORS) ? extractAuthorNames(row[2]) : null;
         Double score = extractScore(row[3], hasRank);
-        return new BookSearchRow(id, title, authors, score);
+        Money price = new Money((BigDecimal) row[4], (String) row[5]);
+        return new BookSearchRow(id, title, authors, score, price);
     }
 
     private List<String> extractAuthorNames(Object column) {
@@ -192,7 +380,7 @@ public class BookSearchRepository {
     private void applyFieldPredicate(String paramName,
                                      String queryValue,
                                      String documentExpression,
-                                     String regConfig,
+                                     QueryScope scope,
                                      List<String> predicates,
                                      List<String> rankComponents,
                                      Map<String, Object> parameters) {
@@ -205,10 +393,10 @@ public class BookSearchRepository {
             return;
         }
 
-        String tsQuery = String.format("websearch_to_tsquery(%s, :%s)", regConfig, paramName);
-
-        predicates.add(documentExpression + " @@ " + tsQuery);
-        rankComponents.add("ts_rank_cd(" + documentExpression + ", " + tsQuery + ")");
+        predicates.add(scope.match("b", documentExpression, "websearch_to_tsquery", paramName));
+        rankComponents.add("ts_rank_cd(" + ranking.weightsLiteral() + ", " + documentExpression + ", "
+                + scope.query("b", "websearch_to_tsquery", paramName) + ", "
+                + ranking.normalizationMask() + ")");
         parameters.put(paramName, sanitizedValue);
     }
 
@@ -235,21 +423,43 @@ public class BookSearchRepository {
         List<String> clauseParts = new ArrayList<>();
         for (int i = 0; i < uniqueGenres.size(); i++) {
             String paramName = "genreFilter" + i;
-            clauseParts.add("EXISTS (SELECT 1 FROM book_genres bg WHERE bg.book_id = b.id AND bg.genre = :" + paramName + ")");
+            clauseParts.add("CAST(:" + paramName + " AS text)");
             parameters.put(paramName, uniqueGenres.get(i).name());
         }
 
-        predicates.add("(" + String.join(" OR ", clauseParts) + ")");
+        predicates.add("b.genres && ARRAY[" + String.join(", ", clauseParts) + "]");
+    }
+
+    private void applyPriceFilter(PriceFilter price, List<String> predicates, Map<String, Object> parameters) {
+        if (price == null) {
+            return;
+        }
+        String column = "b.price";
+        if (price.crossCurrency()) {
+            column = "b.normalized_price";
+        } else {
+            predicates.add("b.price_currency = :priceCurrency");
+            parameters.put("priceCurrency", price.currency());
+        }
+        if (price.min() != null) {
+            predicates.add(column + " >= :priceMin");
+            parameters.put("priceMin", price.min());
+        }
+        if (price.max() != null) {
+            predicates.add(column + " <= :priceMax");
+            parameters.put("priceMax", price.max());
+        }
     }
 
     private void applyParameters(Query query, Map<String, Object> parameters) {
         parameters.forEach(query::setParameter);
     }
 
+    // Ties fall back to the id, so consecutive pages and the re-ranking window agree on one order.
     private String buildOrderClause(Sort sort, String rankExpression) {
         String defaultOrder = rankExpression.equals("0")
-                ? " ORDER BY b.created_at DESC"
-                : " ORDER BY " + rankExpression + " DESC, b.created_at DESC";
+                ? " ORDER BY b.created_at DESC, b.id"
+                : " ORDER BY " + rankExpression + " DESC, b.created_at DESC, b.id";
 
         if (sort == null || sort.isUnsorted()) {
             return defaultOrder;
@@ -260,7 +470,7 @@ public class BookSearchRepository {
             clauses.add(mapSortOrder(order, rankExpression));
         }
 
-        return clauses.isEmpty() ? defaultOrder : " ORDER BY " + String.join(", ", clauses);
+        return clauses.isEmpty() ? defaultOrder : " ORDER BY " + String.join(", ", clauses) + ", b.id";
     }
 
     private String mapSortOrder(Sort.Order order, String rankExpression) {
@@ -270,11 +480,10 @@ public class BookSearchRepository {
         return switch (property) {
             case BookSort.TITLE -> "b.title " + direction;
             case BookSort.AUTHOR ->
-                    "COALESCE((SELECT MIN(a.name) FROM authors a JOIN book_authors ba ON a.id = ba.author_id "
-                            + "WHERE ba.book_id = b.id), '') " + direction;
+                    "COALESCE((SELECT MIN(name) FROM unnest(b.author_names) AS name), '') " + direction;
             case BookSort.GENRE ->
-                    "COALESCE((SELECT MIN(bg.genre) FROM book_genres bg WHERE bg.book_id = b.id), '') " + direction;
-            case BookSort.PRICE -> "b.price " + direction;
+                    "COALESCE((SELECT MIN(genre) FROM unnest(b.genres) AS genre), '') " + direction;
+            case BookSort.PRICE -> "b.normalized_price " + direction + " NULLS LAST, b.price " + direction;
             case BookSort.CREATED_AT -> "b.created_at " + direction;
             case BookSort.UPDATED_AT -> "b.updated_at " + direction;
             case BookSort.SCORE -> rankExpression.equals("0") ? "1" : rankExpression + " " + direction;
@@ -282,8 +491,91 @@ public class BookSearchRepository {
         };
     }
 
-    private String toRegconfigLiteral() {
-        String sanitized = ftsConfig == null || ftsConfig.isBlank() ? "simple" : ftsConfig.trim();
-        return "'" + sanitized.replace("'", "''") + "'::regconfig";
+    private static String toRegconfigLiteral(String config) {
+        return "'" + config.replace("'", "''") + "'::regconfig";
+    }
+
+    private String sanitizedFtsConfig() {
+        return ftsConfig == null || ftsConfig.isBlank() ? STORED_VECTOR_CONFIG : ftsConfig.trim();
+    }
+
+    private record SearchQuery(List<String> predicates,
+                               Map<String, Object> parameters,
+                               String rankExpression,
+                               boolean hasRank,
+                               QueryScope titleScope,
+                               QueryScope authorScope,
+                               String titleDocument,
+                               String authorDocument,
+                               Integer candidateLimit) {
+
+        /**
+         * Limits a ranked query to its {@code limit} best-ranked matches. The GIN indexes find the matches and a top-N
+         * sort by ts_rank_cd keeps the best of them, so every page and count of the query works on the same rows.
+         */
+        SearchQuery bounded(Integer limit) {
+            Integer effective = hasRank && limit != null && limit > 0 ? limit : null;
+            return new SearchQuery(predicates, parameters, rankExpression, hasRank, titleScope, authorScope, titleDocument,
+                    authorDocument, effective);
+        }
+
+        String baseSql() {
+            return withPredicate(null);
+        }
+
+        String withPredicate(String extraPredicate) {
+            String where = predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+            String source = candidateLimit == null
+                    ? "FROM book_read_model b" + where
+                    : "FROM (SELECT * FROM book_read_model b" + where
+                            + " ORDER BY " + rankExpression + " DESC, b.created_at DESC, b.id LIMIT " + candidateLimit + ") b";
+            if (extraPredicate == null) {
+                return source;
+            }
+            return source + (candidateLimit == null && !predicates.isEmpty() ? " AND " : " WHERE ") + extraPredicate;
+        }
+    }
+
+    /**
+     * Parses a field query per book: books in one of {@code languages} with their own stemmer, books without a language
+     * with {@code fallbackConfig}. Each branch pairs the language check with its own {@code @@}, so a stemmer never matches or
+     * scores titles of another language, and each branch can still use the GIN index.
+     */
+    private record QueryScope(List<BookLanguage> languages, String fallbackConfig) {
+
+        static QueryScope single(String regConfig) {
+            return new QueryScope(List.of(), regConfig);
+        }
+
+        String match(String alias, String document, String function, String paramName) {
+            String fallback = document + " @@ " + tsQuery(function, fallbackConfig, paramName);
+            if (languages.isEmpty()) {
+                return fallback;
+            }
+            StringJoiner branches = new StringJoiner(" OR ", "(", ")");
+            for (BookLanguage language : languages) {
+                branches.add("(" + alias + ".language = '" + language.name() + "' AND " + document + " @@ "
+                        + tsQuery(function, toRegconfigLiteral(language.regConfig()), paramName) + ")");
+            }
+            branches.add("(" + alias + ".language IS NULL AND " + fallback + ")");
+            return branches.toString();
+        }
+
+        String query(String alias, String function, String paramName) {
+            String fallback = tsQuery(function, fallbackConfig, paramName);
+            if (languages.isEmpty()) {
+                return fallback;
+            }
+            StringBuilder query = new StringBuilder("CASE ").append(alias).append(".language");
+            for (BookLanguage language : languages) {
+                query.append(" WHEN '").append(language.name()).append("' THEN ")
+                        .append(tsQuery(function, toRegconfigLiteral(language.regConfig()), paramName));
+            }
+            return query.append(" ELSE ").append(fallback).append(" END").toString();
+        }
+
+        private static String tsQuery(String function, String regConfig, String paramName) {
+            return function + "(" + regConfig + ", :" + paramName + ")";
+        }
     }
 }
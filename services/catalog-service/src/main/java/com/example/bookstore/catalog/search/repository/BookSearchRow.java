@@ -1,11 +1,13 @@
 package com.example.bookstore.catalog.search.repository;
 
+import com.example.bookstore.catalog.common.Money;
+
 import java.util.List;
 import java.util.UUID;
 
-public record BookSearchRow(UUID id, String title, List<String> authors, Double score) {
+public record BookSearchRow(UUID id, String title, List<String> authors, Double score, Money price) {
 
     public BookSearchRow {
-        authors = authors == null ? List.of() : List.copyOf(authors);
+        authors = authors == null ? null : List.copyOf(authors);
     }
 }
@@ -0,0 +1,18 @@
+package com.example.bookstore.catalog.search.repository;
+
+import java.util.Objects;
+
+/**
+ * A top-ranked search match together with the ranking features the re-ranking stage needs. {@code baseScore} is the
+ * weighted {@code ts_rank_cd} the candidates were selected by.
+ */
+public record SearchCandidate(BookSearchRow row,
+                              double baseScore,
+                              boolean exactTitle,
+                              boolean titlePhrase,
+                              boolean authorPhrase) {
+
+    public SearchCandidate {
+        Objects.requireNonNull(row, "row must not be null");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.bookstore.catalog.search.repository;
+
+/**
+ * Number of matches for a search; {@code capped} when the search stops at its candidate limit and more books match.
+ */
+public record SearchTotal(long count, boolean capped) {
+}
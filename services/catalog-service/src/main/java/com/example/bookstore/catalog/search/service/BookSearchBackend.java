@@ -0,0 +1,17 @@
+package com.example.bookstore.catalog.search.service;
+
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
+import com.example.bookstore.catalog.search.repository.BookSearchRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Search engine that answers searches outside {@code book_read_model}. Searches a backend does not {@link #supports
+ * support} keep running against the database.
+ */
+public interface BookSearchBackend {
+
+    boolean supports(BookSearchCriteria criteria, Pageable pageable);
+
+    Page<BookSearchRow> search(BookSearchCriteria criteria, Pageable pageable);
+}
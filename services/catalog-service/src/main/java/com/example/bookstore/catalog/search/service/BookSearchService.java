@@ -1,34 +1,161 @@
 package com.example.bookstore.catalog.search.service;
 
-import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.domain.BookSort;
+import com.example.bookstore.catalog.common.CappedPage;
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
+import com.example.bookstore.catalog.search.domain.BookSearchField;
 import com.example.bookstore.catalog.search.domain.BookSearchResult;
+import com.example.bookstore.catalog.search.domain.FuzzyFallback;
+import com.example.bookstore.catalog.search.domain.SearchRanking;
+import com.example.bookstore.catalog.search.domain.SearchStage;
 import com.example.bookstore.catalog.search.repository.BookSearchRepository;
 import com.example.bookstore.catalog.search.repository.BookSearchRow;
+import com.example.bookstore.catalog.search.repository.SearchCandidate;
+import com.example.bookstore.catalog.search.repository.SearchTotal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 @Service
 public class BookSearchService {
+    private static final Logger log = LoggerFactory.getLogger(BookSearchService.class);
+
     private final BookSearchRepository bookSearchRepository;
+    private final BookSearchBackend searchBackend;
+    private final SearchRanking searchRanking;
+    private final SearchReranker searchReranker;
+    private final FuzzyFallback fuzzyFallback;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public BookSearchService(BookSearchRepository bookSearchRepository) {
+    public BookSearchService(BookSearchRepository bookSearchRepository,
+                             ObjectProvider<BookSearchBackend> searchBackend,
+                             SearchRanking searchRanking,
+                             SearchReranker searchReranker,
+                             FuzzyFallback fuzzyFallback,
+                             PlatformTransactionManager transactionManager) {
         this.bookSearchRepository = bookSearchRepository;
+        this.searchBackend = searchBackend.getIfAvailable();
+        this.searchRanking = searchRanking;
+        this.searchReranker = searchReranker;
+        this.fuzzyFallback = fuzzyFallback;
+        // Database stages run one after the other in read-only transactions of their own, so a search holds at most one
+        // connection and the fallback's statement timeout cannot abort the full-text stage.
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public Page<BookSearchResult> search(BookSearchCriteria criteria, Pageable pageable) {
+        BookSearchCriteria normalized = new BookSearchCriteria(
+                normalizeQuery(criteria.titleQuery()),
+                normalizeQuery(criteria.authorQuery()),
+                criteria.genres(),
+                criteria.fields(),
+                criteria.price(),
+                criteria.after()
+        );
+        Page<BookSearchRow> rows = findRows(normalized, pageable);
+        if (needsFuzzyFallback(normalized, pageable, rows)) {
+            return withFuzzyMatches(normalized, pageable, rows);
+        }
+        return rows.map(row -> mapToResult(row, SearchStage.FULL_TEXT));
+    }
+
+    // A configured backend ranks with its own scoring, so its results skip the re-ranking stage.
+    private Page<BookSearchRow> findRows(BookSearchCriteria criteria, Pageable pageable) {
+        if (searchBackend != null && searchBackend.supports(criteria, pageable)) {
+            return searchBackend.search(criteria, pageable);
+        }
+        return readOnlyTransaction.execute(status -> isReranked(criteria, pageable)
+                ? searchReranked(criteria, pageable)
+                : bookSearchRepository.search(criteria, pageable));
+    }
+
+    private boolean needsFuzzyFallback(BookSearchCriteria criteria, Pageable pageable, Page<BookSearchRow> rows) {
+        return fuzzyFallback.enabled() && criteria.after() == null && pageable.getOffset() == 0
+                && (criteria.titleQuery() != null || criteria.authorQuery() != null)
+                && rows.getTotalElements() < fuzzyFallback.minResults()
+                && rows.getNumberOfElements() < pageable.getPageSize();
     }
 
-    @Transactional(readOnly = true)
-    public Page<BookSearchResult> search(String title, String author, List<BookGenre> genres, Pageable pageable) {
-        List<BookGenre> genreFilters = genres == null ? List.of() : genres;
-        return bookSearchRepository.search(normalizeQuery(title), normalizeQuery(author), genreFilters, pageable)
-                .map(this::mapToResult);
+    // A sparse first page holds every full-text match, so near misses fill the rest of it and the page is the whole result.
+    private Page<BookSearchResult> withFuzzyMatches(BookSearchCriteria criteria, Pageable pageable, Page<BookSearchRow> rows) {
+        List<BookSearchResult> results = new ArrayList<>();
+        rows.forEach(row -> results.add(mapToResult(row, SearchStage.FULL_TEXT)));
+        List<UUID> matched = rows.stream().map(BookSearchRow::id).toList();
+        try {
+            List<BookSearchRow> fuzzy = readOnlyTransaction.execute(status -> bookSearchRepository.findFuzzyMatches(
+                    criteria, fuzzyFallback, matched, pageable.getPageSize() - results.size()));
+            if (fuzzy != null) {
+                fuzzy.forEach(row -> results.add(mapToResult(row, SearchStage.FUZZY)));
+            }
+        } catch (QueryTimeoutException ex) {
+            log.debug("book-search-service: fuzzy fallback exceeded its budget='{}'", fuzzyFallback.budget());
+        } catch (CannotCreateTransactionException ex) {
+            log.warn("book-search-service: fuzzy fallback skipped, no connection available: {}", ex.getMessage());
+        }
+        return new PageImpl<>(results, pageable, results.size());
+    }
+
+    // Every relevance-ordered page sees the same re-ranked top K; positions past it keep the SQL rank.
+    private boolean isReranked(BookSearchCriteria criteria, Pageable pageable) {
+        if (!searchRanking.rerankEnabled() || criteria.after() != null
+                || (criteria.titleQuery() == null && criteria.authorQuery() == null)) {
+            return false;
+        }
+        Sort.Order first = pageable.getSort().stream().findFirst().orElse(null);
+        return first != null && BookSort.SCORE.equals(first.getProperty()) && first.isDescending();
+    }
+
+    private Page<BookSearchRow> searchReranked(BookSearchCriteria criteria, Pageable pageable) {
+        int topK = searchRanking.candidatesBounded()
+                ? Math.min(searchRanking.rerankTopK(), searchRanking.candidateLimit())
+                : searchRanking.rerankTopK();
+        if (pageable.getOffset() >= topK) {
+            return bookSearchRepository.search(criteria, pageable);
+        }
+        List<SearchCandidate> candidates = bookSearchRepository.findTopCandidates(criteria, pageable.getSort(), topK);
+        boolean withScore = criteria.fields().contains(BookSearchField.SCORE);
+        List<BookSearchRow> content = new ArrayList<>(searchReranker.rerank(criteria, candidates).stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(ranked -> {
+                    BookSearchRow row = ranked.candidate().row();
+                    Double score = withScore ? ranked.score() : null;
+                    return new BookSearchRow(row.id(), row.title(), row.authors(), score, row.price());
+                })
+                .toList());
+        if (candidates.size() < topK) {
+            return new PageImpl<>(content, pageable, candidates.size());
+        }
+        if (content.size() == pageable.getPageSize()) {
+            SearchTotal total = bookSearchRepository.count(criteria);
+            return total.capped()
+                    ? new CappedPage<>(content, pageable, total.count())
+                    : new PageImpl<>(content, pageable, total.count());
+        }
+        // The candidates are the first K rows in SQL order, so a page crossing K continues with the SQL rows after them.
+        Page<BookSearchRow> rows = bookSearchRepository.search(criteria, pageable);
+        rows.stream().skip(topK - pageable.getOffset()).forEach(content::add);
+        return CappedPage.isCapped(rows)
+                ? new CappedPage<>(content, pageable, rows.getTotalElements())
+                : new PageImpl<>(content, pageable, rows.getTotalElements());
     }
 
-    private BookSearchResult mapToResult(BookSearchRow row) {
-        List<String> authors = row.authors() == null ? List.of() : row.authors();
-        return new BookSearchResult(row.id(), row.title(), authors, row.score());
+    private BookSearchResult mapToResult(BookSearchRow row, SearchStage stage) {
+        return new BookSearchResult(row.id(), row.title(), row.authors(), row.score(), row.price(), stage);
     }
 
     private String normalizeQuery(String input) {
@@ -0,0 +1,46 @@
+package com.example.bookstore.catalog.search.service;
+
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
+import com.example.bookstore.catalog.search.domain.SearchRanking;
+import com.example.bookstore.catalog.search.repository.SearchCandidate;
+import org.springframework.lang.NonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Adds the configured exact-title and phrase boosts to each candidate's base rank. The sort is stable, so candidates
+ * with equal scores keep the database order and its secondary sort keys.
+ */
+public class BoostingSearchReranker implements SearchReranker {
+
+    private final SearchRanking ranking;
+
+    public BoostingSearchReranker(@NonNull SearchRanking ranking) {
+        this.ranking = Objects.requireNonNull(ranking, "ranking must not be null");
+    }
+
+    @Override
+    @NonNull
+    public List<RankedCandidate> rerank(@NonNull BookSearchCriteria criteria, @NonNull List<SearchCandidate> candidates) {
+        return candidates.stream()
+                .map(candidate -> new RankedCandidate(candidate, score(candidate)))
+                .sorted(Comparator.comparingDouble(RankedCandidate::score).reversed())
+                .toList();
+    }
+
+    private double score(SearchCandidate candidate) {
+        double score = candidate.baseScore();
+        if (candidate.exactTitle()) {
+            score += ranking.exactTitleBoost();
+        }
+        if (candidate.titlePhrase()) {
+            score += ranking.phraseBoost() * ranking.titleWeight();
+        }
+        if (candidate.authorPhrase()) {
+            score += ranking.phraseBoost() * ranking.authorWeight();
+        }
+        return score;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.bookstore.catalog.search.service;
+
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
+import com.example.bookstore.catalog.search.repository.SearchCandidate;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+
+/**
+ * Re-ranking stage applied to the top-K relevance-ordered candidates of a search. Implementations return the
+ * candidates in their final order with the score each one should report; declaring a bean of this type replaces the
+ * default {@link BoostingSearchReranker}.
+ */
+public interface SearchReranker {
+
+    @NonNull
+    List<RankedCandidate> rerank(@NonNull BookSearchCriteria criteria, @NonNull List<SearchCandidate> candidates);
+
+    record RankedCandidate(SearchCandidate candidate, double score) {
+    }
+}
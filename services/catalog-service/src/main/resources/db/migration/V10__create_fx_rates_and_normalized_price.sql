@@ -0,0 +1,18 @@
+-- Rates are units of each currency per 1 EUR; the application keeps them in sync with its rates file.
+CREATE TABLE IF NOT EXISTS fx_rates (
+    currency VARCHAR(3) PRIMARY KEY,
+    units_per_base NUMERIC(20,8) NOT NULL CHECK (units_per_base > 0),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+INSERT INTO fx_rates (currency, units_per_base) VALUES ('EUR', 1) ON CONFLICT (currency) DO NOTHING;
+
+-- Prices expressed in EUR so sorting and filtering can compare books priced in different currencies.
+ALTER TABLE book_read_model ADD COLUMN IF NOT EXISTS normalized_price NUMERIC(18,4);
+
+UPDATE book_read_model b
+   SET normalized_price = round(b.price / f.units_per_base, 4)
+  FROM fx_rates f
+ WHERE f.currency = b.price_currency;
+
+CREATE INDEX IF NOT EXISTS idx_book_read_model_normalized_price ON book_read_model (normalized_price, id);
@@ -0,0 +1,12 @@
+-- Stored, weighted search vectors (title = A, authors = B) for the default 'simple' text search configuration.
+-- Keeping positions lets phrase and proximity ranking run against the index-backed vectors instead of re-parsing text.
+ALTER TABLE book_read_model
+    ADD COLUMN IF NOT EXISTS title_tsv tsvector,
+    ADD COLUMN IF NOT EXISTS authors_tsv tsvector;
+
+UPDATE book_read_model
+   SET title_tsv = setweight(to_tsvector('simple', coalesce(title, '')), 'A'),
+       authors_tsv = setweight(to_tsvector('simple', array_to_string(author_names, ' ')), 'B');
+
+CREATE INDEX IF NOT EXISTS idx_book_read_model_title_tsv ON book_read_model USING gin (title_tsv);
+CREATE INDEX IF NOT EXISTS idx_book_read_model_authors_tsv ON book_read_model USING gin (authors_tsv);
@@ -0,0 +1,16 @@
+-- Optional per-book language. Values name the built-in text search configuration that stems the book's title;
+-- books without one keep the unstemmed 'simple' configuration.
+ALTER TABLE books
+    ADD COLUMN IF NOT EXISTS language VARCHAR(20)
+        CHECK (language IN ('DANISH', 'DUTCH', 'ENGLISH', 'FINNISH', 'FRENCH', 'GERMAN', 'ITALIAN', 'NORWEGIAN',
+                            'PORTUGUESE', 'SPANISH', 'SWEDISH'));
+
+ALTER TABLE book_read_model ADD COLUMN IF NOT EXISTS language VARCHAR(20);
+
+-- Rebuild the stored title vectors with each book's own configuration. The GIN index on title_tsv keeps serving
+-- searches because queries OR together one tsquery per configuration instead of re-parsing titles per row.
+UPDATE book_read_model r
+   SET language = b.language,
+       title_tsv = setweight(to_tsvector(coalesce(lower(b.language), 'simple')::regconfig, coalesce(r.title, '')), 'A')
+  FROM books b
+ WHERE b.id = r.id;
@@ -0,0 +1,8 @@
+-- Positional collection updates may swap elements within a single flush, so uniqueness is checked at commit.
+DROP INDEX IF EXISTS idx_book_authors_unique_author;
+ALTER TABLE book_authors
+    ADD CONSTRAINT uq_book_authors_author UNIQUE (book_id, author_id) DEFERRABLE INITIALLY DEFERRED;
+
+DROP INDEX IF EXISTS idx_book_genres_unique_genre;
+ALTER TABLE book_genres
+    ADD CONSTRAINT uq_book_genres_genre UNIQUE (book_id, genre) DEFERRABLE INITIALLY DEFERRED;
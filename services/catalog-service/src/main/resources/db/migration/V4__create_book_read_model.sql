@@ -0,0 +1,32 @@
+CREATE TABLE IF NOT EXISTS book_read_model (
+    id UUID PRIMARY KEY REFERENCES books(id) ON DELETE CASCADE,
+    title VARCHAR(255) NOT NULL,
+    author_ids UUID[] NOT NULL DEFAULT '{}',
+    author_names TEXT[] NOT NULL DEFAULT '{}',
+    genres TEXT[] NOT NULL DEFAULT '{}',
+    price NUMERIC(12,2) NOT NULL,
+    price_currency VARCHAR(3) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    version BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_book_read_model_updated_at ON book_read_model (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_book_read_model_created_at ON book_read_model (created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_book_read_model_genres ON book_read_model USING gin (genres);
+
+INSERT INTO book_read_model (id, title, author_ids, author_names, genres, price, price_currency,
+                             created_at, updated_at, version)
+SELECT b.id,
+       b.title,
+       ARRAY(SELECT ba.author_id FROM book_authors ba WHERE ba.book_id = b.id ORDER BY ba.author_order),
+       ARRAY(SELECT a.name::text FROM book_authors ba JOIN authors a ON a.id = ba.author_id
+             WHERE ba.book_id = b.id ORDER BY ba.author_order),
+       ARRAY(SELECT bg.genre::text FROM book_genres bg WHERE bg.book_id = b.id ORDER BY bg.genre_order),
+       b.price,
+       b.price_currency,
+       b.created_at,
+       b.updated_at,
+       b.version
+FROM books b
+ON CONFLICT (id) DO NOTHING;
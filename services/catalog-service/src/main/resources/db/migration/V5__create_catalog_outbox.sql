@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS catalog_outbox (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    aggregate_type VARCHAR(32) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    aggregate_version BIGINT NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    occurred_at TIMESTAMPTZ NOT NULL,
+    available_at TIMESTAMPTZ NOT NULL,
+    attempts INT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_catalog_outbox_available_at ON catalog_outbox (available_at, id);
@@ -0,0 +1,72 @@
+-- Authors whose names differ only in case are merged into the earliest created one before the unique index is built.
+CREATE TEMPORARY TABLE author_merges ON COMMIT DROP AS
+SELECT merged.id AS duplicate_id, merged.survivor_id
+FROM (SELECT a.id,
+             first_value(a.id) OVER (PARTITION BY lower(a.name) ORDER BY a.created_at, a.id) AS survivor_id
+      FROM authors a) merged
+WHERE merged.id <> merged.survivor_id;
+
+CREATE TEMPORARY TABLE merged_books ON COMMIT DROP AS
+SELECT DISTINCT ba.book_id
+FROM book_authors ba
+JOIN author_merges m ON m.duplicate_id = ba.author_id;
+
+-- A book listing several variants keeps the first one in author order.
+DELETE FROM book_authors ba
+USING (SELECT ba.book_id,
+              ba.author_order,
+              row_number() OVER (PARTITION BY ba.book_id, COALESCE(m.survivor_id, ba.author_id)
+                                 ORDER BY ba.author_order) AS position
+       FROM book_authors ba
+       LEFT JOIN author_merges m ON m.duplicate_id = ba.author_id) ranked
+WHERE ba.book_id = ranked.book_id
+  AND ba.author_order = ranked.author_order
+  AND ranked.position > 1;
+
+UPDATE book_authors ba
+SET author_id = m.survivor_id
+FROM author_merges m
+WHERE ba.author_id = m.duplicate_id;
+
+-- Close the gaps left by removed variants; the ordered author list maps positions to list indexes. The primary key
+-- on (book_id, author_order) is checked per row, so positions pass through negative values first.
+UPDATE book_authors ba
+SET author_order = -renumbered.position - 1
+FROM (SELECT ba.book_id,
+             ba.author_order,
+             row_number() OVER (PARTITION BY ba.book_id ORDER BY ba.author_order) - 1 AS position
+      FROM book_authors ba
+      JOIN merged_books mb ON mb.book_id = ba.book_id) renumbered
+WHERE ba.book_id = renumbered.book_id
+  AND ba.author_order = renumbered.author_order;
+
+UPDATE book_authors ba
+SET author_order = -ba.author_order - 1
+FROM merged_books mb
+WHERE ba.book_id = mb.book_id;
+
+-- A changed author list is a new version of the book.
+UPDATE books b
+SET version = b.version + 1,
+    updated_at = NOW()
+FROM merged_books mb
+WHERE b.id = mb.book_id;
+
+DELETE FROM authors a
+USING author_merges m
+WHERE a.id = m.duplicate_id;
+
+UPDATE book_read_model rm
+SET author_ids = ARRAY(SELECT ba.author_id FROM book_authors ba WHERE ba.book_id = rm.id ORDER BY ba.author_order),
+    author_names = ARRAY(SELECT a.name::text FROM book_authors ba JOIN authors a ON a.id = ba.author_id
+                         WHERE ba.book_id = rm.id ORDER BY ba.author_order),
+    updated_at = b.updated_at,
+    version = b.version
+FROM merged_books mb
+JOIN books b ON b.id = mb.book_id
+WHERE rm.id = mb.book_id;
+
+-- Author names are unique regardless of case; the functional index also serves lower(name) lookups.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_authors_name_lower ON authors (lower(name));
+
+ALTER TABLE authors DROP CONSTRAINT IF EXISTS authors_name_key;
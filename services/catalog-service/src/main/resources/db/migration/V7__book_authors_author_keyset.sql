@@ -0,0 +1,3 @@
+-- Widening the author index with book_id lets books-by-author pages seek to the cursor and read in order.
+DROP INDEX IF EXISTS idx_book_authors_author_id;
+CREATE INDEX IF NOT EXISTS idx_book_authors_author_id ON book_authors (author_id, book_id);
@@ -0,0 +1,27 @@
+-- Genre browse pages seek this index newest-first; it is maintained with the read model on every book write.
+CREATE TABLE IF NOT EXISTS book_genre_index (
+    genre VARCHAR(50) NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    book_id UUID NOT NULL,
+    PRIMARY KEY (genre, updated_at, book_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_book_genre_index_book_id ON book_genre_index (book_id);
+
+-- Kept incrementally next to book_genre_index so genre counts never scan the catalog.
+CREATE TABLE IF NOT EXISTS genre_book_counts (
+    genre VARCHAR(50) PRIMARY KEY,
+    book_count BIGINT NOT NULL DEFAULT 0 CHECK (book_count >= 0)
+);
+
+INSERT INTO book_genre_index (genre, updated_at, book_id)
+SELECT g.genre, r.updated_at, r.id
+FROM book_read_model r
+CROSS JOIN unnest(r.genres) AS g(genre)
+ON CONFLICT DO NOTHING;
+
+INSERT INTO genre_book_counts (genre, book_count)
+SELECT genre, count(*)
+FROM book_genre_index
+GROUP BY genre
+ON CONFLICT (genre) DO UPDATE SET book_count = EXCLUDED.book_count;
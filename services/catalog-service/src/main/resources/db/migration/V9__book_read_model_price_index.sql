@@ -0,0 +1,3 @@
+-- Price filters are always scoped to one currency, so price-sorted search pages can range-scan and seek on this index.
+CREATE INDEX IF NOT EXISTS idx_book_read_model_price
+    ON book_read_model (price_currency, price, id);
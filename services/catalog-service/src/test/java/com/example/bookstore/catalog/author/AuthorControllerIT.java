@@ -111,6 +111,39 @@ class AuthorControllerIT extends AbstractIntegrationTest {
         assertThat(updatedBody.path("name").asText()).isEqualTo(updateRequest.name());
     }
 
+    @Test
+    void createRejectsNamesDifferingOnlyInCaseAndReusedIds() throws Exception {
+        String adminBearerToken = "Bearer " + jwtTokenFactory.createAdminToken();
+        UUID authorId = UUID.randomUUID();
+        String name = "Case Author " + authorId;
+
+        mockMvc.perform(put("/api/authors/{id}", authorId)
+                        .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON))
+                        .header(HttpHeaders.AUTHORIZATION, adminBearerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, "*")
+                        .content(objectMapper.writeValueAsBytes(new AuthorRequestDto(name))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(put("/api/authors/{id}", UUID.randomUUID())
+                        .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, adminBearerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, "*")
+                        .content(objectMapper.writeValueAsBytes(new AuthorRequestDto(name.toUpperCase()))))
+                .andExpect(status().isConflict())
+                .andExpect(openApi().isValid(OPENAPI_SPEC));
+
+        mockMvc.perform(put("/api/authors/{id}", authorId)
+                        .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, adminBearerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, "*")
+                        .content(objectMapper.writeValueAsBytes(new AuthorRequestDto("Other " + name))))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(openApi().isValid(OPENAPI_SPEC));
+    }
+
     @Test
     void deleteRemovesAuthorFromExistingBooks() throws Exception {
         String adminBearerToken = "Bearer " + jwtTokenFactory.createAdminToken();
@@ -0,0 +1,134 @@
+package com.example.bookstore.catalog.author;
+
+import static com.atlassian.oai.validator.mockmvc.OpenApiValidationMatchers.openApi;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.UUID;
+
+import com.example.bookstore.catalog.AbstractIntegrationTest;
+import com.example.bookstore.catalog.author.domain.Author;
+import com.example.bookstore.catalog.author.service.AuthorService;
+import com.example.bookstore.catalog.common.ApiMediaType;
+import com.example.bookstore.catalog.support.TestDataFactory;
+import com.example.bookstore.catalog.support.TestJwtTokenFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthorResolutionControllerIT extends AbstractIntegrationTest {
+
+    private static final String OPENAPI_SPEC;
+
+    static {
+        try {
+            OPENAPI_SPEC = ClassLoader.getSystemResource("openapi/catalog-service-api.yaml").toURI().toString();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestJwtTokenFactory jwtTokenFactory;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Test
+    void resolvesNamesIgnoringCaseAndCreatesMissingOnes() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        Author existing = authorService.create(null, TestDataFactory.authorRequest().withName("Resolved Author " + suffix).build());
+        String missing = "Imported Author " + suffix;
+
+        ResolutionRequestDto lookup = new ResolutionRequestDto(
+                List.of(" resolved author " + suffix.toUpperCase() + " ", missing), false);
+        JsonNode lookupItems = resolve(lookup, jwtTokenFactory.createStaffToken());
+        assertThat(lookupItems.get(0).path("status").asInt()).isEqualTo(200);
+        assertThat(lookupItems.get(0).path("id").asText()).isEqualTo(existing.id().toString());
+        assertThat(lookupItems.get(0).path("canonicalName").asText()).isEqualTo(existing.name());
+        assertThat(lookupItems.get(1).path("status").asInt()).isEqualTo(404);
+        assertThat(lookupItems.get(1).has("id")).isFalse();
+
+        ResolutionRequestDto create = new ResolutionRequestDto(
+                List.of(missing, missing.toLowerCase(), existing.name()), true);
+        JsonNode createItems = resolve(create, jwtTokenFactory.createAdminToken());
+        assertThat(createItems.size()).isEqualTo(3);
+        assertThat(createItems.get(0).path("id").asText()).isEqualTo(createItems.get(1).path("id").asText());
+        assertThat(List.of(createItems.get(0).path("status").asInt(), createItems.get(1).path("status").asInt()))
+                .containsExactlyInAnyOrder(200, 201);
+        assertThat(createItems.get(2).path("status").asInt()).isEqualTo(200);
+
+        UUID createdId = UUID.fromString(createItems.get(0).path("id").asText());
+        assertThat(authorService.requireById(createdId).name()).isIn(missing, missing.toLowerCase());
+    }
+
+    @Test
+    void createMissingRequiresAdminRole() throws Exception {
+        ResolutionRequestDto request = new ResolutionRequestDto(List.of("Staff Created " + UUID.randomUUID()), true);
+
+        mockMvc.perform(post("/api/author-resolutions")
+                        .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenFactory.createStaffToken())
+                        .content(objectMapper.writeValueAsBytes(request)))
+                .andExpect(status().isForbidden())
+                .andExpect(openApi().isValid(OPENAPI_SPEC));
+    }
+
+    @Test
+    void nameFilterListsPrefixMatchesBeforeSimilarNames() throws Exception {
+        String token = UUID.randomUUID().toString().substring(0, 8);
+        Author prefixed = authorService.create(null, TestDataFactory.authorRequest().withName("Zyx" + token + " Prefix").build());
+        Author similar = authorService.create(null, TestDataFactory.authorRequest().withName("Prefix Zyx" + token).build());
+        authorService.create(null, TestDataFactory.authorRequest().withName("Unrelated " + UUID.randomUUID()).build());
+
+        MvcResult result = mockMvc.perform(get("/api/authors")
+                        .queryParam("filter[name]", "zyx" + token)
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenFactory.createStaffToken()))
+                .andExpect(status().isOk())
+                .andExpect(openApi().isValid(OPENAPI_SPEC))
+                .andReturn();
+
+        JsonNode content = objectMapper.readTree(result.getResponse().getContentAsByteArray()).path("content");
+        assertThat(content.size()).isEqualTo(2);
+        assertThat(content.get(0).path("id").asText()).isEqualTo(prefixed.id().toString());
+        assertThat(content.get(1).path("id").asText()).isEqualTo(similar.id().toString());
+    }
+
+    private JsonNode resolve(ResolutionRequestDto request, String token) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/author-resolutions")
+                        .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .content(objectMapper.writeValueAsBytes(request)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(openApi().isValid(OPENAPI_SPEC))
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray()).path("items");
+    }
+
+    private record ResolutionRequestDto(List<String> names, boolean createMissing) {
+    }
+}
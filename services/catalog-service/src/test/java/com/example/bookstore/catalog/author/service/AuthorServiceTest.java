@@ -2,7 +2,9 @@ package com.example.bookstore.catalog.author.service;
 
 import com.example.bookstore.catalog.author.domain.Author;
 import com.example.bookstore.catalog.author.domain.AuthorRequest;
+import com.example.bookstore.catalog.author.domain.AuthorResolution;
 import com.example.bookstore.catalog.author.error.AuthorNotFoundException;
+import com.example.bookstore.catalog.author.event.AuthorChangedEvent;
 import com.example.bookstore.catalog.author.repository.AuthorEntity;
 import com.example.bookstore.catalog.author.repository.AuthorRepository;
 import com.example.bookstore.catalog.book.domain.Book;
@@ -20,10 +22,12 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -42,6 +46,9 @@ class AuthorServiceTest {
     @Mock
     private BookService bookService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AuthorService authorService;
 
@@ -54,17 +61,18 @@ class AuthorServiceTest {
     }
 
     @Test
-    void createTrimsNameAndSavesEntity() {
+    void createTrimsNameAndInsertsInOneStatement() {
+        UUID authorId = UUID.randomUUID();
         AuthorRequest request = new AuthorRequest("  Jane Doe  ");
-        AuthorEntity persisted = authorEntity(UUID.randomUUID(), "Jane Doe", 0L);
-        when(authorRepository.existsByNameIgnoreCase("Jane Doe")).thenReturn(false);
-        when(authorRepository.saveAndFlush(org.mockito.ArgumentMatchers.any())).thenReturn(persisted);
+        AuthorEntity persisted = authorEntity(authorId, "Jane Doe", 0L);
+        when(authorRepository.insertIfAbsent(authorId, "Jane Doe")).thenReturn(Optional.of(persisted));
 
-        Author author = authorService.create(null, request);
+        Author author = authorService.create(authorId, request);
 
         assertThat(author.name()).isEqualTo("Jane Doe");
-        verify(authorRepository).existsByNameIgnoreCase("Jane Doe");
-        verify(authorRepository).saveAndFlush(org.mockito.ArgumentMatchers.argThat(entity -> entity.getName().equals("Jane Doe")));
+        verify(authorRepository).insertIfAbsent(authorId, "Jane Doe");
+        verify(authorRepository, never()).findByNameIgnoreCase(org.mockito.ArgumentMatchers.any());
+        verify(authorRepository, never()).saveAndFlush(org.mockito.ArgumentMatchers.any());
     }
 
     @Test
@@ -76,14 +84,24 @@ class AuthorServiceTest {
 
     @Test
     void createRejectsDuplicateName() {
-        when(authorRepository.existsByNameIgnoreCase("Existing")).thenReturn(true);
+        when(authorRepository.insertIfAbsent(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.eq("Existing")))
+                .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> authorService.create(null, new AuthorRequest("Existing")))
                 .isInstanceOf(ResourceConflictException.class);
-        verify(authorRepository).existsByNameIgnoreCase("Existing");
         verify(authorRepository, never()).saveAndFlush(org.mockito.ArgumentMatchers.any());
     }
 
+    @Test
+    void createRejectsExistingId() {
+        UUID authorId = UUID.randomUUID();
+        when(authorRepository.insertIfAbsent(authorId, "Jane Doe")).thenReturn(Optional.empty());
+        when(authorRepository.existsById(authorId)).thenReturn(true);
+
+        assertThatThrownBy(() -> authorService.create(authorId, new AuthorRequest("Jane Doe")))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
     @Test
     void updateRejectsDuplicateNameFromDifferentAuthor() {
         UUID authorId = UUID.randomUUID();
@@ -96,6 +114,39 @@ class AuthorServiceTest {
                 .isInstanceOf(ResourceConflictException.class);
     }
 
+    @Test
+    void resolveCreatesMissingNamesAndReusesConcurrentlyCreatedOnes() {
+        AuthorEntity existing = authorEntity(UUID.randomUUID(), "Known", 3L);
+        AuthorEntity created = authorEntity(UUID.randomUUID(), "Fresh", 0L);
+        AuthorEntity raced = authorEntity(UUID.randomUUID(), "RACED", 0L);
+        when(authorRepository.findAllByNameIgnoreCase(org.mockito.ArgumentMatchers.anyCollection()))
+                .thenReturn(Map.of("Known", existing));
+        when(authorRepository.insertIfAbsent(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.eq("Fresh")))
+                .thenReturn(Optional.of(created));
+        when(authorRepository.insertIfAbsent(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.eq("Raced")))
+                .thenReturn(Optional.empty());
+        when(authorRepository.findAllByNameIgnoreCase(List.of("Raced"))).thenReturn(Map.of("Raced", raced));
+
+        List<AuthorResolution> resolutions = authorService.resolve(List.of(" Known", "Fresh", "Raced"), true);
+
+        assertThat(resolutions).extracting(AuthorResolution::outcome).containsExactly(
+                AuthorResolution.Outcome.FOUND, AuthorResolution.Outcome.CREATED, AuthorResolution.Outcome.FOUND);
+        assertThat(resolutions).extracting(resolution -> resolution.author().id())
+                .containsExactly(existing.getId(), created.getId(), raced.getId());
+        verify(eventPublisher).publishEvent(org.mockito.ArgumentMatchers.any(AuthorChangedEvent.class));
+    }
+
+    @Test
+    void resolveWithoutCreateMissingReportsUnknownNames() {
+        when(authorRepository.findAllByNameIgnoreCase(org.mockito.ArgumentMatchers.anyCollection())).thenReturn(Map.of());
+
+        List<AuthorResolution> resolutions = authorService.resolve(List.of("Nobody"), false);
+
+        assertThat(resolutions).extracting(AuthorResolution::outcome).containsExactly(AuthorResolution.Outcome.NOT_FOUND);
+        verify(authorRepository, never()).insertIfAbsent(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any());
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     void requireByIdThrowsWhenMissing() {
         UUID authorId = UUID.randomUUID();
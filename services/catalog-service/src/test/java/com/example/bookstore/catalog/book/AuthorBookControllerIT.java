@@ -0,0 +1,123 @@
+package com.example.bookstore.catalog.book;
+
+import static com.atlassian.oai.validator.mockmvc.OpenApiValidationMatchers.openApi;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.example.bookstore.catalog.AbstractIntegrationTest;
+import com.example.bookstore.catalog.author.domain.Author;
+import com.example.bookstore.catalog.author.service.AuthorService;
+import com.example.bookstore.catalog.book.domain.Book;
+import com.example.bookstore.catalog.book.service.BookService;
+import com.example.bookstore.catalog.common.ApiMediaType;
+import com.example.bookstore.catalog.support.TestDataFactory;
+import com.example.bookstore.catalog.support.TestJwtTokenFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthorBookControllerIT extends AbstractIntegrationTest {
+
+    private static final String OPENAPI_SPEC;
+
+    static {
+        try {
+            OPENAPI_SPEC = ClassLoader.getSystemResource("openapi/catalog-service-api.yaml").toURI().toString();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestJwtTokenFactory jwtTokenFactory;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    void pagesThroughAuthorBooksWithCursor() throws Exception {
+        Author author = authorService.create(null, TestDataFactory.authorRequest().withName("Paged Author " + UUID.randomUUID()).build());
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Book book = bookService.create(null,
+                    TestDataFactory.bookRequest().withTitle("Paged Book " + i).withAuthor(author.id()).build());
+            expected.add(book.id().toString());
+        }
+        bookService.create(null, TestDataFactory.bookRequest().withTitle("Other Author Book").build());
+
+        JsonNode first = readPage(get("/api/authors/{id}/books", author.id())
+                .queryParam("page[size]", "2")
+                .queryParam("embed", "authors"));
+        assertThat(first.path("content").size()).isEqualTo(2);
+        assertThat(first.path("content").get(0).path("_embedded").path("authors").get(0).path("id").asText())
+                .isEqualTo(author.id().toString());
+        String next = first.path("meta").path("next").asText();
+        assertThat(next).isNotBlank();
+
+        JsonNode second = readPage(get("/api/authors/{id}/books", author.id())
+                .queryParam("page[size]", "2")
+                .queryParam("page[after]", next));
+        assertThat(second.path("content").size()).isEqualTo(1);
+        assertThat(second.path("meta").has("next")).isFalse();
+
+        List<String> returned = new ArrayList<>();
+        first.path("content").forEach(book -> returned.add(book.path("id").asText()));
+        second.path("content").forEach(book -> returned.add(book.path("id").asText()));
+        assertThat(returned).containsExactlyElementsOf(expected.stream().sorted().toList());
+    }
+
+    @Test
+    void rejectsUnknownAuthorAndMalformedCursor() throws Exception {
+        String token = "Bearer " + jwtTokenFactory.createStaffToken();
+        mockMvc.perform(get("/api/authors/{id}/books", UUID.randomUUID())
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isNotFound())
+                .andExpect(openApi().isValid(OPENAPI_SPEC));
+
+        Author author = authorService.create(null, TestDataFactory.authorRequest().withName("Cursor Author " + UUID.randomUUID()).build());
+        mockMvc.perform(get("/api/authors/{id}/books", author.id())
+                        .queryParam("page[after]", "not-a-cursor")
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isBadRequest())
+                .andExpect(openApi().isValid(OPENAPI_SPEC));
+    }
+
+    private JsonNode readPage(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenFactory.createStaffToken()))
+                .andExpect(status().isOk())
+                .andExpect(openApi().isValid(OPENAPI_SPEC))
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+}
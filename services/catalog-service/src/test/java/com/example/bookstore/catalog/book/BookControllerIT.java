@@ -16,6 +16,7 @@ import java.util.UUID;
 import com.example.bookstore.catalog.AbstractIntegrationTest;
 import com.example.bookstore.catalog.author.domain.Author;
 import com.example.bookstore.catalog.author.service.AuthorService;
+import com.example.bookstore.catalog.book.domain.Book;
 import com.example.bookstore.catalog.book.domain.BookGenre;
 import com.example.bookstore.catalog.book.domain.BookRequest;
 import com.example.bookstore.catalog.book.service.BookService;
@@ -24,6 +25,7 @@ import com.example.bookstore.catalog.support.TestDataFactory;
 import com.example.bookstore.catalog.support.TestJwtTokenFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -120,6 +122,14 @@ class BookControllerIT extends AbstractIntegrationTest {
         String updatedETag = patchResult.getResponse().getHeader("ETag");
         assertThat(updatedETag).isNotEqualTo(eTag);
 
+        mockMvc.perform(get("/api/books/{id}", bookId)
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, adminBearerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", updatedETag))
+                .andExpect(header().exists(HttpHeaders.CONTENT_LENGTH))
+                .andExpect(openApi().isValid(OPENAPI_SPEC));
+
         mockMvc.perform(delete("/api/books/{id}", bookId)
                         .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
                         .header(HttpHeaders.AUTHORIZATION, adminBearerToken)
@@ -158,6 +168,7 @@ class BookControllerIT extends AbstractIntegrationTest {
                 .andExpect(openApi().isValid(OPENAPI_SPEC))
                 .andReturn();
 
+        assertThat(String.join(",", result.getResponse().getHeaders(HttpHeaders.VARY))).contains(HttpHeaders.ACCEPT);
         JsonNode root = objectMapper.readTree(result.getResponse().getContentAsByteArray());
         JsonNode dataNode = root.path("content");
 
@@ -227,6 +238,54 @@ class BookControllerIT extends AbstractIntegrationTest {
         assertThat(authorsNode.get(1).path("name").asText()).isEqualTo(second.name());
     }
 
+    @Test
+    void getNegotiatesCborRepresentation() throws Exception {
+        Book created = bookService.create(null, TestDataFactory.bookRequest().build());
+        String staffBearerToken = "Bearer " + jwtTokenFactory.createStaffToken();
+
+        MvcResult getResult = mockMvc.perform(get("/api/books/{id}", created.id())
+                        .accept(MediaType.valueOf(ApiMediaType.V1_CBOR), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, staffBearerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, ApiMediaType.V1_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + created.id() + ":" + created.metadata().version() + ":cbor\""))
+                .andReturn();
+        assertThat(String.join(",", getResult.getResponse().getHeaders(HttpHeaders.VARY))).contains(HttpHeaders.ACCEPT);
+
+        JsonNode response = new CBORMapper().readTree(getResult.getResponse().getContentAsByteArray());
+        assertThat(response.path("id").asText()).isEqualTo(created.id().toString());
+        assertThat(response.path("title").asText()).isEqualTo(created.title());
+    }
+
+    @Test
+    void getReturnsOnlyRequestedSparseFields() throws Exception {
+        Book created = bookService.create(null, TestDataFactory.bookRequest().withTitle("Sparse Fieldset Book").build());
+        String staffBearerToken = "Bearer " + jwtTokenFactory.createStaffToken();
+
+        MvcResult getResult = mockMvc.perform(get("/api/books/{id}", created.id())
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .queryParam("fields[books]", "title,price")
+                        .header(HttpHeaders.AUTHORIZATION, staffBearerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + created.id() + ":" + created.metadata().version() + "\""))
+                .andExpect(openApi().isValid(OPENAPI_SPEC))
+                .andReturn();
+
+        JsonNode response = objectMapper.readTree(getResult.getResponse().getContentAsByteArray());
+        assertThat(response.path("id").asText()).isEqualTo(created.id().toString());
+        assertThat(response.path("title").asText()).isEqualTo("Sparse Fieldset Book");
+        assertThat(response.has("price")).isTrue();
+        assertThat(response.has("authors")).isFalse();
+        assertThat(response.has("genres")).isFalse();
+        assertThat(response.has("metadata")).isFalse();
+
+        mockMvc.perform(get("/api/books/{id}", created.id())
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .queryParam("fields[books]", "isbn")
+                        .header(HttpHeaders.AUTHORIZATION, staffBearerToken))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void putRejectsStaffRoleForWriteOperations() throws Exception {
         UUID bookId = UUID.randomUUID();
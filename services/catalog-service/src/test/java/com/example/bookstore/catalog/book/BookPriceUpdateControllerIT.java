@@ -0,0 +1,135 @@
+package com.example.bookstore.catalog.book;
+
+import static com.atlassian.oai.validator.mockmvc.OpenApiValidationMatchers.openApi;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.UUID;
+
+import com.example.bookstore.catalog.AbstractIntegrationTest;
+import com.example.bookstore.catalog.book.domain.Book;
+import com.example.bookstore.catalog.book.service.BookService;
+import com.example.bookstore.catalog.common.ApiMediaType;
+import com.example.bookstore.catalog.support.TestDataFactory;
+import com.example.bookstore.catalog.support.TestJwtTokenFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BookPriceUpdateControllerIT extends AbstractIntegrationTest {
+
+    private static final String OPENAPI_SPEC;
+
+    static {
+        try {
+            OPENAPI_SPEC = ClassLoader.getSystemResource("openapi/catalog-service-api.yaml").toURI().toString();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestJwtTokenFactory jwtTokenFactory;
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    void repricesBooksAndReportsPerItemOutcome() throws Exception {
+        Book current = bookService.create(null, TestDataFactory.bookRequest().withTitle("Repriced").build());
+        Book stale = bookService.create(null, TestDataFactory.bookRequest().withTitle("Stale").build());
+        UUID missing = UUID.randomUUID();
+
+        PriceUpdateRequestDto request = new PriceUpdateRequestDto(List.of(
+                new PriceUpdateDto(current.id(), current.metadata().version(), new PriceDto(BigDecimal.valueOf(12.49), "USD")),
+                new PriceUpdateDto(stale.id(), stale.metadata().version() + 1, new PriceDto(BigDecimal.valueOf(9.99), "EUR")),
+                new PriceUpdateDto(missing, 0L, new PriceDto(BigDecimal.valueOf(5.00), "EUR"))
+        ));
+
+        MvcResult result = mockMvc.perform(post("/api/book-price-updates")
+                        .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenFactory.createAdminToken())
+                        .content(objectMapper.writeValueAsBytes(request)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(openApi().isValid(OPENAPI_SPEC))
+                .andReturn();
+
+        JsonNode items = objectMapper.readTree(result.getResponse().getContentAsByteArray()).path("items");
+        assertThat(items.size()).isEqualTo(3);
+
+        long newVersion = current.metadata().version() + 1;
+        assertThat(items.get(0).path("status").asInt()).isEqualTo(200);
+        assertThat(items.get(0).path("eTag").asText()).isEqualTo("\"" + current.id() + ":" + newVersion + "\"");
+        assertThat(items.get(1).path("status").asInt()).isEqualTo(412);
+        assertThat(items.get(1).path("version").asLong()).isEqualTo(stale.metadata().version());
+        assertThat(items.get(2).path("status").asInt()).isEqualTo(404);
+
+        Book repriced = bookService.requireById(current.id());
+        assertThat(repriced.price().amount()).isEqualByComparingTo("12.49");
+        assertThat(repriced.price().currency()).isEqualTo("USD");
+        assertThat(repriced.metadata().version()).isEqualTo(newVersion);
+        assertThat(bookService.requireById(stale.id()).price().amount()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    void rejectsStaffRole() throws Exception {
+        Book book = bookService.create(null, TestDataFactory.bookRequest().withTitle("Staff Repricing").build());
+        PriceUpdateRequestDto request = new PriceUpdateRequestDto(List.of(
+                new PriceUpdateDto(book.id(), book.metadata().version(), new PriceDto(BigDecimal.ONE, "EUR"))));
+
+        mockMvc.perform(post("/api/book-price-updates")
+                        .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenFactory.createStaffToken())
+                        .content(objectMapper.writeValueAsBytes(request)))
+                .andExpect(status().isForbidden())
+                .andExpect(openApi().isValid(OPENAPI_SPEC));
+    }
+
+    @Test
+    void rejectsDuplicateBooksInBatch() throws Exception {
+        Book book = bookService.create(null, TestDataFactory.bookRequest().withTitle("Duplicate Repricing").build());
+        PriceUpdateRequestDto request = new PriceUpdateRequestDto(List.of(
+                new PriceUpdateDto(book.id(), book.metadata().version(), new PriceDto(BigDecimal.ONE, "EUR")),
+                new PriceUpdateDto(book.id(), book.metadata().version(), new PriceDto(BigDecimal.TEN, "EUR"))));
+
+        mockMvc.perform(post("/api/book-price-updates")
+                        .contentType(MediaType.valueOf(ApiMediaType.V1_JSON))
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenFactory.createAdminToken())
+                        .content(objectMapper.writeValueAsBytes(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(openApi().isValid(OPENAPI_SPEC));
+    }
+
+    private record PriceUpdateRequestDto(List<PriceUpdateDto> items) {
+    }
+
+    private record PriceUpdateDto(UUID id, Long expectedVersion, PriceDto price) {
+    }
+
+    private record PriceDto(BigDecimal amount, String currency) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.bookstore.catalog.book;
+
+import static com.atlassian.oai.validator.mockmvc.OpenApiValidationMatchers.openApi;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.net.URISyntaxException;
+
+import com.example.bookstore.catalog.AbstractIntegrationTest;
+import com.example.bookstore.catalog.book.domain.Book;
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.domain.BookRequest;
+import com.example.bookstore.catalog.book.service.BookService;
+import com.example.bookstore.catalog.common.ApiMediaType;
+import com.example.bookstore.catalog.support.TestDataFactory;
+import com.example.bookstore.catalog.support.TestJwtTokenFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class GenreControllerIT extends AbstractIntegrationTest {
+
+    private static final String OPENAPI_SPEC;
+
+    static {
+        try {
+            OPENAPI_SPEC = ClassLoader.getSystemResource("openapi/catalog-service-api.yaml").toURI().toString();
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestJwtTokenFactory jwtTokenFactory;
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    void countsFollowCreatesGenreChangesAndDeletes() throws Exception {
+        long romance = genreCount(BookGenre.ROMANCE);
+        long history = genreCount(BookGenre.HISTORY);
+
+        Book first = createBook("Counted Romance", BookGenre.ROMANCE);
+        Book second = createBook("Moved Romance", BookGenre.ROMANCE);
+        assertThat(genreCount(BookGenre.ROMANCE)).isEqualTo(romance + 2);
+
+        BookRequest moved = TestDataFactory.bookRequest()
+                .withTitle(second.title())
+                .withGenre(BookGenre.HISTORY)
+                .withPrice(second.price())
+                .build();
+        bookService.update(second.id(), second.metadata().version(), moved);
+        assertThat(genreCount(BookGenre.ROMANCE)).isEqualTo(romance + 1);
+        assertThat(genreCount(BookGenre.HISTORY)).isEqualTo(history + 1);
+
+        bookService.delete(first.id(), first.metadata().version());
+        assertThat(genreCount(BookGenre.ROMANCE)).isEqualTo(romance);
+    }
+
+    @Test
+    void browsesGenreNewestFirstWithCursor() throws Exception {
+        Book oldest = createBook("Browse Oldest", BookGenre.BIOGRAPHY);
+        Book middle = createBook("Browse Middle", BookGenre.BIOGRAPHY);
+        Book newest = createBook("Browse Newest", BookGenre.BIOGRAPHY);
+
+        JsonNode first = readJson(get("/api/genres/{genre}/books", "BIOGRAPHY")
+                .queryParam("page[size]", "2")
+                .queryParam("fields[books]", "title"));
+        assertThat(first.path("meta").path("totalElements").asLong()).isEqualTo(genreCount(BookGenre.BIOGRAPHY));
+        assertThat(first.path("content").get(0).path("id").asText()).isEqualTo(newest.id().toString());
+        assertThat(first.path("content").get(1).path("id").asText()).isEqualTo(middle.id().toString());
+        assertThat(first.path("content").get(0).has("metadata")).isFalse();
+
+        JsonNode second = readJson(get("/api/genres/{genre}/books", "BIOGRAPHY")
+                .queryParam("page[size]", "2")
+                .queryParam("page[after]", first.path("meta").path("next").asText()));
+        assertThat(second.path("content").get(0).path("id").asText()).isEqualTo(oldest.id().toString());
+        assertThat(second.path("meta").has("totalElements")).isFalse();
+    }
+
+    private Book createBook(String title, BookGenre genre) {
+        return bookService.create(null, TestDataFactory.bookRequest().withTitle(title).withGenre(genre).build());
+    }
+
+    private long genreCount(BookGenre genre) throws Exception {
+        JsonNode genres = readJson(get("/api/genres")).path("content");
+        for (JsonNode summary : genres) {
+            if (genre.name().equals(summary.path("code").asText())) {
+                return summary.path("bookCount").asLong();
+            }
+        }
+        throw new AssertionError("Genre missing from listing: " + genre);
+    }
+
+    private JsonNode readJson(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenFactory.createStaffToken()))
+                .andExpect(status().isOk())
+                .andExpect(openApi().isValid(OPENAPI_SPEC))
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.bookstore.catalog.book.cache;
+
+import com.example.bookstore.catalog.author.event.AuthorChangedEvent;
+import com.example.bookstore.catalog.book.api.BookEmbedOption;
+import com.example.bookstore.catalog.book.api.BookResource;
+import com.example.bookstore.catalog.book.api.VersionedBookResource;
+import com.example.bookstore.catalog.book.domain.BookField;
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.event.BookChangedEvent;
+import com.example.bookstore.catalog.common.ApiMediaType;
+import com.example.bookstore.catalog.common.Money;
+import com.example.bookstore.catalog.common.ResourceMetadata;
+import com.example.bookstore.catalog.common.datasource.ReadRouting;
+import com.example.bookstore.catalog.common.etag.StrongETagGenerator;
+import com.example.bookstore.catalog.common.event.CatalogAggregateType;
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
+import com.example.bookstore.catalog.common.invalidation.InvalidationGapEvent;
+import com.example.bookstore.catalog.common.invalidation.RemoteCatalogChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookResponseCacheTest {
+
+    private BookResponseCache cache;
+    private UUID bookId;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BookResponseCache(
+                new ObjectMapper().findAndRegisterModules(),
+                new MappingJackson2CborHttpMessageConverter(new CBORMapper().findAndRegisterModules()),
+                new StrongETagGenerator(),
+                1024 * 1024,
+                Duration.ofMinutes(10)
+        );
+        bookId = UUID.randomUUID();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void servesRepeatedReadsFromSerializedBytes() {
+        BookResponseCache.Variant variant =
+                new BookResponseCache.Variant(EnumSet.noneOf(BookEmbedOption.class), null, ApiMediaType.V1_JSON);
+
+        BookResponseCache.Entry first = cache.getOrLoad(bookId, variant, loader(3L));
+        BookResponseCache.Entry second = cache.getOrLoad(bookId, variant, loader(3L));
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.eTag()).isEqualTo("\"" + bookId + ":3\"");
+        assertThat(new String(first.body(), StandardCharsets.UTF_8)).contains("\"title\":\"Cached Book\"");
+    }
+
+    @Test
+    void bookChangeEvictsAllVariantsOfThatBook() {
+        BookResponseCache.Variant plain = new BookResponseCache.Variant(EnumSet.noneOf(BookEmbedOption.class), null, ApiMediaType.V1_JSON);
+        BookResponseCache.Variant embedded = new BookResponseCache.Variant(EnumSet.of(BookEmbedOption.AUTHORS), null, ApiMediaType.V1_JSON);
+        cache.getOrLoad(bookId, plain, loader(1L));
+        cache.getOrLoad(bookId, embedded, loader(1L));
+
+        cache.onBookChanged(new BookChangedEvent(bookId, 2L, CatalogChangeType.UPDATED));
+        BookResponseCache.Entry reloaded = cache.getOrLoad(bookId, plain, loader(2L));
+
+        assertThat(loads).hasValue(3);
+        assertThat(reloaded.version()).isEqualTo(2L);
+    }
+
+    @Test
+    void authorChangeEvictsOnlyAuthorEmbeddingVariants() {
+        BookResponseCache.Variant plain = new BookResponseCache.Variant(EnumSet.noneOf(BookEmbedOption.class), null, ApiMediaType.V1_JSON);
+        BookResponseCache.Variant embedded = new BookResponseCache.Variant(EnumSet.of(BookEmbedOption.AUTHORS), null, ApiMediaType.V1_JSON);
+        cache.getOrLoad(bookId, plain, loader(1L));
+        cache.getOrLoad(bookId, embedded, loader(1L));
+
+        cache.onAuthorChanged(new AuthorChangedEvent(UUID.randomUUID(), 4L, CatalogChangeType.UPDATED));
+        cache.getOrLoad(bookId, plain, loader(1L));
+        cache.getOrLoad(bookId, embedded, loader(1L));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void keepsJsonAndCborRepresentationsSeparately() {
+        Set<BookEmbedOption> noEmbeds = EnumSet.noneOf(BookEmbedOption.class);
+        BookResponseCache.Entry json = cache.getOrLoad(bookId,
+                new BookResponseCache.Variant(noEmbeds, null, ApiMediaType.V1_JSON), loader(1L));
+        BookResponseCache.Entry cbor = cache.getOrLoad(bookId,
+                new BookResponseCache.Variant(noEmbeds, null, ApiMediaType.V1_CBOR), loader(1L));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cbor.eTag()).isNotEqualTo(json.eTag()).isEqualTo("\"" + bookId + ":1:cbor\"");
+        assertThat(cbor.body()).isNotEqualTo(json.body());
+        assertThat(cbor.body().length).isLessThan(json.body().length);
+    }
+
+    @Test
+    void cachesSparseFieldsetsAsSeparateVariants() {
+        Set<BookEmbedOption> noEmbeds = EnumSet.noneOf(BookEmbedOption.class);
+        BookResponseCache.Variant full = new BookResponseCache.Variant(noEmbeds, null, ApiMediaType.V1_JSON);
+        BookResponseCache.Variant sparse = new BookResponseCache.Variant(noEmbeds, EnumSet.of(BookField.TITLE), ApiMediaType.V1_JSON);
+
+        cache.getOrLoad(bookId, full, loader(1L));
+        cache.getOrLoad(bookId, sparse, loader(1L));
+        cache.getOrLoad(bookId, sparse, loader(1L));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void reloadsFromPrimaryWhenReplicaIsOlderThanClientVersion() {
+        BookResponseCache.Variant variant =
+                new BookResponseCache.Variant(EnumSet.noneOf(BookEmbedOption.class), null, ApiMediaType.V1_JSON);
+
+        BookResponseCache.Entry entry = cache.getOrLoad(bookId, variant, 5L,
+                () -> ReadRouting.isPrimaryRequired() ? loader(5L).get() : loader(4L).get());
+
+        assertThat(loads).hasValue(2);
+        assertThat(entry.version()).isEqualTo(5L);
+        assertThat(ReadRouting.isPrimaryRequired()).isFalse();
+    }
+
+    @Test
+    void readsRecentlyWrittenBooksFromPrimary() {
+        BookResponseCache.Variant variant =
+                new BookResponseCache.Variant(EnumSet.noneOf(BookEmbedOption.class), null, ApiMediaType.V1_JSON);
+        cache.onBookChanged(new BookChangedEvent(bookId, 2L, CatalogChangeType.UPDATED));
+
+        BookResponseCache.Entry entry = cache.getOrLoad(bookId, variant,
+                () -> ReadRouting.isPrimaryRequired() ? loader(2L).get() : loader(1L).get());
+
+        assertThat(loads).hasValue(1);
+        assertThat(entry.version()).isEqualTo(2L);
+    }
+
+    @Test
+    void remoteChangesEvictLikeLocalOnes() {
+        BookResponseCache.Variant plain = new BookResponseCache.Variant(EnumSet.noneOf(BookEmbedOption.class), null, ApiMediaType.V1_JSON);
+        cache.getOrLoad(bookId, plain, loader(1L));
+
+        cache.onRemoteChange(new RemoteCatalogChangeEvent(CatalogAggregateType.BOOK, bookId, 2L, CatalogChangeType.UPDATED));
+        cache.getOrLoad(bookId, plain, loader(2L));
+        cache.onInvalidationGap(new InvalidationGapEvent());
+        BookResponseCache.Entry reloaded = cache.getOrLoad(bookId, plain, loader(2L));
+
+        assertThat(loads).hasValue(3);
+        assertThat(reloaded.version()).isEqualTo(2L);
+    }
+
+    private Supplier<VersionedBookResource> loader(long version) {
+        return () -> {
+            loads.incrementAndGet();
+            return new VersionedBookResource(new BookResource(
+                    bookId,
+                    "Cached Book",
+                    List.of(),
+                    List.of(BookGenre.NON_FICTION),
+                    new Money(BigDecimal.TEN, Money.DEFAULT_CURRENCY),
+                    new ResourceMetadata(Instant.now(), Instant.now(), version),
+                    null
+            ), version);
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.bookstore.catalog.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.example.bookstore.catalog.AbstractIntegrationTest;
+import com.example.bookstore.catalog.author.domain.Author;
+import com.example.bookstore.catalog.author.service.AuthorService;
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.example.bookstore.catalog.support.TestDataFactory.authorRequest;
+import static com.example.bookstore.catalog.support.TestDataFactory.bookRequest;
+
+@SpringBootTest(properties = {
+        "catalog.datasource.profile=batch-import",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class BookBulkWriteBenchmarkIT extends AbstractIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BookBulkWriteBenchmarkIT.class);
+    private static final int BOOKS = 200;
+    private static final List<BookGenre> GENRES = List.of(
+            BookGenre.FICTION, BookGenre.FANTASY, BookGenre.SCIENCE_FICTION, BookGenre.MYSTERY, BookGenre.ROMANCE);
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private AuthorService authorService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<UUID> authorIds;
+
+    @BeforeEach
+    void setUp() {
+        authorIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            authorIds.add(authorService.create(UUID.randomUUID(), authorRequest().withName("Bulk Author " + UUID.randomUUID()).build())
+                    .id());
+        }
+    }
+
+    @Test
+    void batchingReducesStatementsForBulkImports() {
+        Run unbatched = importBooks(1);
+        Run batched = importBooks(null);
+
+        log.info("bulk-write-benchmark: {} books unbatched: {} statements in {} ms; batched: {} statements in {} ms",
+                BOOKS, unbatched.statements(), unbatched.millis(), batched.statements(), batched.millis());
+
+        assertThat(unbatched.statements()).isGreaterThanOrEqualTo((long) BOOKS * (1 + authorIds.size() + GENRES.size()));
+        assertThat(batched.statements()).isLessThan(unbatched.statements() / 2);
+    }
+
+    private Run importBooks(Integer jdbcBatchSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long started = System.nanoTime();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            for (int i = 0; i < BOOKS; i++) {
+                bookService.create(UUID.randomUUID(), bookRequest()
+                        .withTitle("Bulk " + UUID.randomUUID())
+                        .withAuthors(authorIds)
+                        .withGenres(GENRES)
+                        .build());
+            }
+        });
+        return new Run(statistics.getPrepareStatementCount(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private record Run(long statements, long millis) {
+    }
+}
@@ -4,8 +4,12 @@ import com.example.bookstore.catalog.author.domain.Author;
 import com.example.bookstore.catalog.author.service.AuthorService;
 import com.example.bookstore.catalog.book.api.BookEmbedOption;
 import com.example.bookstore.catalog.book.api.BookResource;
-import com.example.bookstore.catalog.book.domain.Book;
+import com.example.bookstore.catalog.book.api.VersionedBookResource;
+import com.example.bookstore.catalog.book.domain.BookField;
 import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.domain.BookLanguage;
+import com.example.bookstore.catalog.book.repository.BookReadModelRepository;
+import com.example.bookstore.catalog.book.repository.BookReadModelRow;
 import com.example.bookstore.catalog.common.ResourceMetadata;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +24,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,7 +35,7 @@ import static org.mockito.Mockito.when;
 class BookQueryServiceTest {
 
     @Mock
-    private BookService bookService;
+    private BookReadModelRepository bookReadModelRepository;
 
     @Mock
     private AuthorService authorService;
@@ -39,20 +44,25 @@ class BookQueryServiceTest {
     private BookQueryService bookQueryService;
 
     private UUID authorId;
-    private Book sampleBook;
+    private BookReadModelRow sampleBook;
     private Author sampleAuthor;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         authorId = UUID.randomUUID();
-        sampleBook = new Book(
+        sampleBook = new BookReadModelRow(
                 UUID.randomUUID(),
                 "Embedded Book",
                 List.of(authorId),
+                List.of("Embedded Author"),
                 List.of(BookGenre.NON_FICTION),
-                new com.example.bookstore.catalog.common.Money(BigDecimal.TEN, com.example.bookstore.catalog.common.Money.DEFAULT_CURRENCY),
-                new ResourceMetadata(Instant.now(), Instant.now(), 1L)
+                BookLanguage.ENGLISH,
+                BigDecimal.TEN,
+                com.example.bookstore.catalog.common.Money.DEFAULT_CURRENCY,
+                Instant.now(),
+                Instant.now(),
+                1L
         );
         sampleAuthor = new Author(
                 authorId,
@@ -63,11 +73,12 @@ class BookQueryServiceTest {
 
     @Test
     void listEmbedsAuthorsWhenRequested() {
-        Page<Book> page = new PageImpl<>(List.of(sampleBook));
-        when(bookService.list(PageRequest.of(0, 5))).thenReturn(page);
+        Page<BookReadModelRow> page = new PageImpl<>(List.of(sampleBook));
+        when(bookReadModelRepository.findPage(PageRequest.of(0, 5), EnumSet.allOf(BookField.class))).thenReturn(page);
         when(authorService.findAllByIds(argThat(c -> c.stream().allMatch(i -> authorId.equals(i))))).thenReturn(List.of(sampleAuthor));
 
-        Page<BookResource> result = bookQueryService.list(PageRequest.of(0, 5), EnumSet.of(BookEmbedOption.AUTHORS));
+        Page<BookResource> result = bookQueryService.list(PageRequest.of(0, 5), EnumSet.of(BookEmbedOption.AUTHORS),
+                EnumSet.allOf(BookField.class));
 
         assertThat(result.getContent()).hasSize(1);
         BookResource resource = result.getContent().getFirst();
@@ -77,11 +88,26 @@ class BookQueryServiceTest {
 
     @Test
     void requireByIdReturnsBookWithoutEmbedWhenNotRequested() {
-        when(bookService.requireById(sampleBook.id())).thenReturn(sampleBook);
+        when(bookReadModelRepository.findById(sampleBook.id(), EnumSet.allOf(BookField.class))).thenReturn(Optional.of(sampleBook));
 
-        BookResource resource = bookQueryService.requireById(sampleBook.id(), EnumSet.noneOf(BookEmbedOption.class));
+        BookResource resource = bookQueryService.requireById(sampleBook.id(), EnumSet.noneOf(BookEmbedOption.class),
+                EnumSet.allOf(BookField.class)).resource();
 
         assertThat(resource._embedded()).isNull();
         assertThat(resource.authors()).containsExactly(authorId);
     }
+
+    @Test
+    void requireByIdProjectsOnlyRequestedFields() {
+        when(bookReadModelRepository.findById(sampleBook.id(), EnumSet.of(BookField.TITLE))).thenReturn(Optional.of(sampleBook));
+
+        VersionedBookResource versioned = bookQueryService.requireById(sampleBook.id(), EnumSet.noneOf(BookEmbedOption.class),
+                EnumSet.of(BookField.TITLE));
+
+        assertThat(versioned.version()).isEqualTo(1L);
+        assertThat(versioned.resource().title()).isEqualTo("Embedded Book");
+        assertThat(versioned.resource().authors()).isNull();
+        assertThat(versioned.resource().price()).isNull();
+        assertThat(versioned.resource().metadata()).isNull();
+    }
 }
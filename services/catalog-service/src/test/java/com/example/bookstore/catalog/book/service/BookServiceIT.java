@@ -0,0 +1,118 @@
+package com.example.bookstore.catalog.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.bookstore.catalog.AbstractIntegrationTest;
+import com.example.bookstore.catalog.author.domain.Author;
+import com.example.bookstore.catalog.author.service.AuthorService;
+import com.example.bookstore.catalog.book.domain.Book;
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.domain.BookRequest;
+import com.example.bookstore.catalog.support.SqlStatementRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.example.bookstore.catalog.support.TestDataFactory.authorRequest;
+import static com.example.bookstore.catalog.support.TestDataFactory.bookRequest;
+import static com.example.bookstore.catalog.support.TestDataFactory.money;
+
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.bookstore.catalog.support.SqlStatementRecorder")
+@ActiveProfiles("test")
+class BookServiceIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private AuthorService authorService;
+
+    private Author first;
+    private Author second;
+    private Author third;
+
+    @BeforeEach
+    void setUp() {
+        first = authorService.create(UUID.randomUUID(), authorRequest().withName("Author " + UUID.randomUUID()).build());
+        second = authorService.create(UUID.randomUUID(), authorRequest().withName("Author " + UUID.randomUUID()).build());
+        third = authorService.create(UUID.randomUUID(), authorRequest().withName("Author " + UUID.randomUUID()).build());
+    }
+
+    @Test
+    void priceOnlyUpdateTouchesOnlyBooksRow() {
+        Book book = createBook(List.of(first.id(), second.id()), List.of(BookGenre.FICTION, BookGenre.FANTASY));
+        BookRequest repriced = bookRequest()
+                .withTitle(book.title())
+                .withAuthors(book.authors())
+                .withGenres(book.genres())
+                .withPrice(money(19.99))
+                .build();
+
+        SqlStatementRecorder.reset();
+        Book updated = bookService.update(book.id(), book.metadata().version(), repriced);
+
+        assertThat(SqlStatementRecorder.modifyingStatements())
+                .singleElement()
+                .satisfies(sql -> assertThat(sql).startsWith("update books "));
+        assertThat(updated.price().amount()).isEqualByComparingTo("19.99");
+        assertThat(updated.metadata().version()).isEqualTo(book.metadata().version() + 1);
+    }
+
+    @Test
+    void reorderingAuthorsUpdatesRowsInPlace() {
+        Book book = createBook(List.of(first.id(), second.id()), List.of(BookGenre.FICTION));
+        BookRequest reordered = bookRequest()
+                .withTitle(book.title())
+                .withAuthors(List.of(second.id(), first.id()))
+                .withGenres(book.genres())
+                .withPrice(book.price())
+                .build();
+
+        SqlStatementRecorder.reset();
+        bookService.update(book.id(), book.metadata().version(), reordered);
+
+        List<String> statements = SqlStatementRecorder.modifyingStatements();
+        assertThat(statements).noneMatch(sql -> sql.startsWith("delete"));
+        assertThat(statements).noneMatch(sql -> sql.startsWith("insert"));
+        assertThat(statements).anyMatch(sql -> sql.startsWith("update book_authors"));
+        assertThat(bookService.requireById(book.id()).authors()).containsExactly(second.id(), first.id());
+    }
+
+    @Test
+    void shrinkingAndGrowingCollectionsEmitsMinimalStatements() {
+        Book book = createBook(List.of(first.id(), second.id()), List.of(BookGenre.FICTION, BookGenre.FANTASY));
+        BookRequest changed = bookRequest()
+                .withTitle(book.title())
+                .withAuthors(List.of(first.id(), second.id(), third.id()))
+                .withGenres(List.of(BookGenre.FICTION))
+                .withPrice(book.price())
+                .build();
+
+        SqlStatementRecorder.reset();
+        bookService.update(book.id(), book.metadata().version(), changed);
+
+        List<String> statements = SqlStatementRecorder.modifyingStatements();
+        assertThat(statements).anyMatch(sql -> sql.startsWith("insert into book_authors"));
+        assertThat(statements).noneMatch(sql -> sql.startsWith("delete from book_authors"));
+        assertThat(statements).anyMatch(sql -> sql.startsWith("delete from book_genres"));
+        assertThat(statements).noneMatch(sql -> sql.startsWith("insert into book_genres"));
+
+        Book reloaded = bookService.requireById(book.id());
+        assertThat(reloaded.authors()).containsExactly(first.id(), second.id(), third.id());
+        assertThat(reloaded.genres()).containsExactly(BookGenre.FICTION);
+    }
+
+    private Book createBook(List<UUID> authorIds, List<BookGenre> genres) {
+        return bookService.create(null, bookRequest()
+                .withTitle("Collections " + UUID.randomUUID())
+                .withAuthors(authorIds)
+                .withGenres(genres)
+                .build());
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.bookstore.catalog.book.service;
 
 import com.example.bookstore.catalog.book.domain.Book;
+import com.example.bookstore.catalog.book.domain.BookPriceUpdate;
+import com.example.bookstore.catalog.book.domain.BookPriceUpdateResult;
 import com.example.bookstore.catalog.book.domain.BookRequest;
 import com.example.bookstore.catalog.book.error.BookNotFoundException;
+import com.example.bookstore.catalog.book.error.InvalidPriceUpdateException;
 import com.example.bookstore.catalog.book.repository.BookEntity;
+import com.example.bookstore.catalog.book.repository.BookPriceRepository;
+import com.example.bookstore.catalog.book.repository.BookReadModelRepository;
 import com.example.bookstore.catalog.book.repository.BookRepository;
 import com.example.bookstore.catalog.common.Money;
 import com.example.bookstore.catalog.common.ResourceMetadata;
@@ -15,17 +20,22 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -35,6 +45,18 @@ class BookServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookPriceRepository bookPriceRepository;
+
+    @Mock
+    private BookReadModelRepository bookReadModelRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Clock clock;
+
     @InjectMocks
     private BookService bookService;
 
@@ -116,6 +138,7 @@ class BookServiceTest {
 
         verify(bookRepository).delete(existing);
         verify(bookRepository).flush();
+        verify(bookReadModelRepository).refresh(List.of(bookId));
     }
 
     @Test
@@ -153,4 +176,42 @@ class BookServiceTest {
         assertThat(books).hasSize(1);
         assertThat(books.get(0).authors()).containsExactly(authorId);
     }
+
+    @Test
+    void updatePricesReportsOutcomePerItemInRequestOrder() {
+        UUID updated = UUID.fromString("00000000-0000-0000-0000-000000000003");
+        UUID stale = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        UUID missing = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        List<BookPriceUpdate> updates = List.of(
+                new BookPriceUpdate(updated, 4L, new Money(BigDecimal.TEN, "USD")),
+                new BookPriceUpdate(stale, 1L, new Money(BigDecimal.ONE, Money.DEFAULT_CURRENCY)),
+                new BookPriceUpdate(missing, 0L, new Money(BigDecimal.ONE, Money.DEFAULT_CURRENCY))
+        );
+
+        when(clock.instant()).thenReturn(Instant.parse("2025-01-01T00:00:00Z"));
+        when(bookPriceRepository.updatePrices(anyList(), any(Instant.class))).thenReturn(new int[]{0, 0, 1});
+        when(bookPriceRepository.findVersions(List.of(stale, missing))).thenReturn(Map.of(stale, 5L));
+
+        List<BookPriceUpdateResult> results = bookService.updatePrices(updates);
+
+        assertThat(results).containsExactly(
+                new BookPriceUpdateResult(updated, BookPriceUpdateResult.Outcome.UPDATED, 5L),
+                new BookPriceUpdateResult(stale, BookPriceUpdateResult.Outcome.VERSION_MISMATCH, 5L),
+                new BookPriceUpdateResult(missing, BookPriceUpdateResult.Outcome.NOT_FOUND, null)
+        );
+        verify(bookPriceRepository).updatePrices(List.of(updates.get(1), updates.get(2), updates.get(0)),
+                Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void updatePricesRejectsDuplicateBooks() {
+        UUID bookId = UUID.randomUUID();
+        List<BookPriceUpdate> updates = List.of(
+                new BookPriceUpdate(bookId, 1L, new Money(BigDecimal.TEN, Money.DEFAULT_CURRENCY)),
+                new BookPriceUpdate(bookId, 1L, new Money(BigDecimal.ONE, Money.DEFAULT_CURRENCY))
+        );
+
+        assertThatThrownBy(() -> bookService.updatePrices(updates))
+                .isInstanceOf(InvalidPriceUpdateException.class);
+    }
 }
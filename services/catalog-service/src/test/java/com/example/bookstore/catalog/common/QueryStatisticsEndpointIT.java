@@ -0,0 +1,68 @@
+package com.example.bookstore.catalog.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import com.example.bookstore.catalog.AbstractIntegrationTest;
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
+import com.example.bookstore.catalog.search.service.BookSearchService;
+import com.example.bookstore.catalog.support.TestJwtTokenFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryStatisticsEndpointIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TestJwtTokenFactory jwtTokenFactory;
+    @Autowired
+    private BookSearchService bookSearchService;
+
+    @Test
+    void reportsSearchShapesToAdministrators() throws Exception {
+        bookSearchService.search(BookSearchCriteria.of("shape " + UUID.randomUUID(), null, null), PageRequest.of(0, 10));
+
+        byte[] body = mockMvc.perform(get("/actuator/querystats")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenFactory.createAdminToken()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode searchShape = null;
+        for (JsonNode shape : objectMapper.readTree(body)) {
+            if (shape.path("sql").asText().contains("from book_read_model b")) {
+                searchShape = shape;
+            }
+        }
+        assertThat(searchShape).isNotNull();
+        assertThat(searchShape.path("executions").asLong()).isPositive();
+        assertThat(searchShape.path("latencyHistogram").size()).isPositive();
+
+        mockMvc.perform(get("/actuator/querystats/{shape}", searchShape.path("shape").asText())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenFactory.createAdminToken()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void rejectsNonAdministrators() throws Exception {
+        mockMvc.perform(get("/actuator/querystats")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenFactory.createStaffToken()))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.bookstore.catalog.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.EnumSet;
+import java.util.UUID;
+
+import com.example.bookstore.catalog.AbstractIntegrationTest;
+import com.example.bookstore.catalog.book.api.BookEmbedOption;
+import com.example.bookstore.catalog.book.cache.BookResponseCache;
+import com.example.bookstore.catalog.book.domain.Book;
+import com.example.bookstore.catalog.book.domain.BookField;
+import com.example.bookstore.catalog.book.error.BookNotFoundException;
+import com.example.bookstore.catalog.book.service.BookQueryService;
+import com.example.bookstore.catalog.book.service.BookService;
+import com.example.bookstore.catalog.common.ApiMediaType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import static com.example.bookstore.catalog.support.TestDataFactory.bookRequest;
+
+@SpringBootTest(properties = "catalog.datasource.replicas.enabled=true")
+@ActiveProfiles("test")
+class ReadReplicaRoutingIT extends AbstractIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:18-alpine")
+            .withDatabaseName("catalog")
+            .withUsername("catalog")
+            .withPassword("catalog");
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookQueryService bookQueryService;
+    @Autowired
+    private BookResponseCache bookResponseCache;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void configureReplicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("catalog.datasource.replicas.urls", REPLICA::getJdbcUrl);
+    }
+
+    @BeforeAll
+    static void migrateReplica() {
+        // The two containers do not replicate, which lets the tests tell from the data which pool answered.
+        Flyway.configure()
+                .dataSource(REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @Test
+    void readOnlyTransactionsAreServedByReplica() {
+        Book created = bookService.create(UUID.randomUUID(), bookRequest().withTitle("Replica Routing").build());
+        double replicaConnections = routedConnections("catalog-replica-0");
+
+        assertThatThrownBy(() -> bookQueryService.requireById(created.id(), noEmbeds(), EnumSet.allOf(BookField.class)))
+                .isInstanceOf(BookNotFoundException.class);
+        assertThat(routedConnections("catalog-replica-0")).isGreaterThan(replicaConnections);
+
+        assertThat(ReadRouting.onPrimary(() -> bookQueryService.requireById(created.id(), noEmbeds(), EnumSet.allOf(BookField.class)))
+                .resource().title()).isEqualTo("Replica Routing");
+    }
+
+    @Test
+    void recentlyWrittenBooksAreCachedFromPrimary() {
+        Book created = bookService.create(UUID.randomUUID(), bookRequest().withTitle("Read Your Writes").build());
+
+        BookResponseCache.Entry entry = bookResponseCache.getOrLoad(
+                created.id(),
+                new BookResponseCache.Variant(noEmbeds(), null, ApiMediaType.V1_JSON),
+                () -> bookQueryService.requireById(created.id(), noEmbeds(), EnumSet.allOf(BookField.class))
+        );
+
+        assertThat(entry.version()).isEqualTo(created.metadata().version());
+    }
+
+    private EnumSet<BookEmbedOption> noEmbeds() {
+        return EnumSet.noneOf(BookEmbedOption.class);
+    }
+
+    private double routedConnections(String target) {
+        return meterRegistry.get("catalog.datasource.routed.connections").tag("target", target).counter().count();
+    }
+}
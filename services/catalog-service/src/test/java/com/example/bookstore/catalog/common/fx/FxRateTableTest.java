@@ -0,0 +1,54 @@
+package com.example.bookstore.catalog.common.fx;
+
+import com.example.bookstore.catalog.common.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FxRateTableTest {
+
+    private final FxRateTable rates = FxRateTable.of(Map.of(
+            "USD", new BigDecimal("1.10"),
+            "GBP", new BigDecimal("0.85")));
+
+    @Test
+    void convertsAPageThroughTheBaseCurrency() {
+        List<Money> converted = rates.convertAll(List.of(
+                new Money(new BigDecimal("11.00"), "USD"),
+                new Money(new BigDecimal("17.00"), "GBP"),
+                new Money(new BigDecimal("10.00"), "EUR")), "usd");
+
+        assertThat(converted).containsExactly(
+                new Money(new BigDecimal("11.00"), "USD"),
+                new Money(new BigDecimal("22.00"), "USD"),
+                new Money(new BigDecimal("11.00"), "USD"));
+    }
+
+    @Test
+    void pricesWithoutARateConvertToNull() {
+        List<Money> converted = rates.convertAll(
+                Arrays.asList(new Money(BigDecimal.TEN, "JPY"), null), Money.DEFAULT_CURRENCY);
+
+        assertThat(converted).containsExactly(null, null);
+    }
+
+    @Test
+    void normalizesAmountsToTheBaseCurrency() {
+        assertThat(rates.toBase(new BigDecimal("11.00"), "USD")).isEqualByComparingTo("10.0000");
+        assertThat(rates.supports("EUR")).isTrue();
+        assertThat(rates.supports("JPY")).isFalse();
+        assertThat(rates.supports("U$D")).isFalse();
+    }
+
+    @Test
+    void rejectsNonPositiveRates() {
+        assertThatThrownBy(() -> FxRateTable.of(Map.of("USD", BigDecimal.ZERO)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
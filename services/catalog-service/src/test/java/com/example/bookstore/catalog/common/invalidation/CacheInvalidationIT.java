@@ -0,0 +1,112 @@
+package com.example.bookstore.catalog.common.invalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import com.example.bookstore.catalog.AbstractIntegrationTest;
+import com.example.bookstore.catalog.book.api.BookEmbedOption;
+import com.example.bookstore.catalog.book.api.BookResource;
+import com.example.bookstore.catalog.book.api.VersionedBookResource;
+import com.example.bookstore.catalog.book.cache.BookResponseCache;
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.common.ApiMediaType;
+import com.example.bookstore.catalog.common.Money;
+import com.example.bookstore.catalog.common.ResourceMetadata;
+import com.example.bookstore.catalog.common.event.CatalogAggregateType;
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheInvalidationIT extends AbstractIntegrationTest {
+
+    private static final BookResponseCache.Variant VARIANT =
+            new BookResponseCache.Variant(EnumSet.noneOf(BookEmbedOption.class), null, ApiMediaType.V1_JSON);
+
+    @Autowired
+    private InvalidationListener listener;
+    @Autowired
+    private BookResponseCache cache;
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void waitForSubscription() throws InterruptedException {
+        await(listener::isConnected);
+    }
+
+    @Test
+    void notificationFromAnotherNodeEvictsTheLocalCache() throws InterruptedException {
+        UUID bookId = UUID.randomUUID();
+        cache.getOrLoad(bookId, VARIANT, loader(bookId, 1L));
+
+        notifyChange("other-node", bookId, 2L);
+
+        await(() -> cache.getOrLoad(bookId, VARIANT, loader(bookId, 2L)).version() == 2L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void notificationsFromThisNodeAreIgnored() throws InterruptedException {
+        UUID ownBookId = UUID.randomUUID();
+        UUID markerBookId = UUID.randomUUID();
+        cache.getOrLoad(ownBookId, VARIANT, loader(ownBookId, 1L));
+        cache.getOrLoad(markerBookId, VARIANT, loader(markerBookId, 1L));
+
+        notifyChange(listener.nodeId(), ownBookId, 2L);
+        notifyChange("other-node", markerBookId, 2L);
+
+        await(() -> cache.getOrLoad(markerBookId, VARIANT, loader(markerBookId, 2L)).version() == 2L);
+        assertThat(cache.getOrLoad(ownBookId, VARIANT, loader(ownBookId, 2L)).version()).isEqualTo(1L);
+    }
+
+    private void notifyChange(String origin, UUID bookId, long version) {
+        InvalidationMessage message =
+                new InvalidationMessage(origin, CatalogAggregateType.BOOK, bookId, version, CatalogChangeType.UPDATED);
+        jdbcTemplate.query("SELECT pg_notify(:channel, :payload)",
+                Map.of("channel", listener.channel(), "payload", message.encode()),
+                rs -> { });
+    }
+
+    private Supplier<VersionedBookResource> loader(UUID bookId, long version) {
+        return () -> {
+            loads.incrementAndGet();
+            return new VersionedBookResource(new BookResource(
+                    bookId,
+                    "Invalidated Book",
+                    List.of(),
+                    List.of(BookGenre.NON_FICTION),
+                    new Money(BigDecimal.TEN, Money.DEFAULT_CURRENCY),
+                    new ResourceMetadata(Instant.now(), Instant.now(), version),
+                    null
+            ), version);
+        };
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 10 seconds");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.bookstore.catalog.common.invalidation;
+
+import com.example.bookstore.catalog.common.event.CatalogAggregateType;
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationMessageTest {
+
+    @Test
+    void roundTripsThroughNotificationPayload() {
+        InvalidationMessage message = new InvalidationMessage("node-a", CatalogAggregateType.AUTHOR, UUID.randomUUID(), 4L,
+                CatalogChangeType.DELETED);
+
+        assertThat(InvalidationMessage.decode(message.encode())).contains(message);
+    }
+
+    @Test
+    void ignoresMalformedPayloads() {
+        assertThat(InvalidationMessage.decode("")).isEmpty();
+        assertThat(InvalidationMessage.decode("node-a|BOOK|not-a-uuid|1|UPDATED")).isEmpty();
+        assertThat(InvalidationMessage.decode("node-a|SHELF|" + UUID.randomUUID() + "|1|UPDATED")).isEmpty();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.bookstore.catalog.common.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstrumentedDataSourceTest {
+
+    private final List<QueryExecution> executions = new CopyOnWriteArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("recorder", (QueryExecutionListener) executions::add);
+        InstrumentedDataSource dataSource = new InstrumentedDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:instrumented;DB_CLOSE_DELAY=-1", "sa", ""),
+                beanFactory.getBeanProvider(QueryExecutionListener.class));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS probe (id INT PRIMARY KEY)");
+        executions.clear();
+    }
+
+    @Test
+    void reportsPreparedStatementExecutions() {
+        jdbcTemplate.update("INSERT INTO probe (id) VALUES (?)", 1);
+        jdbcTemplate.queryForList("SELECT id FROM probe WHERE id = ?", Integer.class, 1);
+
+        assertThat(executions).extracting(QueryExecution::sql)
+                .containsExactly("INSERT INTO probe (id) VALUES (?)", "SELECT id FROM probe WHERE id = ?");
+        assertThat(executions).extracting(QueryExecution::rows).containsExactly(1L, 1L);
+        assertThat(executions).extracting(QueryExecution::parameters).containsExactly(List.of(1), List.of(1));
+        assertThat(executions).noneMatch(QueryExecution::failed);
+    }
+
+    @Test
+    void reportsFailedExecutions() {
+        assertThatThrownBy(() -> jdbcTemplate.queryForList("SELECT missing FROM probe"))
+                .isInstanceOf(DataAccessException.class);
+
+        assertThat(executions).singleElement().satisfies(execution -> {
+            assertThat(execution.sql()).isEqualTo("SELECT missing FROM probe");
+            assertThat(execution.failed()).isTrue();
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.bookstore.catalog.common.jdbc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryFingerprintTest {
+
+    @Test
+    void collapsesLiteralsAndWhitespace() {
+        QueryFingerprint fingerprint = QueryFingerprint.of("SELECT b.id\n  FROM book_read_model b WHERE b.title = 'Dune' LIMIT 20");
+
+        assertThat(fingerprint.normalizedSql()).isEqualTo("select b.id from book_read_model b where b.title = ? limit ?");
+    }
+
+    @Test
+    void variableLengthParameterListsShareOneShape() {
+        QueryFingerprint twoGenres = QueryFingerprint.of(
+                "SELECT b.id FROM book_read_model b WHERE b.genres && ARRAY[CAST(? AS text), CAST(? AS text)]");
+        QueryFingerprint threeGenres = QueryFingerprint.of(
+                "SELECT b.id FROM book_read_model b WHERE b.genres && ARRAY[CAST(? AS text),CAST(? AS text), CAST(? AS text)]");
+        QueryFingerprint inList = QueryFingerprint.of("SELECT b1_0.id FROM books b1_0 WHERE b1_0.id IN (?, ?, ?)");
+
+        assertThat(twoGenres).isEqualTo(threeGenres);
+        assertThat(twoGenres.normalizedSql()).endsWith("array[cast(? as text)+]");
+        assertThat(inList.normalizedSql()).isEqualTo("select b1_0.id from books b1_0 where b1_0.id in (?+)");
+    }
+
+    @Test
+    void differentSortsAreDifferentShapes() {
+        QueryFingerprint byTitle = QueryFingerprint.of("SELECT b.id FROM book_read_model b ORDER BY b.title ASC");
+        QueryFingerprint byCreated = QueryFingerprint.of("SELECT b.id FROM book_read_model b ORDER BY b.created_at DESC");
+
+        assertThat(byTitle.id()).isNotEqualTo(byCreated.id());
+    }
+}
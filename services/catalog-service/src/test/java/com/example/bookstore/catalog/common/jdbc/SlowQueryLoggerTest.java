@@ -0,0 +1,58 @@
+package com.example.bookstore.catalog.common.jdbc;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryLoggerTest {
+
+    private final Logger sqlLogger = (Logger) LoggerFactory.getLogger("com.example.bookstore.catalog.sql");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        sqlLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sqlLogger.detachAppender(appender);
+        sqlLogger.setLevel(null);
+    }
+
+    @Test
+    void logsOnlyExecutionsAboveThreshold() {
+        SlowQueryLogger slowQueryLogger = new SlowQueryLogger(Duration.ofMillis(100), 0.0);
+
+        slowQueryLogger.afterExecution(new QueryExecution("select 1", Duration.ofMillis(5).toNanos(), false));
+        slowQueryLogger.afterExecution(new QueryExecution("select\n  pg_sleep(1)", Duration.ofMillis(1500).toNanos(), false));
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getFormattedMessage()).isEqualTo("slow-query: elapsedMs='1500' failed='false' sql='select pg_sleep(1)'");
+        });
+    }
+
+    @Test
+    void samplesFastExecutionsOnlyWhenDebugIsEnabled() {
+        SlowQueryLogger slowQueryLogger = new SlowQueryLogger(Duration.ofMillis(100), 1.0);
+
+        sqlLogger.setLevel(Level.INFO);
+        slowQueryLogger.afterExecution(new QueryExecution("select 1", 1_000, false));
+        sqlLogger.setLevel(Level.DEBUG);
+        slowQueryLogger.afterExecution(new QueryExecution("select 2", 1_000, false));
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("sampled-query: elapsedMicros='1' sql='select 2'");
+    }
+}
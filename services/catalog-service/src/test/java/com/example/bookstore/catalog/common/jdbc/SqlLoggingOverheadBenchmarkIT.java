@@ -0,0 +1,77 @@
+package com.example.bookstore.catalog.common.jdbc;
+
+import static com.example.bookstore.catalog.support.TestDataFactory.bookRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.example.bookstore.catalog.AbstractIntegrationTest;
+import com.example.bookstore.catalog.book.domain.Book;
+import com.example.bookstore.catalog.book.service.BookService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SqlLoggingOverheadBenchmarkIT extends AbstractIntegrationTest {
+
+    private static final org.slf4j.Logger log = LoggerFactory.getLogger(SqlLoggingOverheadBenchmarkIT.class);
+    private static final int READS = 500;
+    private static final List<String> SQL_LOGGERS = List.of("org.hibernate.SQL", "org.hibernate.orm.jdbc.bind");
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private LoggingSystem loggingSystem;
+
+    private final ListAppender<ILoggingEvent> sqlEvents = new ListAppender<>();
+
+    @AfterEach
+    void restoreTestLogging() {
+        SQL_LOGGERS.forEach(name -> ((Logger) LoggerFactory.getLogger(name)).detachAppender(sqlEvents));
+        loggingSystem.setLogLevel("org.hibernate.SQL", LogLevel.DEBUG);
+        loggingSystem.setLogLevel("org.hibernate.orm.jdbc.bind", LogLevel.TRACE);
+    }
+
+    @Test
+    void productionLevelsSkipPerStatementFormatting() {
+        Book book = bookService.create(UUID.randomUUID(), bookRequest().withTitle("Logging Overhead").build());
+        sqlEvents.start();
+        SQL_LOGGERS.forEach(name -> ((Logger) LoggerFactory.getLogger(name)).addAppender(sqlEvents));
+        readRepeatedly(book.id());
+
+        loggingSystem.setLogLevel("org.hibernate.SQL", LogLevel.DEBUG);
+        loggingSystem.setLogLevel("org.hibernate.orm.jdbc.bind", LogLevel.TRACE);
+        sqlEvents.list.clear();
+        double verbose = readRepeatedly(book.id());
+        int verboseEvents = sqlEvents.list.size();
+
+        loggingSystem.setLogLevel("org.hibernate.SQL", LogLevel.INFO);
+        loggingSystem.setLogLevel("org.hibernate.orm.jdbc.bind", LogLevel.INFO);
+        sqlEvents.list.clear();
+        double production = readRepeatedly(book.id());
+
+        log.info("sql-logging-benchmark: {} reads at {} ops/s with SQL DEBUG/bind TRACE, {} ops/s at production levels",
+                READS, Math.round(verbose), Math.round(production));
+        assertThat(verboseEvents).isGreaterThanOrEqualTo(READS);
+        assertThat(sqlEvents.list).isEmpty();
+    }
+
+    private double readRepeatedly(UUID bookId) {
+        long started = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            bookService.requireById(bookId);
+        }
+        return READS / ((System.nanoTime() - started) / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.bookstore.catalog.common.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.example.bookstore.catalog.AbstractIntegrationTest;
+import com.example.bookstore.catalog.author.domain.Author;
+import com.example.bookstore.catalog.author.repository.AuthorEntity;
+import com.example.bookstore.catalog.author.repository.AuthorRepository;
+import com.example.bookstore.catalog.author.service.AuthorService;
+import com.example.bookstore.catalog.book.domain.Book;
+import com.example.bookstore.catalog.book.repository.BookEntity;
+import com.example.bookstore.catalog.book.service.BookService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.example.bookstore.catalog.support.TestDataFactory.authorRequest;
+import static com.example.bookstore.catalog.support.TestDataFactory.bookRequest;
+
+@SpringBootTest(properties = "catalog.jpa.second-level-cache.enabled=true")
+@ActiveProfiles("test")
+class SecondLevelCacheBenchmarkIT extends AbstractIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheBenchmarkIT.class);
+    private static final int BOOKS = 50;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private AuthorService authorService;
+    @Autowired
+    private AuthorRepository authorRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private List<Author> authors;
+    private List<UUID> bookIds;
+
+    @BeforeEach
+    void setUp() {
+        authors = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            authors.add(authorService.create(UUID.randomUUID(), authorRequest().withName("Cached Author " + UUID.randomUUID()).build()));
+        }
+        bookIds = new ArrayList<>();
+        for (int i = 0; i < BOOKS; i++) {
+            List<UUID> bookAuthors = List.of(authors.get(i % authors.size()).id(), authors.get((i + 1) % authors.size()).id());
+            bookIds.add(bookService.create(UUID.randomUUID(), bookRequest().withAuthors(bookAuthors).build()).id());
+        }
+    }
+
+    @Test
+    void readHeavyTrafficIsServedMostlyFromTheSecondLevelCache() {
+        Run uncached = readAll(true);
+        Run cached = readAll(false);
+
+        log.info("second-level-cache-benchmark: {} reads uncached: {} statements in {} ms ({} qps); "
+                        + "cached: {} statements in {} ms ({} qps)",
+                BOOKS * ROUNDS, uncached.statements(), uncached.millis(), uncached.queriesPerSecond(),
+                cached.statements(), cached.millis(), cached.queriesPerSecond());
+
+        assertThat(cached.statements()).isLessThan(uncached.statements() / 4);
+        assertThat(meterRegistry.get("catalog.jpa.cache.hit.ratio").tag("region", BookEntity.CACHE_REGION).gauge().value())
+                .isGreaterThan(0.9);
+    }
+
+    @Test
+    void createdAuthorsReplaceCachedMissesForTheirName() {
+        String name = "Late Author " + UUID.randomUUID();
+        assertThat(authorRepository.findByNameIgnoreCase(name)).isEmpty();
+
+        Author created = authorService.create(UUID.randomUUID(), authorRequest().withName(name).build());
+
+        assertThat(authorRepository.findByNameIgnoreCase(name)).map(AuthorEntity::getId).contains(created.id());
+    }
+
+    private Run readAll(boolean evictBeforeEachRead) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+        long started = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (UUID bookId : bookIds) {
+                if (evictBeforeEachRead) {
+                    sessionFactory.getCache().evictAllRegions();
+                }
+                Book book = bookService.requireById(bookId);
+                authorService.findAllByIds(book.authors());
+                authorRepository.findByNameIgnoreCase(authors.get(round % authors.size()).name());
+            }
+        }
+        return new Run(statistics.getPrepareStatementCount(), Math.max(1, (System.nanoTime() - started) / 1_000_000));
+    }
+
+    private record Run(long statements, long millis) {
+
+        long queriesPerSecond() {
+            return statements * 1000 / millis;
+        }
+    }
+}
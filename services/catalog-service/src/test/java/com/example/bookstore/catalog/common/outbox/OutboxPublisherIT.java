@@ -0,0 +1,83 @@
+package com.example.bookstore.catalog.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import com.example.bookstore.catalog.AbstractIntegrationTest;
+import com.example.bookstore.catalog.author.domain.Author;
+import com.example.bookstore.catalog.author.service.AuthorService;
+import com.example.bookstore.catalog.book.domain.Book;
+import com.example.bookstore.catalog.book.service.BookService;
+import com.example.bookstore.catalog.common.error.PreconditionFailedException;
+import com.example.bookstore.catalog.common.event.CatalogAggregateType;
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.example.bookstore.catalog.support.TestDataFactory.authorRequest;
+import static com.example.bookstore.catalog.support.TestDataFactory.bookRequest;
+
+@SpringBootTest(properties = "catalog.outbox.poll-interval=100ms")
+@ActiveProfiles("test")
+class OutboxPublisherIT extends AbstractIntegrationTest {
+
+    @Autowired
+    private AuthorService authorService;
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private InMemoryOutboxSink sink;
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Test
+    void committedChangesAreDeliveredAndRemovedFromTheOutbox() throws InterruptedException {
+        Author author = authorService.create(UUID.randomUUID(), authorRequest().withName("Author " + UUID.randomUUID()).build());
+        Book book = bookService.create(UUID.randomUUID(), bookRequest().withAuthors(List.of(author.id())).build());
+
+        awaitEvent(event -> event.aggregateType() == CatalogAggregateType.AUTHOR && event.aggregateId().equals(author.id()));
+        OutboxEvent delivered = awaitEvent(event -> event.aggregateId().equals(book.id()));
+
+        assertThat(delivered.aggregateType()).isEqualTo(CatalogAggregateType.BOOK);
+        assertThat(delivered.changeType()).isEqualTo(CatalogChangeType.CREATED);
+        assertThat(delivered.version()).isEqualTo(book.metadata().version());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM catalog_outbox WHERE aggregate_id IN (:ids)",
+                Map.of("ids", List.of(author.id(), book.id())), Long.class)).isZero();
+    }
+
+    @Test
+    void rolledBackChangesAreNeverDelivered() throws InterruptedException {
+        Book book = bookService.create(UUID.randomUUID(), bookRequest().build());
+        awaitEvent(event -> event.aggregateId().equals(book.id()));
+
+        assertThatThrownBy(() -> bookService.update(book.id(), book.metadata().version() + 1, bookRequest().build()))
+                .isInstanceOf(PreconditionFailedException.class);
+        Book marker = bookService.create(UUID.randomUUID(), bookRequest().build());
+        awaitEvent(event -> event.aggregateId().equals(marker.id()));
+
+        assertThat(sink.events())
+                .noneMatch(event -> event.aggregateId().equals(book.id()) && event.changeType() == CatalogChangeType.UPDATED);
+    }
+
+    private OutboxEvent awaitEvent(Predicate<OutboxEvent> matcher) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            for (OutboxEvent event : sink.events()) {
+                if (matcher.test(event)) {
+                    return event;
+                }
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("No matching outbox event was delivered");
+    }
+}
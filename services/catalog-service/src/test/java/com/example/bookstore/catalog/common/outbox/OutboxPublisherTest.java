@@ -0,0 +1,92 @@
+package com.example.bookstore.catalog.common.outbox;
+
+import com.example.bookstore.catalog.common.event.CatalogAggregateType;
+import com.example.bookstore.catalog.common.event.CatalogChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPublisherTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock
+    private OutboxRepository repository;
+    @Mock
+    private OutboxSink sink;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new OutboxPublisher(repository, sink, transactionManager, Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry,
+                true, 2, 10, Duration.ofSeconds(1), Duration.ofSeconds(30));
+        when(repository.backlog()).thenReturn(new OutboxRepository.Backlog(0, Optional.empty()));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        publisher.destroy();
+    }
+
+    @Test
+    void deliveredBatchIsDeleted() throws Exception {
+        OutboxEvent event = event(7L, 0);
+        when(repository.lockAvailable(NOW, 2)).thenReturn(List.of(event));
+
+        publisher.requestDrain();
+
+        verify(repository, timeout(2000)).delete(List.of(7L));
+        verify(sink).publish(List.of(event));
+        verify(repository, never()).postpone(anyCollection(), any());
+        publisher.destroy();
+        assertThat(meterRegistry.get("catalog.outbox.published").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void rejectedBatchIsPostponedWithExponentialBackoff() throws Exception {
+        when(repository.lockAvailable(any(), anyInt())).thenReturn(List.of(event(7L, 2), event(8L, 0)));
+        doThrow(new IllegalStateException("sink unavailable")).when(sink).publish(anyList());
+
+        publisher.requestDrain();
+
+        verify(repository, timeout(2000)).postpone(List.of(7L, 8L), NOW.plus(Duration.ofSeconds(4)));
+        verify(repository, never()).delete(anyCollection());
+        publisher.destroy();
+        assertThat(meterRegistry.get("catalog.outbox.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    private static OutboxEvent event(long id, int attempts) {
+        return new OutboxEvent(id, CatalogAggregateType.BOOK, UUID.randomUUID(), 1L, CatalogChangeType.UPDATED,
+                NOW.minusSeconds(5), attempts);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.bookstore.catalog.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataSourceProfileEnvironmentPostProcessorTest {
+
+    private final DataSourceProfileEnvironmentPostProcessor postProcessor = new DataSourceProfileEnvironmentPostProcessor();
+
+    @Test
+    void defaultsToLatencyProfile() {
+        MockEnvironment environment = new MockEnvironment();
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("spring.datasource.hikari.maximum-pool-size")).isEqualTo("10");
+        assertThat(environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size")).isEqualTo("20");
+        assertThat(environment.getProperty("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts")).isEqualTo("true");
+    }
+
+    @Test
+    void explicitSettingsOverrideTheProfile() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("catalog.datasource.profile", "batch-import")
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "2");
+
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty("spring.datasource.hikari.maximum-pool-size")).isEqualTo("2");
+        assertThat(environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size")).isEqualTo("500");
+    }
+
+    @Test
+    void rejectsUnknownProfile() {
+        MockEnvironment environment = new MockEnvironment().withProperty("catalog.datasource.profile", "turbo");
+
+        assertThatThrownBy(() -> postProcessor.postProcessEnvironment(environment, new SpringApplication()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("latency, throughput, batch-import");
+    }
+}
@@ -30,6 +30,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -88,6 +89,7 @@ class BookSearchControllerIT extends AbstractIntegrationTest {
                 .andExpect(openApi().isValid(OPENAPI_SPEC))
                 .andReturn();
 
+        assertThat(String.join(",", result.getResponse().getHeaders(HttpHeaders.VARY))).contains(HttpHeaders.ACCEPT);
         JsonNode root = objectMapper.readTree(result.getResponse().getContentAsByteArray());
         JsonNode content = root.path("content");
         assertThat(content).isNotNull();
@@ -118,4 +120,110 @@ class BookSearchControllerIT extends AbstractIntegrationTest {
             assertThat(firstScore).isGreaterThanOrEqualTo(secondScore);
         }
     }
+
+    @Test
+    void priceSortedSearchContinuesFromCursor() throws Exception {
+        UUID authorId = authorService.create(null, new AuthorRequest("Price Author" + UUID.randomUUID())).id();
+        for (int price : new int[] {30, 10, 20, 50}) {
+            bookService.create(null, new BookRequest("Priced Book " + price, java.util.List.of(authorId),
+                    java.util.List.of(BookGenre.NON_FICTION), new Money(BigDecimal.valueOf(price), "ISK")));
+        }
+
+        JsonNode firstPage = searchByPrice(null);
+        assertThat(firstPage.path("content")).hasSize(2);
+        assertThat(firstPage.path("content").get(0).path("price").path("amount").decimalValue()).isEqualByComparingTo("10");
+        assertThat(firstPage.path("content").get(1).path("price").path("amount").decimalValue()).isEqualByComparingTo("20");
+        assertThat(firstPage.path("meta").path("totalElements").asLong()).isEqualTo(3);
+        String next = firstPage.path("meta").path("next").asText();
+        assertThat(next).isNotBlank();
+
+        JsonNode secondPage = searchByPrice(next);
+        assertThat(secondPage.path("content")).hasSize(1);
+        assertThat(secondPage.path("content").get(0).path("price").path("amount").decimalValue()).isEqualByComparingTo("30");
+        assertThat(secondPage.path("meta").path("page").asInt()).isEqualTo(2);
+        assertThat(secondPage.path("meta").path("totalElements").asLong()).isEqualTo(3);
+        assertThat(secondPage.path("meta").has("next")).isFalse();
+    }
+
+    @Test
+    void displayCurrencyFiltersAndSortsAcrossCurrencies() throws Exception {
+        UUID authorId = authorService.create(null, new AuthorRequest("Fx Author" + UUID.randomUUID())).id();
+        String token = "Fxsorted" + UUID.randomUUID().toString().substring(0, 8);
+        bookService.create(null, new BookRequest(token + " Dollars", java.util.List.of(authorId),
+                java.util.List.of(BookGenre.NON_FICTION), new Money(new BigDecimal("21.70"), "USD")));
+        bookService.create(null, new BookRequest(token + " Pounds", java.util.List.of(authorId),
+                java.util.List.of(BookGenre.NON_FICTION), new Money(new BigDecimal("8.45"), "GBP")));
+        bookService.create(null, new BookRequest(token + " Euros", java.util.List.of(authorId),
+                java.util.List.of(BookGenre.NON_FICTION), new Money(new BigDecimal("30.00"), "EUR")));
+
+        MvcResult result = mockMvc.perform(get("/api/book-search")
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .queryParam("filter[title]", token)
+                        .queryParam("filter[price][lte]", "25")
+                        .queryParam("currency", "EUR")
+                        .queryParam("sort", "price")
+                        .header(HttpHeaders.AUTHORIZATION, staffBearerToken))
+                .andExpect(status().isOk())
+                .andExpect(openApi().isValid(OPENAPI_SPEC))
+                .andReturn();
+
+        JsonNode content = objectMapper.readTree(result.getResponse().getContentAsByteArray()).path("content");
+        assertThat(content).hasSize(2);
+        assertThat(content.get(0).path("price").path("currency").asText()).isEqualTo("GBP");
+        assertThat(content.get(0).path("displayPrice").path("amount").decimalValue()).isEqualByComparingTo("10.00");
+        assertThat(content.get(1).path("price").path("currency").asText()).isEqualTo("USD");
+        assertThat(content.get(1).path("displayPrice").path("amount").decimalValue()).isEqualByComparingTo("20.00");
+        assertThat(content.get(1).path("displayPrice").path("currency").asText()).isEqualTo("EUR");
+    }
+
+    @Test
+    void unknownDisplayCurrencyIsRejected() throws Exception {
+        mockMvc.perform(get("/api/book-search")
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .queryParam("currency", "XXX")
+                        .header(HttpHeaders.AUTHORIZATION, staffBearerToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(openApi().isValid(OPENAPI_SPEC));
+    }
+
+    @Test
+    void contradictoryPriceBoundsAreRejected() throws Exception {
+        mockMvc.perform(get("/api/book-search")
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .queryParam("filter[price][gte]", "30")
+                        .queryParam("filter[price][lte]", "10")
+                        .header(HttpHeaders.AUTHORIZATION, staffBearerToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(openApi().isValid(OPENAPI_SPEC));
+    }
+
+    @Test
+    void cursorWithoutPriceSortIsRejected() throws Exception {
+        mockMvc.perform(get("/api/book-search")
+                        .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                        .queryParam("filter[price][gte]", "10")
+                        .queryParam("page[after]", "bm90LWEtY3Vyc29y")
+                        .header(HttpHeaders.AUTHORIZATION, staffBearerToken))
+                .andExpect(status().isBadRequest())
+                .andExpect(openApi().isValid(OPENAPI_SPEC));
+    }
+
+    private JsonNode searchByPrice(String after) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/book-search")
+                .accept(MediaType.valueOf(ApiMediaType.V1_JSON), MediaType.APPLICATION_PROBLEM_JSON)
+                .queryParam("filter[price][currency]", "ISK")
+                .queryParam("filter[price][gte]", "10")
+                .queryParam("filter[price][lte]", "30")
+                .queryParam("page[size]", "2")
+                .queryParam("sort", "price")
+                .header(HttpHeaders.AUTHORIZATION, staffBearerToken);
+        if (after != null) {
+            request.queryParam("page[after]", after);
+        }
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(openApi().isValid(OPENAPI_SPEC))
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+    }
 }
@@ -0,0 +1,81 @@
+package com.example.bookstore.catalog.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedBitmapTest {
+
+    @Test
+    void matchesBitSetAcrossSparseAndDenseChunks() {
+        Random random = new Random(42);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        BitSet expected = new BitSet();
+        for (int i = 0; i < 20_000; i++) {
+            // Chunk 0 turns dense, chunk 3 stays sparse.
+            int value = random.nextBoolean() ? random.nextInt(1 << 16) : (3 << 16) + random.nextInt(1 << 16);
+            bitmap.add(value);
+            expected.set(value);
+        }
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(4 << 16);
+            bitmap.remove(value);
+            expected.clear(value);
+        }
+
+        assertThat(values(bitmap)).isEqualTo(expected.stream().boxed().toList());
+        assertThat(bitmap.contains(expected.nextSetBit(0))).isTrue();
+        assertThat(bitmap.contains(expected.nextClearBit(0))).isFalse();
+    }
+
+    @Test
+    void unionMergesContainersOfEitherKind() {
+        CompressedBitmap dense = new CompressedBitmap();
+        for (int value = 0; value < 10_000; value += 2) {
+            dense.add(value);
+        }
+        CompressedBitmap sparse = new CompressedBitmap();
+        sparse.add(1);
+        sparse.add(2);
+        sparse.add(200_000);
+
+        CompressedBitmap union = CompressedBitmap.union(List.of(dense, sparse));
+
+        assertThat(values(union)).hasSize(5_000 + 2);
+        assertThat(union.contains(1)).isTrue();
+        assertThat(union.contains(200_000)).isTrue();
+        assertThat(union.contains(3)).isFalse();
+        assertThat(dense.contains(1)).isFalse();
+    }
+
+    @Test
+    void emptiedChunksAreDropped() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bitmap.add(70_000);
+        bitmap.remove(70_000);
+
+        assertThat(bitmap.isEmpty()).isTrue();
+        assertThat(bitmap.sizeInBytes()).isZero();
+    }
+
+    @Test
+    void denseChunksCostAnEighthOfAByteAValue() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value = 0; value < 1 << 16; value++) {
+            bitmap.add(value);
+        }
+
+        assertThat(bitmap.sizeInBytes()).isLessThan((1 << 16) / 8 + 64);
+    }
+
+    private static List<Integer> values(CompressedBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        return values;
+    }
+}
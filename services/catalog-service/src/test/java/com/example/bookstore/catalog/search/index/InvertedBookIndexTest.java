@@ -0,0 +1,168 @@
+package com.example.bookstore.catalog.search.index;
+
+import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.domain.BookSort;
+import com.example.bookstore.catalog.common.Money;
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
+import com.example.bookstore.catalog.search.domain.SearchRanking;
+import com.example.bookstore.catalog.search.repository.BookSearchDocument;
+import com.example.bookstore.catalog.search.repository.BookSearchRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedBookIndexTest {
+
+    private static final PageRequest RELEVANCE = PageRequest.of(0, 10, Sort.by(Sort.Order.desc(BookSort.SCORE)));
+
+    private final InvertedBookIndex index = new InvertedBookIndex(SearchRanking.defaults());
+
+    @Test
+    void ranksShorterTitlesWithTheTermHigher() {
+        index.put(document("Dune", "Frank Herbert", BookGenre.SCIENCE_FICTION));
+        index.put(document("The Road to Dune and Other Stories", "Frank Herbert", BookGenre.SCIENCE_FICTION));
+        index.put(document("Foundation", "Isaac Asimov", BookGenre.SCIENCE_FICTION));
+
+        Page<BookSearchRow> page = index.search(BookSearchCriteria.of("dune", null, List.of()), RELEVANCE);
+
+        assertThat(page.getContent()).extracting(BookSearchRow::title).containsExactly("Dune", "The Road to Dune and Other Stories");
+        assertThat(page.getContent().getFirst().score()).isGreaterThan(page.getContent().get(1).score());
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void combinesTitleAuthorAndGenreFilters() {
+        index.put(document("Dune", "Frank Herbert", BookGenre.SCIENCE_FICTION));
+        index.put(document("Dune Notes", "Someone Else", BookGenre.SCIENCE_FICTION));
+        index.put(document("Dune Gardens", "Frank Herbert", BookGenre.FANTASY));
+
+        Page<BookSearchRow> page = index.search(
+                BookSearchCriteria.of("dune", "herbert", List.of(BookGenre.SCIENCE_FICTION)), RELEVANCE);
+
+        assertThat(page.getContent()).extracting(BookSearchRow::title).containsExactly("Dune");
+    }
+
+    @Test
+    void genreBitmapsPreFilterMatchesAndRuleOutEmptyGenres() {
+        index.put(document("Dune", "Frank Herbert", BookGenre.SCIENCE_FICTION));
+        index.put(document("Dune Gardens", "Frank Herbert", BookGenre.FANTASY));
+        BookSearchDocument moved = document("Dune Cookbook", "Frank Herbert", BookGenre.CHILDREN);
+        index.put(moved);
+        index.put(new BookSearchDocument(moved.id(), moved.title(), moved.authorNames(), List.of(BookGenre.HISTORY),
+                moved.price(), moved.createdAt(), Instant.now()));
+
+        Page<BookSearchRow> browsed = index.search(
+                BookSearchCriteria.of(null, null, List.of(BookGenre.FANTASY, BookGenre.SCIENCE_FICTION)), PageRequest.of(0, 10));
+        Page<BookSearchRow> matched = index.search(
+                BookSearchCriteria.of("dune", null, List.of(BookGenre.HISTORY, BookGenre.FANTASY)), RELEVANCE);
+
+        assertThat(browsed.getContent()).extracting(BookSearchRow::title).containsExactlyInAnyOrder("Dune", "Dune Gardens");
+        assertThat(matched.getContent()).extracting(BookSearchRow::title).containsExactlyInAnyOrder("Dune Gardens", "Dune Cookbook");
+        assertThat(index.excludesAll(List.of(BookGenre.CHILDREN, BookGenre.ROMANCE))).isTrue();
+        assertThat(index.excludesAll(List.of(BookGenre.CHILDREN, BookGenre.HISTORY))).isFalse();
+        assertThat(index.search(BookSearchCriteria.of("dune", null, List.of(BookGenre.CHILDREN)), RELEVANCE).getTotalElements())
+                .isZero();
+    }
+
+    @Test
+    void changedAndRemovedBooksLeaveNoStalePostings() {
+        BookSearchDocument original = document("Dune", "Frank Herbert", BookGenre.SCIENCE_FICTION);
+        index.put(original);
+        index.put(new BookSearchDocument(original.id(), "Arrakis", original.authorNames(), original.genres(),
+                original.price(), original.createdAt(), Instant.now()));
+        BookSearchDocument removed = document("Dune Messiah", "Frank Herbert", BookGenre.SCIENCE_FICTION);
+        index.put(removed);
+        index.remove(removed.id());
+
+        assertThat(index.search(BookSearchCriteria.of("dune", null, List.of()), RELEVANCE).getContent()).isEmpty();
+        assertThat(index.search(BookSearchCriteria.of("arrakis", null, List.of()), RELEVANCE).getContent())
+                .extracting(BookSearchRow::id).containsExactly(original.id());
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void pagesAndCompactsLargeIndexes() {
+        for (int i = 0; i < 3000; i++) {
+            index.put(document("Catalogue Entry " + i, "Archivist", BookGenre.SCIENCE_FICTION));
+        }
+        BookSearchDocument kept = document("Catalogue Entry kept", "Archivist", BookGenre.SCIENCE_FICTION);
+        index.put(kept);
+        Page<BookSearchRow> all = index.search(BookSearchCriteria.of("catalogue entry", null, List.of()), PageRequest.of(0, 5000));
+        all.getContent().stream().filter(row -> !row.id().equals(kept.id())).limit(2500).forEach(row -> index.remove(row.id()));
+
+        assertThat(index.needsCompaction()).isTrue();
+        InvertedBookIndex compacted = index.compact();
+        Page<BookSearchRow> page = compacted.search(BookSearchCriteria.of("catalogue entry", null, List.of()), PageRequest.of(2, 100));
+
+        assertThat(compacted.size()).isEqualTo(501);
+        assertThat(page.getTotalElements()).isEqualTo(501);
+        assertThat(page.getContent()).hasSize(100);
+        assertThat(compacted.postingBytes()).isLessThan(index.postingBytes());
+    }
+
+    @Test
+    void browsingWithoutQueryListsNewestFirstWithoutScores() {
+        index.put(document("Older", "Author", BookGenre.SCIENCE_FICTION, Instant.parse("2024-01-01T00:00:00Z")));
+        index.put(document("Newer", "Author", BookGenre.SCIENCE_FICTION, Instant.parse("2025-01-01T00:00:00Z")));
+
+        Page<BookSearchRow> page = index.search(BookSearchCriteria.of(null, null, List.of()), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(BookSearchRow::title).containsExactly("Newer", "Older");
+        assertThat(page.getContent()).extracting(BookSearchRow::score).containsOnlyNulls();
+    }
+
+    @Test
+    void quotedPhrasesAreLeftToTheDatabase() {
+        assertThat(InvertedBookIndex.isPlainQuery("\"road to dune\"")).isFalse();
+        assertThat(InvertedBookIndex.isPlainQuery("road to dune")).isTrue();
+    }
+
+    @Test
+    void excludedTermsAreLeftToTheDatabase() {
+        assertThat(InvertedBookIndex.isPlainQuery("dune -messiah")).isFalse();
+        assertThat(InvertedBookIndex.isPlainQuery("-messiah")).isFalse();
+        assertThat(InvertedBookIndex.isPlainQuery("sci-fi classics")).isTrue();
+    }
+
+    @Test
+    void alternativesAreLeftToTheDatabase() {
+        assertThat(InvertedBookIndex.isPlainQuery("dune or foundation")).isFalse();
+        assertThat(InvertedBookIndex.isPlainQuery("dune OR foundation")).isFalse();
+        assertThat(InvertedBookIndex.isPlainQuery("oregon orchards")).isTrue();
+    }
+
+    @Test
+    void postingListsRoundTripLargeGaps() {
+        PostingList postings = new PostingList();
+        int[] docIds = {0, 1, 130, 20_000, 3_000_000};
+        for (int docId : docIds) {
+            postings.add(docId, docId % 7 + 1);
+        }
+
+        PostingList.Cursor cursor = postings.cursor();
+        assertThat(cursor.advance(131)).isTrue();
+        assertThat(cursor.docId()).isEqualTo(20_000);
+        assertThat(cursor.frequency()).isEqualTo(20_000 % 7 + 1);
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.docId()).isEqualTo(3_000_000);
+        assertThat(cursor.next()).isFalse();
+        assertThat(postings.sizeInBytes()).isLessThan(docIds.length * 2 * Integer.BYTES);
+    }
+
+    private static BookSearchDocument document(String title, String author, BookGenre genre) {
+        return document(title, author, genre, Instant.now());
+    }
+
+    private static BookSearchDocument document(String title, String author, BookGenre genre, Instant createdAt) {
+        return new BookSearchDocument(UUID.randomUUID(), title, List.of(author), List.of(genre),
+                new Money(BigDecimal.TEN, Money.DEFAULT_CURRENCY), createdAt, createdAt);
+    }
+}
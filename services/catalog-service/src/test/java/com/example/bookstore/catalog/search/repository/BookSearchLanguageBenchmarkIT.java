@@ -0,0 +1,155 @@
+package com.example.bookstore.catalog.search.repository;
+
+import com.example.bookstore.catalog.AbstractIntegrationTest;
+import com.example.bookstore.catalog.author.domain.AuthorRequest;
+import com.example.bookstore.catalog.author.service.AuthorService;
+import com.example.bookstore.catalog.book.domain.BookLanguage;
+import com.example.bookstore.catalog.book.domain.BookRequest;
+import com.example.bookstore.catalog.book.service.BookService;
+import com.example.bookstore.catalog.common.Money;
+import com.example.bookstore.catalog.common.jdbc.QueryExecution;
+import com.example.bookstore.catalog.common.jdbc.QueryExecutionListener;
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(BookSearchLanguageBenchmarkIT.RecordingConfiguration.class)
+class BookSearchLanguageBenchmarkIT extends AbstractIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BookSearchLanguageBenchmarkIT.class);
+    private static final int BOOKS_PER_LANGUAGE = 100;
+    private static final int RUNS = 20;
+
+    @Autowired
+    private BookSearchRepository bookSearchRepository;
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private AuthorService authorService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private RecordingListener recorder;
+
+    private String marker;
+
+    @BeforeEach
+    void setUp() {
+        marker = "m" + UUID.randomUUID().toString().replace("-", "");
+        UUID author = authorService.create(null, new AuthorRequest("Language Author " + marker)).id();
+        for (int i = 0; i < BOOKS_PER_LANGUAGE; i++) {
+            create("The Running Rivers " + marker + " volume " + i, author, BookLanguage.ENGLISH);
+            create("Die Häuser am See " + marker + " Band " + i, author, BookLanguage.GERMAN);
+            create("Catalogue Entry " + marker + " number " + i, author, null);
+        }
+        create("Rivers of Gold " + marker, author, BookLanguage.ENGLISH);
+        create("Das Haus " + marker, author, BookLanguage.GERMAN);
+        jdbcTemplate.execute("ANALYZE book_read_model");
+    }
+
+    @Test
+    void titlesAreStemmedWithTheirOwnLanguage() {
+        assertThat(titles("river " + marker)).hasSize(BOOKS_PER_LANGUAGE + 1)
+                .allSatisfy(title -> assertThat(title).contains("Rivers"));
+        assertThat(titles("haus " + marker)).hasSize(BOOKS_PER_LANGUAGE + 1)
+                .allSatisfy(title -> assertThat(title).containsAnyOf("Häuser", "Haus"));
+        assertThat(titles("catalogue entry " + marker)).hasSize(BOOKS_PER_LANGUAGE);
+    }
+
+    @Test
+    void multiLanguageSearchStaysIndexBacked() {
+        BookSearchCriteria criteria = BookSearchCriteria.of("gold rivers " + marker, null, List.of());
+        recorder.executions.clear();
+        bookSearchRepository.search(criteria, PageRequest.of(0, 10));
+        QueryExecution search = recorder.executions.stream()
+                .filter(execution -> execution.sql().contains("title_tsv @@") && execution.sql().contains("score"))
+                .findFirst()
+                .orElseThrow();
+
+        String plan = explainWithoutSeqScan(search);
+        log.info("language-search-benchmark: plan=\n{}", plan);
+        assertThat(plan).contains("idx_book_read_model_title_tsv").doesNotContain("to_tsvector");
+
+        long stored = averageMicros(() -> bookSearchRepository.search(criteria, PageRequest.of(0, 10)));
+        long perRow = averageMicros(() -> jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM book_read_model b
+                 WHERE to_tsvector(coalesce(lower(b.language), 'simple')::regconfig, b.title)
+                       @@ CASE b.language WHEN 'ENGLISH' THEN websearch_to_tsquery('english', ?)
+                                          WHEN 'GERMAN' THEN websearch_to_tsquery('german', ?)
+                                          ELSE websearch_to_tsquery('simple', ?) END
+                """, Long.class, criteria.titleQuery(), criteria.titleQuery(), criteria.titleQuery()));
+        log.info("language-search-benchmark: {} books, stored vectors {} us/search, per-row to_tsvector {} us/search",
+                BOOKS_PER_LANGUAGE * 3 + 2, stored, perRow);
+    }
+
+    private List<String> titles(String query) {
+        Page<BookSearchRow> page = bookSearchRepository.search(BookSearchCriteria.of(query, null, List.of()),
+                PageRequest.of(0, BOOKS_PER_LANGUAGE * 3));
+        return page.getContent().stream().map(BookSearchRow::title).toList();
+    }
+
+    private String explainWithoutSeqScan(QueryExecution execution) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return String.join(System.lineSeparator(),
+                    jdbcTemplate.queryForList("EXPLAIN " + execution.sql(), String.class, execution.parameters().toArray()));
+        });
+    }
+
+    private long averageMicros(Runnable search) {
+        search.run();
+        long started = System.nanoTime();
+        for (int run = 0; run < RUNS; run++) {
+            search.run();
+        }
+        return (System.nanoTime() - started) / RUNS / 1_000;
+    }
+
+    private void create(String title, UUID author, BookLanguage language) {
+        bookService.create(null, new BookRequest(title, List.of(author), List.of(),
+                new Money(BigDecimal.TEN, Money.DEFAULT_CURRENCY), language));
+    }
+
+    @TestConfiguration
+    static class RecordingConfiguration {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    static class RecordingListener implements QueryExecutionListener {
+
+        private final List<QueryExecution> executions = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void afterExecution(QueryExecution execution) {
+            executions.add(execution);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.example.bookstore.catalog.book.domain.BookRequest;
 import com.example.bookstore.catalog.book.domain.BookSort;
 import com.example.bookstore.catalog.book.service.BookService;
 import com.example.bookstore.catalog.common.Money;
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -55,9 +56,7 @@ class BookSearchRepositoryIT extends AbstractIntegrationTest {
         ));
 
         Page<BookSearchRow> page = bookSearchRepository.search(
-                "Repository Integration",
-                null,
-                List.of(BookGenre.NON_FICTION),
+                BookSearchCriteria.of("Repository Integration", null, List.of(BookGenre.NON_FICTION)),
                 PageRequest.of(0, 5, Sort.by(Sort.Order.desc(BookSort.PRICE)))
         );
 
@@ -91,9 +90,7 @@ class BookSearchRepositoryIT extends AbstractIntegrationTest {
         ));
 
         Page<BookSearchRow> page = bookSearchRepository.search(
-                "Repository Sort",
-                null,
-                List.of(BookGenre.FANTASY),
+                BookSearchCriteria.of("Repository Sort", null, List.of(BookGenre.FANTASY)),
                 PageRequest.of(0, 5, Sort.by(Sort.Order.desc(BookSort.UPDATED_AT)))
         );
 
@@ -14,7 +14,9 @@ import com.example.bookstore.catalog.book.domain.BookGenre;
 import com.example.bookstore.catalog.book.domain.BookRequest;
 import com.example.bookstore.catalog.book.service.BookService;
 import com.example.bookstore.catalog.common.Money;
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
 import com.example.bookstore.catalog.search.domain.BookSearchResult;
+import com.example.bookstore.catalog.search.domain.SearchStage;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -50,7 +52,7 @@ class BookSearchServiceIT extends AbstractIntegrationTest {
         assertThat(saved.id()).isNotNull();
         assertThat(saved.metadata().version()).isOne();
 
-        Page<BookSearchResult> result = bookSearchService.search("Pragmatic", null, null, PageRequest.of(0, 10));
+        Page<BookSearchResult> result = bookSearchService.search(BookSearchCriteria.of("Pragmatic", null, null), PageRequest.of(0, 10));
         assertThat(result.getTotalElements()).isGreaterThanOrEqualTo(1);
         assertThat(result.getContent())
                 .anySatisfy(item -> {
@@ -81,9 +83,7 @@ class BookSearchServiceIT extends AbstractIntegrationTest {
         bookService.create(null, partialMatch);
 
         Page<BookSearchResult> result = bookSearchService.search(
-                "Domain & Design",
-                null,
-                null,
+                BookSearchCriteria.of("Domain & Design", null, null),
                 PageRequest.of(0, 5)
         );
 
@@ -101,4 +101,23 @@ class BookSearchServiceIT extends AbstractIntegrationTest {
             assertThat(firstScore).isGreaterThan(secondScore);
         }
     }
+
+    @Test
+    void misspelledTitleFallsBackToFuzzyMatches() {
+        Author author = authorService.create(UUID.randomUUID(), new AuthorRequest("Fuzzy Test Author"));
+        Book saved = bookService.create(null, new BookRequest(
+                "Foundation Trilogy",
+                List.of(author.id()),
+                List.of(BookGenre.SCIENCE_FICTION),
+                new Money(BigDecimal.valueOf(25.00), Money.DEFAULT_CURRENCY)
+        ));
+
+        Page<BookSearchResult> result = bookSearchService.search(BookSearchCriteria.of("Fondation Trilogy", null, null),
+                PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).anySatisfy(item -> {
+            assertThat(item.id()).isEqualTo(saved.id());
+            assertThat(item.stage()).isEqualTo(SearchStage.FUZZY);
+        });
+    }
 }
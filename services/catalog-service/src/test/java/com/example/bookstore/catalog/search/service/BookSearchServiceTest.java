@@ -1,21 +1,39 @@
 package com.example.bookstore.catalog.search.service;
 
 import com.example.bookstore.catalog.book.domain.BookGenre;
+import com.example.bookstore.catalog.book.domain.BookSort;
+import com.example.bookstore.catalog.common.CappedPage;
+import com.example.bookstore.catalog.common.Money;
+import com.example.bookstore.catalog.search.domain.BookSearchCriteria;
 import com.example.bookstore.catalog.search.domain.BookSearchResult;
+import com.example.bookstore.catalog.search.domain.FuzzyFallback;
+import com.example.bookstore.catalog.search.domain.SearchRanking;
+import com.example.bookstore.catalog.search.domain.SearchStage;
 import com.example.bookstore.catalog.search.repository.BookSearchRepository;
 import com.example.bookstore.catalog.search.repository.BookSearchRow;
+import com.example.bookstore.catalog.search.repository.SearchCandidate;
+import com.example.bookstore.catalog.search.repository.SearchTotal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -23,25 +41,185 @@ class BookSearchServiceTest {
 
     @Mock
     private BookSearchRepository bookSearchRepository;
+    @Mock
+    private BookSearchBackend searchBackend;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
-    @InjectMocks
     private BookSearchService bookSearchService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        SearchRanking ranking = new SearchRanking(1.0, 0.4, Set.of(), 1.0, 0.5, 3, 1000);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("searchBackend", searchBackend);
+        bookSearchService = new BookSearchService(bookSearchRepository, beanFactory.getBeanProvider(BookSearchBackend.class),
+                ranking, new BoostingSearchReranker(ranking), new FuzzyFallback(2, 0.4, Duration.ofMillis(200)), transactionManager);
     }
 
     @Test
     void searchNormalizesEmptyFilters() {
         List<BookGenre> genres = List.of();
-        BookSearchRow row = new BookSearchRow(java.util.UUID.randomUUID(), "Test", List.of("Author"), 0.5);
+        BookSearchRow row = new BookSearchRow(java.util.UUID.randomUUID(), "Test", List.of("Author"), 0.5,
+                new Money(BigDecimal.TEN, Money.DEFAULT_CURRENCY));
         Page<BookSearchRow> page = new PageImpl<>(List.of(row));
-        when(bookSearchRepository.search(null, null, genres, PageRequest.of(0, 10))).thenReturn(page);
+        when(bookSearchRepository.search(BookSearchCriteria.of(null, null, genres), PageRequest.of(0, 10))).thenReturn(page);
 
-        Page<BookSearchResult> result = bookSearchService.search("  ", " ", genres, PageRequest.of(0, 10));
+        Page<BookSearchResult> result = bookSearchService.search(BookSearchCriteria.of("  ", " ", genres), PageRequest.of(0, 10));
 
         assertThat(result.getTotalElements()).isEqualTo(1);
-        verify(bookSearchRepository).search(null, null, genres, PageRequest.of(0, 10));
+        verify(bookSearchRepository).search(BookSearchCriteria.of(null, null, genres), PageRequest.of(0, 10));
+    }
+
+    @Test
+    void relevancePagesWithinTopKAreReranked() {
+        BookSearchCriteria criteria = BookSearchCriteria.of("dune", null, List.of());
+        SearchCandidate partial = candidate("Dune Messiah", 0.6, false, true);
+        SearchCandidate exact = candidate("Dune", 0.5, true, true);
+        Sort relevance = Sort.by(Sort.Order.desc(BookSort.SCORE));
+        when(bookSearchRepository.findTopCandidates(criteria, relevance, 3)).thenReturn(List.of(partial, exact));
+
+        Page<BookSearchResult> result = bookSearchService.search(criteria, PageRequest.of(0, 2, relevance));
+
+        assertThat(result.getContent()).extracting(BookSearchResult::title).containsExactly("Dune", "Dune Messiah");
+        assertThat(result.getContent().getFirst().score()).isEqualTo(0.5 + 1.0 + 0.5);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        verify(bookSearchRepository, never()).search(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any());
+    }
+
+    @Test
+    void fullCandidateSetsReportACappedTotal() {
+        BookSearchCriteria criteria = BookSearchCriteria.of("dune", null, List.of());
+        Sort relevance = Sort.by(Sort.Order.desc(BookSort.SCORE));
+        List<SearchCandidate> candidates = List.of(candidate("Dune", 0.5, true, true), candidate("Dune Messiah", 0.6, false, true),
+                candidate("Children of Dune", 0.4, false, false));
+        when(bookSearchRepository.findTopCandidates(criteria, relevance, 3)).thenReturn(candidates);
+        when(bookSearchRepository.count(criteria)).thenReturn(new SearchTotal(1000, true));
+
+        Page<BookSearchResult> result = bookSearchService.search(criteria, PageRequest.of(0, 2, relevance));
+
+        assertThat(result.getTotalElements()).isEqualTo(1000);
+        assertThat(CappedPage.isCapped(result)).isTrue();
+    }
+
+    @Test
+    void pagesCrossingTopKContinueWithTheDatabaseOrderAfterIt() {
+        BookSearchCriteria criteria = BookSearchCriteria.of("dune", null, List.of());
+        Sort relevance = Sort.by(Sort.Order.desc(BookSort.SCORE));
+        List<SearchCandidate> candidates = List.of(candidate("Dune Messiah", 0.6, false, true), candidate("Dune", 0.5, true, true),
+                candidate("Children of Dune", 0.4, false, false));
+        PageRequest crossing = PageRequest.of(1, 2, relevance);
+        BookSearchRow fourth = row("Heretics of Dune");
+        when(bookSearchRepository.findTopCandidates(criteria, relevance, 3)).thenReturn(candidates);
+        when(bookSearchRepository.search(criteria, crossing))
+                .thenReturn(new PageImpl<>(List.of(candidates.get(1).row(), fourth), crossing, 6));
+
+        Page<BookSearchResult> result = bookSearchService.search(criteria, crossing);
+
+        assertThat(result.getContent()).extracting(BookSearchResult::title).containsExactly("Children of Dune", "Heretics of Dune");
+        assertThat(result.getTotalElements()).isEqualTo(6);
+    }
+
+    @Test
+    void relevancePagesBeyondTopKUseDatabaseRanking() {
+        BookSearchCriteria criteria = BookSearchCriteria.of("dune", null, List.of());
+        PageRequest deepPage = PageRequest.of(2, 2, Sort.by(Sort.Order.desc(BookSort.SCORE)));
+        when(bookSearchRepository.search(criteria, deepPage)).thenReturn(Page.empty(deepPage));
+
+        bookSearchService.search(criteria, deepPage);
+
+        verify(bookSearchRepository).search(criteria, deepPage);
+        verify(bookSearchRepository, never()).findTopCandidates(
+                org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    void supportedSearchesAreServedByTheConfiguredBackend() {
+        BookSearchCriteria criteria = BookSearchCriteria.of("dune", null, List.of());
+        PageRequest relevance = PageRequest.of(0, 2, Sort.by(Sort.Order.desc(BookSort.SCORE)));
+        when(searchBackend.supports(criteria, relevance)).thenReturn(true);
+        when(searchBackend.search(criteria, relevance))
+                .thenReturn(new PageImpl<>(List.of(row("Dune"), row("Dune Messiah")), relevance, 12));
+
+        Page<BookSearchResult> result = bookSearchService.search(criteria, relevance);
+
+        assertThat(result.getContent()).extracting(BookSearchResult::title).containsExactly("Dune", "Dune Messiah");
+        assertThat(result.getTotalElements()).isEqualTo(12);
+        verify(bookSearchRepository, never()).findTopCandidates(
+                org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.anyInt());
+        verify(bookSearchRepository, never()).search(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any());
+    }
+
+    @Test
+    void emptyBackendResultsSkipTheDatabase() {
+        BookSearchCriteria criteria = BookSearchCriteria.of("dune", null, List.of(BookGenre.ROMANCE));
+        PageRequest firstPage = PageRequest.of(0, 10);
+        when(searchBackend.supports(criteria, firstPage)).thenReturn(true);
+        when(searchBackend.search(criteria, firstPage)).thenReturn(new PageImpl<>(List.of(), firstPage, 0));
+
+        Page<BookSearchResult> result = bookSearchService.search(criteria, firstPage);
+
+        assertThat(result.getContent()).isEmpty();
+        verify(bookSearchRepository, never()).search(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any());
+        verify(bookSearchRepository, never()).findFuzzyMatches(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(),
+                org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    void sparseFullTextResultsAreToppedUpWithFuzzyMatches() {
+        BookSearchCriteria criteria = BookSearchCriteria.of("foundaton", null, List.of());
+        BookSearchRow exact = row("Foundaton Notes");
+        BookSearchRow nearMiss = row("Foundation");
+        PageRequest firstPage = PageRequest.of(0, 10);
+        when(bookSearchRepository.search(criteria, firstPage)).thenReturn(new PageImpl<>(List.of(exact), firstPage, 1));
+        when(bookSearchRepository.findFuzzyMatches(org.mockito.ArgumentMatchers.eq(criteria), org.mockito.ArgumentMatchers.any(),
+                org.mockito.ArgumentMatchers.eq(List.of(exact.id())), org.mockito.ArgumentMatchers.eq(9))).thenReturn(List.of(nearMiss));
+
+        Page<BookSearchResult> result = bookSearchService.search(criteria, firstPage);
+
+        assertThat(result.getContent()).extracting(BookSearchResult::stage).containsExactly(SearchStage.FULL_TEXT, SearchStage.FUZZY);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void fuzzyFallbackOverBudgetKeepsFullTextResults() {
+        BookSearchCriteria criteria = BookSearchCriteria.of("foundaton", null, List.of());
+        PageRequest firstPage = PageRequest.of(0, 10);
+        when(bookSearchRepository.search(criteria, firstPage)).thenReturn(new PageImpl<>(List.of(row("Foundaton Notes")), firstPage, 1));
+        when(bookSearchRepository.findFuzzyMatches(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(),
+                org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.anyInt()))
+                .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+        Page<BookSearchResult> result = bookSearchService.search(criteria, firstPage);
+
+        assertThat(result.getContent()).extracting(BookSearchResult::title).containsExactly("Foundaton Notes");
+    }
+
+    @Test
+    void fuzzyFallbackWithoutAConnectionKeepsFullTextResults() {
+        BookSearchCriteria criteria = BookSearchCriteria.of("foundaton", null, List.of());
+        PageRequest firstPage = PageRequest.of(0, 10);
+        when(bookSearchRepository.search(criteria, firstPage)).thenReturn(new PageImpl<>(List.of(row("Foundaton Notes")), firstPage, 1));
+        when(transactionManager.getTransaction(org.mockito.ArgumentMatchers.any()))
+                .thenReturn(null)
+                .thenThrow(new CannotCreateTransactionException("Connection is not available, request timed out"));
+
+        Page<BookSearchResult> result = bookSearchService.search(criteria, firstPage);
+
+        assertThat(result.getContent()).extracting(BookSearchResult::title).containsExactly("Foundaton Notes");
+        verify(bookSearchRepository, never()).findFuzzyMatches(org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any(),
+                org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.anyInt());
+    }
+
+    private static BookSearchRow row(String title) {
+        return new BookSearchRow(UUID.randomUUID(), title, List.of("Isaac Asimov"), null,
+                new Money(BigDecimal.TEN, Money.DEFAULT_CURRENCY));
+    }
+
+    private static SearchCandidate candidate(String title, double baseScore, boolean exactTitle, boolean titlePhrase) {
+        BookSearchRow row = new BookSearchRow(UUID.randomUUID(), title, List.of("Frank Herbert"), null,
+                new Money(BigDecimal.TEN, Money.DEFAULT_CURRENCY));
+        return new SearchCandidate(row, baseScore, exactTitle, titlePhrase, false);
     }
 }